@@ -0,0 +1,40 @@
+package com.wishlist.wishlist.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Runs the selected benchmarks once per thread count with the GC profiler attached, writing one JSON
+ * report per run to {@code target/jmh} so results can be compared across changes.
+ */
+public final class WishlistBenchmarkRunner {
+
+    private WishlistBenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, IOException {
+        String include = args.length > 0 ? args[0] : WishlistUseCaseBenchmark.class.getSimpleName();
+        String threadCounts = args.length > 1 ? args[1] : "1,4,16";
+
+        Path reports = Files.createDirectories(Path.of("target", "jmh"));
+        for (String threadCount : threadCounts.split(",")) {
+            int threads = Integer.parseInt(threadCount.trim());
+            Options options = new OptionsBuilder()
+                    .include(include)
+                    .threads(threads)
+                    .addProfiler(GCProfiler.class)
+                    .resultFormat(ResultFormatType.JSON)
+                    .result(reports.resolve(include.replaceAll("\\W", "_") + "-threads-" + threads + ".json").toString())
+                    .build();
+            new Runner(options).run();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.wishlist.wishlist.benchmark;
+
+import com.wishlist.wishlist.application.cache.SingleFlightLoader;
+import com.wishlist.wishlist.application.cache.WishlistCache;
+import com.wishlist.wishlist.application.coalescing.WishlistWriteCoalescer;
+import com.wishlist.wishlist.application.dto.AddItemInput;
+import com.wishlist.wishlist.application.dto.AddItemOutput;
+import com.wishlist.wishlist.application.dto.ContainsItemInput;
+import com.wishlist.wishlist.application.dto.ContainsItemOutput;
+import com.wishlist.wishlist.application.dto.GetWishlistItemsInput;
+import com.wishlist.wishlist.application.dto.GetWishlistItemsOutput;
+import com.wishlist.wishlist.application.dto.RemoveItemInput;
+import com.wishlist.wishlist.application.filter.WishlistOwnerFilter;
+import com.wishlist.wishlist.application.retry.WriteRetry;
+import com.wishlist.wishlist.application.service.WishlistService;
+import com.wishlist.wishlist.application.usecase.AddItemUseCaseImpl;
+import com.wishlist.wishlist.application.usecase.GetWishlistItemsUseCaseImpl;
+import com.wishlist.wishlist.application.usecase.ItemExistsInWishlistUseCaseImpl;
+import com.wishlist.wishlist.application.usecase.RemoveItemUseCaseImpl;
+import com.wishlist.wishlist.domain.model.WishlistItem;
+import com.wishlist.wishlist.domain.repository.InMemoryWishlistRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WishlistUseCaseBenchmark {
+
+    private static final int USERS = 10_000;
+
+    // Stops one short of the limit so addThenRemove always has room for its item.
+    @Param({"1", "10", "19"})
+    public int wishlistSize;
+
+    @Param({"true", "false"})
+    public boolean cacheEnabled;
+
+    private AddItemUseCaseImpl addItemUseCase;
+    private RemoveItemUseCaseImpl removeItemUseCase;
+    private GetWishlistItemsUseCaseImpl getWishlistItemsUseCase;
+    private ItemExistsInWishlistUseCaseImpl itemExistsInWishlistUseCase;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        InMemoryWishlistRepository repository = new InMemoryWishlistRepository(64);
+        Map<String, List<WishlistItem>> itemsByUser = new HashMap<>();
+        for (int u = 0; u < USERS; u++) {
+            List<WishlistItem> items = new ArrayList<>();
+            for (int i = 0; i < wishlistSize; i++) {
+                items.add(WishlistItem.builder().itemId("item" + i).name("Produto numero " + i).build());
+            }
+            itemsByUser.put("user" + u, items);
+        }
+        repository.pushItems(itemsByUser, AddItemUseCaseImpl.MAX_ITEMS);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        WishlistService service = new WishlistService(repository,
+                new WishlistCache(meterRegistry, cacheEnabled, 200_000, Duration.ofMinutes(10)),
+                new SingleFlightLoader(meterRegistry, true));
+        WishlistOwnerFilter ownerFilter = new WishlistOwnerFilter(repository, false, 0, 0.01);
+
+        WriteRetry writeRetry = new WriteRetry(meterRegistry, 3, Duration.ofMillis(5), Duration.ofMillis(50));
+        WishlistWriteCoalescer writeCoalescer = new WishlistWriteCoalescer(repository, meterRegistry, false, Duration.ZERO, 1);
+
+        addItemUseCase = new AddItemUseCaseImpl(repository, service, ownerFilter, writeRetry, writeCoalescer);
+        removeItemUseCase = new RemoveItemUseCaseImpl(repository, service, writeRetry, writeCoalescer);
+        getWishlistItemsUseCase = new GetWishlistItemsUseCaseImpl(service, ownerFilter);
+        itemExistsInWishlistUseCase = new ItemExistsInWishlistUseCaseImpl(repository, service, ownerFilter);
+    }
+
+    @Benchmark
+    public GetWishlistItemsOutput getItems() {
+        return getWishlistItemsUseCase.execute(new GetWishlistItemsInput(randomUser()));
+    }
+
+    @Benchmark
+    public ContainsItemOutput contains() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return itemExistsInWishlistUseCase.execute(ContainsItemInput.builder()
+                .userId(randomUser())
+                .itemId("item" + random.nextInt(wishlistSize * 2))
+                .build());
+    }
+
+    // Adding an item the wishlist already holds leaves it untouched, so the list size stays at the parameter.
+    @Benchmark
+    public AddItemOutput addExisting() {
+        return addItemUseCase.execute(addInput(randomUser(), "item" + ThreadLocalRandom.current().nextInt(wishlistSize)));
+    }
+
+    // Each thread mutates only its own slice of users, so the add never races another thread's add for the
+    // same wishlist and the remove that follows restores the parameterized size.
+    @Benchmark
+    public void addThenRemove(ThreadParams threadParams, Blackhole blackhole) {
+        int threads = threadParams.getThreadCount();
+        int user = threadParams.getThreadIndex() + threads * ThreadLocalRandom.current().nextInt(USERS / threads);
+        String userId = "user" + user;
+        blackhole.consume(addItemUseCase.execute(addInput(userId, "new-item")));
+        removeItemUseCase.execute(RemoveItemInput.builder().userId(userId).itemId("new-item").build());
+    }
+
+    private static String randomUser() {
+        return "user" + ThreadLocalRandom.current().nextInt(USERS);
+    }
+
+    private static AddItemInput addInput(String userId, String itemId) {
+        AddItemInput input = new AddItemInput();
+        input.setUserId(userId);
+        input.setItemId(itemId);
+        input.setName("Produto adicionado");
+        return input;
+    }
+}
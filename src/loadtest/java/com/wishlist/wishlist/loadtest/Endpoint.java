@@ -0,0 +1,64 @@
+package com.wishlist.wishlist.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+
+/**
+ * The four single-item {@code WishlistController} endpoints, each building the request the API expects.
+ */
+enum Endpoint {
+
+    ADD("add") {
+        @Override
+        HttpRequest.Builder request(URI baseUrl, String userId, String itemId) {
+            String body = "{\"userId\":\"" + userId + "\",\"itemId\":\"" + itemId + "\",\"name\":\"Item " + itemId + "\"}";
+            return HttpRequest.newBuilder(baseUrl.resolve("/wishlist/item"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body));
+        }
+    },
+    GET("get") {
+        @Override
+        HttpRequest.Builder request(URI baseUrl, String userId, String itemId) {
+            return HttpRequest.newBuilder(baseUrl.resolve("/wishlist/" + userId + "/items")).GET();
+        }
+    },
+    CONTAINS("contains") {
+        @Override
+        HttpRequest.Builder request(URI baseUrl, String userId, String itemId) {
+            return HttpRequest.newBuilder(baseUrl.resolve("/wishlist/" + userId + "/items/" + itemId)).GET();
+        }
+    },
+    REMOVE("remove") {
+        @Override
+        HttpRequest.Builder request(URI baseUrl, String userId, String itemId) {
+            return HttpRequest.newBuilder(baseUrl.resolve("/wishlist/" + userId + "/items/" + itemId)).DELETE();
+        }
+    };
+
+    private final String key;
+
+    Endpoint(String key) {
+        this.key = key;
+    }
+
+    String key() {
+        return key;
+    }
+
+    abstract HttpRequest.Builder request(URI baseUrl, String userId, String itemId);
+
+    HttpRequest build(URI baseUrl, String userId, String itemId, Duration timeout) {
+        return request(baseUrl, userId, itemId).timeout(timeout).build();
+    }
+
+    static Endpoint fromKey(String key) {
+        for (Endpoint endpoint : values()) {
+            if (endpoint.key.equals(key)) {
+                return endpoint;
+            }
+        }
+        throw new IllegalArgumentException("Unknown endpoint: " + key);
+    }
+}
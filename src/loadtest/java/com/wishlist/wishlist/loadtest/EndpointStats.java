@@ -0,0 +1,69 @@
+package com.wishlist.wishlist.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latencies and status counts of one endpoint, in microseconds. {@code latency} is measured from the time the
+ * schedule intended to send the request, so a stalled server is charged for every request it delayed;
+ * {@code serviceTime} is measured from the actual send and shows what a closed-loop client alone would report.
+ */
+final class EndpointStats {
+
+    private final Histogram latency = new Histogram(3);
+    private final Histogram serviceTime = new Histogram(3);
+    private long success;
+    private long clientErrors;
+    private long serverErrors;
+    private long failures;
+
+    void record(long intendedStartNanos, long actualStartNanos, long endNanos, int status) {
+        latency.recordValue((endNanos - intendedStartNanos) / 1_000);
+        serviceTime.recordValue((endNanos - actualStartNanos) / 1_000);
+        if (status >= 500) {
+            serverErrors++;
+        } else if (status >= 400) {
+            clientErrors++;
+        } else {
+            success++;
+        }
+    }
+
+    void recordFailure(long intendedStartNanos, long endNanos) {
+        latency.recordValue((endNanos - intendedStartNanos) / 1_000);
+        failures++;
+    }
+
+    void add(EndpointStats other) {
+        latency.add(other.latency);
+        serviceTime.add(other.serviceTime);
+        success += other.success;
+        clientErrors += other.clientErrors;
+        serverErrors += other.serverErrors;
+        failures += other.failures;
+    }
+
+    Histogram latency() {
+        return latency;
+    }
+
+    Histogram serviceTime() {
+        return serviceTime;
+    }
+
+    long requests() {
+        return success + clientErrors + serverErrors + failures;
+    }
+
+    long success() {
+        return success;
+    }
+
+    // 4xx responses are expected in the mix (limit exceeded, removing or reading what is not there) and are kept apart.
+    long clientErrors() {
+        return clientErrors;
+    }
+
+    long errors() {
+        return serverErrors + failures;
+    }
+}
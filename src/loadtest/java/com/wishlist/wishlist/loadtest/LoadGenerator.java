@@ -0,0 +1,117 @@
+package com.wishlist.wishlist.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives the API with {@code connections} closed-loop workers, each following its own constant-rate schedule.
+ * A worker that falls behind its schedule sends the next request immediately and the time it was late is
+ * included in that request's latency, which corrects for coordinated omission the way wrk2 does.
+ */
+final class LoadGenerator {
+
+    private final LoadTestConfig config;
+    private final HttpClient httpClient;
+
+    LoadGenerator(LoadTestConfig config) {
+        this.config = config;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(config.timeout())
+                .build();
+    }
+
+    Map<Endpoint, EndpointStats> run() throws InterruptedException {
+        long intervalNanos = config.workerIntervalNanos();
+        long startNanos = System.nanoTime();
+        long measureFromNanos = startNanos + config.warmup().toNanos();
+        long endNanos = measureFromNanos + config.duration().toNanos();
+
+        List<Worker> workers = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < config.connections(); i++) {
+            // Offset each worker inside the interval so the combined schedule is evenly spaced, not bursty.
+            Worker worker = new Worker(new SplittableRandom(config.seed() + i),
+                    startNanos + intervalNanos * i / config.connections(), intervalNanos, measureFromNanos, endNanos);
+            workers.add(worker);
+            threads.add(Thread.ofPlatform().name("loadtest-" + i).start(worker));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Map<Endpoint, EndpointStats> merged = new EnumMap<>(Endpoint.class);
+        for (Worker worker : workers) {
+            worker.stats.forEach((endpoint, stats) ->
+                    merged.computeIfAbsent(endpoint, e -> new EndpointStats()).add(stats));
+        }
+        return merged;
+    }
+
+    private final class Worker implements Runnable {
+
+        private final SplittableRandom random;
+        private final UserIdDistribution users = config.userIdDistribution();
+        private final Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+        private final long firstStartNanos;
+        private final long intervalNanos;
+        private final long measureFromNanos;
+        private final long endNanos;
+
+        private Worker(SplittableRandom random, long firstStartNanos, long intervalNanos,
+                       long measureFromNanos, long endNanos) {
+            this.random = random;
+            this.firstStartNanos = firstStartNanos;
+            this.intervalNanos = intervalNanos;
+            this.measureFromNanos = measureFromNanos;
+            this.endNanos = endNanos;
+        }
+
+        @Override
+        public void run() {
+            for (long sent = 0; ; sent++) {
+                long intendedStart = firstStartNanos + sent * intervalNanos;
+                if (intendedStart >= endNanos) {
+                    return;
+                }
+                long wait;
+                while ((wait = intendedStart - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+
+                Endpoint endpoint = config.mix().next(random);
+                String userId = users.nextUserId(random);
+                String itemId = "item-" + random.nextInt(config.itemIds());
+                boolean measured = intendedStart >= measureFromNanos;
+
+                long actualStart = System.nanoTime();
+                try {
+                    HttpResponse<Void> response = httpClient.send(
+                            endpoint.build(config.baseUrl(), userId, itemId, config.timeout()),
+                            HttpResponse.BodyHandlers.discarding());
+                    if (measured) {
+                        stats(endpoint).record(intendedStart, actualStart, System.nanoTime(), response.statusCode());
+                    }
+                } catch (IOException ex) {
+                    if (measured) {
+                        stats(endpoint).recordFailure(intendedStart, System.nanoTime());
+                    }
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+
+        private EndpointStats stats(Endpoint endpoint) {
+            return stats.computeIfAbsent(endpoint, e -> new EndpointStats());
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.wishlist.wishlist.loadtest;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Load test settings, given to {@link LoadTestRunner} as {@code key=value} arguments. {@code rate} is the total
+ * number of requests per second spread over {@code connections} closed-loop workers.
+ */
+record LoadTestConfig(
+        URI baseUrl,
+        double rate,
+        Duration duration,
+        Duration warmup,
+        int connections,
+        int users,
+        String distribution,
+        double zipfExponent,
+        int itemIds,
+        RequestMix mix,
+        Duration timeout,
+        long seed,
+        String label
+) {
+
+    static LoadTestConfig parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Expected key=value but got: " + arg);
+            }
+            values.put(arg.substring(0, separator).trim(), arg.substring(separator + 1).trim());
+        }
+
+        LoadTestConfig config = new LoadTestConfig(
+                URI.create(values.getOrDefault("base-url", "http://localhost:8080")),
+                Double.parseDouble(values.getOrDefault("rate", "200")),
+                Duration.parse("PT" + values.getOrDefault("duration", "60s")),
+                Duration.parse("PT" + values.getOrDefault("warmup", "10s")),
+                Integer.parseInt(values.getOrDefault("connections", "16")),
+                Integer.parseInt(values.getOrDefault("users", "10000")),
+                values.getOrDefault("distribution", "zipf"),
+                Double.parseDouble(values.getOrDefault("zipf-exponent", "1.0")),
+                Integer.parseInt(values.getOrDefault("item-ids", "20")),
+                RequestMix.parse(values.getOrDefault("mix", "get:60,contains:25,add:10,remove:5")),
+                Duration.parse("PT" + values.getOrDefault("timeout", "10s")),
+                Long.parseLong(values.getOrDefault("seed", "42")),
+                values.getOrDefault("label", "run"));
+
+        if (config.rate <= 0 || config.connections <= 0 || config.users <= 0 || config.itemIds <= 0) {
+            throw new IllegalArgumentException("rate, connections, users and item-ids must be positive");
+        }
+        return config;
+    }
+
+    UserIdDistribution userIdDistribution() {
+        return switch (distribution) {
+            case "uniform" -> UserIdDistribution.uniform(users);
+            case "zipf" -> UserIdDistribution.zipf(users, zipfExponent);
+            default -> throw new IllegalArgumentException("Unknown distribution: " + distribution);
+        };
+    }
+
+    // Closed-loop workers each send at rate / connections, so one worker's schedule advances by this much per request.
+    long workerIntervalNanos() {
+        return Math.round(1_000_000_000d * connections / rate);
+    }
+}
@@ -0,0 +1,88 @@
+package com.wishlist.wishlist.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Prints a per-endpoint summary and writes it under {@code target/loadtest}: one {@code .hgrm} percentile
+ * distribution per endpoint (loadable in the HdrHistogram plotter) and one row per endpoint appended to
+ * {@code summary.csv}, so runs with different labels, rates or builds can be compared side by side.
+ */
+final class LoadTestReport {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9, 99.99};
+    private static final String CSV_HEADER = "label,endpoint,rate,connections,distribution,mix,duration_s,requests,"
+            + "throughput,success,client_errors,errors,p50_ms,p90_ms,p99_ms,p99_9_ms,p99_99_ms,max_ms,service_p99_ms";
+
+    private final LoadTestConfig config;
+    private final Map<Endpoint, EndpointStats> stats;
+
+    LoadTestReport(LoadTestConfig config, Map<Endpoint, EndpointStats> stats) {
+        this.config = config;
+        this.stats = stats;
+    }
+
+    void print(PrintStream out) {
+        out.printf(Locale.ROOT, "%nlabel=%s rate=%.0f/s connections=%d users=%d distribution=%s mix=%s duration=%ds%n",
+                config.label(), config.rate(), config.connections(), config.users(), config.distribution(),
+                config.mix(), config.duration().toSeconds());
+        out.printf(Locale.ROOT, "%-9s %9s %9s %7s %7s %9s %9s %9s %9s %9s %9s %12s%n", "endpoint", "requests",
+                "req/s", "4xx", "errors", "p50", "p90", "p99", "p99.9", "p99.99", "max", "service p99");
+        stats.forEach((endpoint, endpointStats) -> {
+            Histogram latency = endpointStats.latency();
+            out.printf(Locale.ROOT, "%-9s %9d %9.1f %7d %7d", endpoint.key(), endpointStats.requests(),
+                    throughput(endpointStats), endpointStats.clientErrors(), endpointStats.errors());
+            for (double percentile : PERCENTILES) {
+                out.printf(Locale.ROOT, " %9.2f", millis(latency.getValueAtPercentile(percentile)));
+            }
+            out.printf(Locale.ROOT, " %9.2f %12.2f%n", millis(latency.getMaxValue()),
+                    millis(endpointStats.serviceTime().getValueAtPercentile(99)));
+        });
+        out.println("Latencies in ms from the scheduled send time; service p99 is measured from the actual send.");
+    }
+
+    void write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        for (Map.Entry<Endpoint, EndpointStats> entry : stats.entrySet()) {
+            Path histogram = directory.resolve(config.label() + "-" + entry.getKey().key() + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(histogram))) {
+                // Recorded in microseconds, reported in milliseconds.
+                entry.getValue().latency().outputPercentileDistribution(out, 1000.0);
+            }
+        }
+
+        Path summary = directory.resolve("summary.csv");
+        if (Files.notExists(summary)) {
+            Files.writeString(summary, CSV_HEADER + System.lineSeparator());
+        }
+        StringBuilder rows = new StringBuilder();
+        stats.forEach((endpoint, endpointStats) -> {
+            Histogram latency = endpointStats.latency();
+            rows.append(String.format(Locale.ROOT, "%s,%s,%.0f,%d,%s,\"%s\",%d,%d,%.1f,%d,%d,%d", config.label(),
+                    endpoint.key(), config.rate(), config.connections(), config.distribution(), config.mix(),
+                    config.duration().toSeconds(), endpointStats.requests(), throughput(endpointStats),
+                    endpointStats.success(), endpointStats.clientErrors(), endpointStats.errors()));
+            for (double percentile : PERCENTILES) {
+                rows.append(String.format(Locale.ROOT, ",%.3f", millis(latency.getValueAtPercentile(percentile))));
+            }
+            rows.append(String.format(Locale.ROOT, ",%.3f,%.3f%n", millis(latency.getMaxValue()),
+                    millis(endpointStats.serviceTime().getValueAtPercentile(99))));
+        });
+        Files.writeString(summary, rows, StandardOpenOption.APPEND);
+    }
+
+    private double throughput(EndpointStats endpointStats) {
+        return endpointStats.requests() / (double) config.duration().toSeconds();
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
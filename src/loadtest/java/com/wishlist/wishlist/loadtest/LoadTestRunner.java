@@ -0,0 +1,24 @@
+package com.wishlist.wishlist.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Runs one load test against an already started application and reports it to stdout and
+ * {@code target/loadtest}. Arguments are {@code key=value} pairs, see {@link LoadTestConfig}.
+ */
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws InterruptedException, IOException {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        System.out.printf("Warming up for %ds, then measuring for %ds against %s%n",
+                config.warmup().toSeconds(), config.duration().toSeconds(), config.baseUrl());
+
+        LoadTestReport report = new LoadTestReport(config, new LoadGenerator(config).run());
+        report.print(System.out);
+        report.write(Path.of("target", "loadtest"));
+    }
+}
@@ -0,0 +1,65 @@
+package com.wishlist.wishlist.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Weighted choice between endpoints, parsed from {@code endpoint:weight} pairs such as
+ * {@code get:60,contains:25,add:10,remove:5}.
+ */
+final class RequestMix {
+
+    private final Endpoint[] endpoints;
+    private final int[] cumulativeWeights;
+    private final Map<Endpoint, Integer> weights;
+
+    private RequestMix(Map<Endpoint, Integer> weights) {
+        this.weights = weights;
+        this.endpoints = weights.keySet().toArray(Endpoint[]::new);
+        this.cumulativeWeights = new int[endpoints.length];
+        int total = 0;
+        for (int i = 0; i < endpoints.length; i++) {
+            total += weights.get(endpoints[i]);
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    static RequestMix parse(String spec) {
+        Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected endpoint:weight but got: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Weight must not be negative: " + entry);
+            }
+            if (weight > 0) {
+                weights.merge(Endpoint.fromKey(parts[0].trim()), weight, Integer::sum);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Request mix must give at least one endpoint a positive weight");
+        }
+        return new RequestMix(weights);
+    }
+
+    Endpoint next(SplittableRandom random) {
+        int pick = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (pick < cumulativeWeights[i]) {
+                return endpoints[i];
+            }
+        }
+        throw new IllegalStateException("Unreachable");
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder spec = new StringBuilder();
+        weights.forEach((endpoint, weight) -> spec.append(spec.isEmpty() ? "" : ",").append(endpoint.key()).append(':').append(weight));
+        return spec.toString();
+    }
+}
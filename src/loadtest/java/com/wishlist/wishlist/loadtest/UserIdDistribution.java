@@ -0,0 +1,36 @@
+package com.wishlist.wishlist.loadtest;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Picks the user each request targets. Zipf sends most of the traffic to a few hot users, which is what
+ * exercises the cache and per-document contention; uniform spreads it evenly over every user.
+ */
+interface UserIdDistribution {
+
+    int next(SplittableRandom random);
+
+    default String nextUserId(SplittableRandom random) {
+        return "loadtest-user-" + next(random);
+    }
+
+    static UserIdDistribution uniform(int users) {
+        return random -> random.nextInt(users);
+    }
+
+    // Rank r is drawn with probability proportional to 1 / r^exponent by a binary search over the cumulative weights.
+    static UserIdDistribution zipf(int users, double exponent) {
+        double[] cumulative = new double[users];
+        double total = 0;
+        for (int rank = 1; rank <= users; rank++) {
+            total += 1 / Math.pow(rank, exponent);
+            cumulative[rank - 1] = total;
+        }
+        double sum = total;
+        return random -> {
+            int index = Arrays.binarySearch(cumulative, random.nextDouble() * sum);
+            return index >= 0 ? index : Math.min(-index - 1, users - 1);
+        };
+    }
+}
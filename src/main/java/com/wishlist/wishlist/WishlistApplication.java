@@ -2,10 +2,15 @@ package com.wishlist.wishlist;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
-@SpringBootApplication
-@EnableMongoRepositories(basePackages = "com.wishlist.wishlist.domain.repository")
+// Reactive Mongo beans are only declared by ReactiveMongoConfig, under the reactive profile.
+@SpringBootApplication(excludeName = {
+		"org.springframework.boot.mongodb.autoconfigure.MongoReactiveAutoConfiguration",
+		"org.springframework.boot.data.mongodb.autoconfigure.DataMongoReactiveAutoConfiguration",
+		"org.springframework.boot.data.mongodb.autoconfigure.DataMongoReactiveRepositoriesAutoConfiguration"
+})
+@EnableScheduling
 public class WishlistApplication {
 
 	public static void main(String[] args) {
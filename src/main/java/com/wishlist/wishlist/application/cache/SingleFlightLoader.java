@@ -0,0 +1,88 @@
+package com.wishlist.wishlist.application.cache;
+
+import com.wishlist.wishlist.domain.model.Wishlist;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Collapses concurrent loads of the same user's wishlist into one: the first caller runs the loader and every
+ * caller arriving while it is in flight waits for and shares its result, including an empty one, which the
+ * cache does not keep. In-flight loads are tracked with a single putIfAbsent and a conditional remove.
+ */
+@Component
+@Profile("!reactive")
+public class SingleFlightLoader {
+
+    static final String LOADS = "wishlist.load.requests";
+
+    private final boolean enabled;
+    private final Counter leaders;
+    private final Counter collapsed;
+
+    private final ConcurrentHashMap<String, CompletableFuture<Optional<Wishlist>>> inFlight = new ConcurrentHashMap<>();
+
+    public SingleFlightLoader(
+            MeterRegistry meterRegistry,
+            @Value("${wishlist.load-dedup.enabled:true}") boolean enabled) {
+        this.enabled = enabled;
+        this.leaders = Counter.builder(LOADS)
+                .description("Wishlist loads by whether they ran the loader or shared one in flight")
+                .tag("role", "leader")
+                .register(meterRegistry);
+        this.collapsed = Counter.builder(LOADS)
+                .description("Wishlist loads by whether they ran the loader or shared one in flight")
+                .tag("role", "collapsed")
+                .register(meterRegistry);
+    }
+
+    public Optional<Wishlist> load(String userId, Function<String, Optional<Wishlist>> loader) {
+        if (!enabled) {
+            return loader.apply(userId);
+        }
+        CompletableFuture<Optional<Wishlist>> flight = new CompletableFuture<>();
+        CompletableFuture<Optional<Wishlist>> existing = inFlight.putIfAbsent(userId, flight);
+        if (existing != null) {
+            collapsed.increment();
+            return await(existing);
+        }
+        leaders.increment();
+        try {
+            Optional<Wishlist> result = loader.apply(userId);
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(userId, flight);
+        }
+    }
+
+    // Called on every write: callers arriving after the write start a new load instead of joining one that
+    // may have read the document before it. Callers already waiting were concurrent with the write.
+    public void forget(String userId) {
+        if (enabled) {
+            inFlight.remove(userId);
+        }
+    }
+
+    private static Optional<Wishlist> await(CompletableFuture<Optional<Wishlist>> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
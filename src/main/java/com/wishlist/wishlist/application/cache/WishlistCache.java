@@ -0,0 +1,74 @@
+package com.wishlist.wishlist.application.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.wishlist.wishlist.domain.model.Wishlist;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+@Component
+@Profile("!reactive")
+public class WishlistCache {
+
+    private final boolean enabled;
+    private final Cache<String, Wishlist> cache;
+
+    static final String NAME = "wishlist";
+
+    @Autowired
+    public WishlistCache(
+            MeterRegistry meterRegistry,
+            @Value("${wishlist.cache.enabled:false}") boolean enabled,
+            @Value("${wishlist.cache.maximum-weight:200000}") long maximumWeight,
+            @Value("${wishlist.cache.ttl:10m}") Duration ttl) {
+        this(meterRegistry, enabled, maximumWeight, ttl, ForkJoinPool.commonPool());
+    }
+
+    // The recorded stats are published as cache.gets (result=hit|miss), cache.evictions, cache.eviction.weight
+    // and cache.size, tagged cache=wishlist.
+    WishlistCache(MeterRegistry meterRegistry, boolean enabled, long maximumWeight, Duration ttl, Executor executor) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .executor(executor)
+                .maximumWeight(maximumWeight)
+                .weigher((String userId, Wishlist wishlist) -> 1 + wishlist.getItems().size())
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, NAME);
+    }
+
+    // Loads run inside the cache's per-key compute, and invalidate waits for an in-flight load of the same
+    // key, so a load that read the document before a write can never outlive that write's invalidation.
+    public Optional<Wishlist> get(String userId, Function<String, Optional<Wishlist>> loader) {
+        if (!enabled) {
+            return loader.apply(userId);
+        }
+        return Optional.ofNullable(cache.get(userId, key -> loader.apply(key).orElse(null)));
+    }
+
+    public Optional<Wishlist> getIfPresent(String userId) {
+        return enabled ? Optional.ofNullable(cache.getIfPresent(userId)) : Optional.empty();
+    }
+
+    public void invalidate(String userId) {
+        if (enabled) {
+            cache.invalidate(userId);
+        }
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
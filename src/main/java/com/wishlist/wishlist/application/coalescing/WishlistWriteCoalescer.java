@@ -0,0 +1,165 @@
+package com.wishlist.wishlist.application.coalescing;
+
+import com.wishlist.wishlist.domain.model.WishlistMutation;
+import com.wishlist.wishlist.domain.repository.WishlistRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static com.wishlist.wishlist.application.usecase.AddItemUseCaseImpl.MAX_ITEMS;
+
+/**
+ * Group commit for a user's adds and removes. The first caller to write to a user opens a batch, waits up to
+ * the window (or until the batch is full) and applies every mutation queued in the meantime with a single
+ * {@link WishlistRepository#applyMutations} call; each caller then gets the result of its own mutation.
+ * Batches of the same user commit one after the other, in the order their mutations were queued.
+ */
+@Component
+@Profile("!reactive")
+public class WishlistWriteCoalescer {
+
+    private static final Logger log = LoggerFactory.getLogger(WishlistWriteCoalescer.class);
+
+    static final String BATCH_SIZE = "wishlist.write.batch.size";
+
+    private final WishlistRepository wishlistRepository;
+    private final boolean enabled;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final DistributionSummary batchSizes;
+
+    private final ConcurrentHashMap<String, Batch> batches = new ConcurrentHashMap<>();
+
+    public WishlistWriteCoalescer(
+            WishlistRepository wishlistRepository,
+            MeterRegistry meterRegistry,
+            @Value("${wishlist.write-coalescing.enabled:false}") boolean enabled,
+            @Value("${wishlist.write-coalescing.window:2ms}") Duration window,
+            @Value("${wishlist.write-coalescing.max-batch-size:20}") int maxBatchSize) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("wishlist.write-coalescing.max-batch-size must be at least 1: " + maxBatchSize);
+        }
+        this.wishlistRepository = wishlistRepository;
+        this.enabled = enabled;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.batchSizes = DistributionSummary.builder(BATCH_SIZE)
+                .description("Mutations applied per coalesced wishlist write")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public WishlistMutation.Result submit(String userId, WishlistMutation mutation) {
+        Pending pending = new Pending(mutation);
+        // compute runs one caller at a time per user, so the queue order of a user's batches is the order
+        // of its callers; a closed or full batch is replaced by one that commits after it.
+        Batch batch = batches.compute(userId, (key, open) ->
+                open != null && open.offer(pending) ? open : new Batch(open, pending));
+        if (batch.leader == pending) {
+            commit(userId, batch);
+        }
+        return pending.await();
+    }
+
+    private void commit(String userId, Batch batch) {
+        List<Pending> members = List.of();
+        try {
+            batch.previous.join();
+            members = batch.close();
+            List<WishlistMutation> mutations = members.stream().map(member -> member.mutation).toList();
+            List<WishlistMutation.Result> results = wishlistRepository.applyMutations(userId, mutations, MAX_ITEMS);
+            batchSizes.record(members.size());
+            log.debug("Coalesced wishlist write - userId: {}, mutations: {}", userId, members.size());
+            for (int i = 0; i < members.size(); i++) {
+                members.get(i).result.complete(results.get(i));
+            }
+        } catch (RuntimeException e) {
+            for (Pending member : members.isEmpty() ? batch.close() : members) {
+                member.result.completeExceptionally(e);
+            }
+        } finally {
+            batch.done.complete(null);
+            batches.remove(userId, batch);
+        }
+    }
+
+    private static final class Pending {
+
+        private final WishlistMutation mutation;
+        private final CompletableFuture<WishlistMutation.Result> result = new CompletableFuture<>();
+
+        private Pending(WishlistMutation mutation) {
+            this.mutation = mutation;
+        }
+
+        private WishlistMutation.Result await() {
+            try {
+                return result.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+    }
+
+    private final class Batch {
+
+        private final Pending leader;
+        private final CompletableFuture<Void> previous;
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+        private final long deadline;
+        private final List<Pending> members = new ArrayList<>();
+        private boolean closed;
+
+        private Batch(Batch previous, Pending leader) {
+            this.leader = leader;
+            this.previous = previous != null ? previous.done : CompletableFuture.completedFuture(null);
+            this.deadline = System.nanoTime() + windowNanos;
+            members.add(leader);
+        }
+
+        private synchronized boolean offer(Pending pending) {
+            if (closed || members.size() >= maxBatchSize) {
+                return false;
+            }
+            members.add(pending);
+            if (members.size() >= maxBatchSize) {
+                notifyAll();
+            }
+            return true;
+        }
+
+        // The window runs from the first mutation, so time spent behind the previous batch counts toward it.
+        private synchronized List<Pending> close() {
+            if (!closed) {
+                long remaining;
+                try {
+                    while (members.size() < maxBatchSize && (remaining = deadline - System.nanoTime()) > 0) {
+                        TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                closed = true;
+            }
+            return List.copyOf(members);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.wishlist.wishlist.application.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AddItemsInput {
+    @NotEmpty(message = "Items are required")
+    @Size(max = 100, message = "At most 100 items can be added at once")
+    private List<@Valid AddItemInput> items;
+}
@@ -0,0 +1,34 @@
+package com.wishlist.wishlist.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AddItemsOutput {
+    private List<Result> results;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Result {
+        private String userId;
+        private String wishlistId;
+        private String itemId;
+        private String name;
+        private Status status;
+    }
+
+    public enum Status {
+        ADDED,
+        ALREADY_PRESENT,
+        LIMIT_EXCEEDED,
+        FAILED
+    }
+}
@@ -1,5 +1,6 @@
 package com.wishlist.wishlist.application.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 
@@ -7,4 +8,12 @@ import lombok.Data;
 @Data
 public class ContainsItemOutput {
     private boolean exists;
+
+    // Version of the wishlist the answer was read from, 0 when there is none; sent as the ETag, not in the body.
+    @JsonIgnore
+    private long version;
+
+    public ContainsItemOutput(boolean exists) {
+        this.exists = exists;
+    }
 }
@@ -0,0 +1,35 @@
+package com.wishlist.wishlist.application.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Set;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContainsItemsInput {
+    @NotEmpty(message = "Users are required")
+    @Size(max = 50, message = "At most 50 users can be checked at once")
+    private List<@Valid UserItems> users;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class UserItems {
+        @NotBlank(message = "UserId is required")
+        private String userId;
+
+        @NotEmpty(message = "ItemIds are required")
+        @Size(max = 200, message = "At most 200 items can be checked per user")
+        private Set<@NotBlank(message = "ItemId is required") String> itemIds;
+    }
+}
@@ -0,0 +1,15 @@
+package com.wishlist.wishlist.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.Set;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ContainsItemsOutput {
+    private Map<String, Set<String>> wishlisted;
+}
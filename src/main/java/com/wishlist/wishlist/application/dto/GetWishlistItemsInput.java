@@ -11,4 +11,12 @@ import lombok.NoArgsConstructor;
 public class GetWishlistItemsInput {
     @NotBlank(message = "UserId is required")
     private String userId;
-}
\ No newline at end of file
+
+    // Both null for the whole wishlist; either one set asks for a page.
+    private String cursor;
+    private Integer limit;
+
+    public GetWishlistItemsInput(String userId) {
+        this.userId = userId;
+    }
+}
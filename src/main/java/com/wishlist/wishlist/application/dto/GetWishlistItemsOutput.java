@@ -1,5 +1,7 @@
 package com.wishlist.wishlist.application.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -13,6 +15,23 @@ import java.util.List;
 public class GetWishlistItemsOutput {
     private List<Item> items;
 
+    // Present only on a page with more items after it.
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+
+    // Version of the wishlist the items were read from, 0 when there is none; sent as the ETag, not in the body.
+    @JsonIgnore
+    private long version;
+
+    public GetWishlistItemsOutput(List<Item> items) {
+        this.items = items;
+    }
+
+    public GetWishlistItemsOutput(List<Item> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
@@ -0,0 +1,14 @@
+package com.wishlist.wishlist.application.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GetWishlistVersionInput {
+    @NotBlank(message = "UserId is required")
+    private String userId;
+}
@@ -0,0 +1,10 @@
+package com.wishlist.wishlist.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@AllArgsConstructor
+@Data
+public class GetWishlistVersionOutput {
+    private long version;
+}
@@ -0,0 +1,95 @@
+package com.wishlist.wishlist.application.filter;
+
+import com.wishlist.wishlist.domain.repository.WishlistOwnerSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Component
+public class WishlistOwnerFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(WishlistOwnerFilter.class);
+
+    private final WishlistOwnerSource ownerSource;
+    private final boolean enabled;
+    private final long minimumCapacity;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter current;
+    private volatile BloomFilter building;
+
+    public WishlistOwnerFilter(
+            WishlistOwnerSource ownerSource,
+            @Value("${wishlist.owner-filter.enabled:false}") boolean enabled,
+            @Value("${wishlist.owner-filter.minimum-capacity:1000000}") long minimumCapacity,
+            @Value("${wishlist.owner-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.ownerSource = ownerSource;
+        this.enabled = enabled;
+        this.minimumCapacity = minimumCapacity;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    // Until the first build completes every user is reported as a possible owner, so the filter can
+    // only ever skip a query for users that are known not to have a wishlist.
+    public boolean mightHaveWishlist(String userId) {
+        BloomFilter filter = current;
+        return filter == null || filter.mightContain(userId);
+    }
+
+    // Writes go to the filter being built before the published one: a caller that no longer sees the
+    // build in progress is guaranteed to see the filter it was published as.
+    public void recordWishlist(String userId) {
+        BloomFilter inProgress = building;
+        if (inProgress != null) {
+            inProgress.put(userId);
+        }
+        BloomFilter filter = current;
+        if (filter != null) {
+            filter.put(userId);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        rebuild();
+    }
+
+    @Scheduled(
+            initialDelayString = "${wishlist.owner-filter.refresh-interval:10m}",
+            fixedDelayString = "${wishlist.owner-filter.refresh-interval:10m}")
+    public synchronized void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            long expected = Math.max(minimumCapacity, ownerSource.estimatedWishlistCount() * 2);
+            BloomFilter filter = new BloomFilter(expected, falsePositiveRate);
+            building = filter;
+
+            long owners = 0;
+            try (Stream<String> userIds = ownerSource.streamUserIds()) {
+                Iterator<String> iterator = userIds.iterator();
+                while (iterator.hasNext()) {
+                    filter.put(iterator.next());
+                    owners++;
+                }
+            }
+
+            current = filter;
+            log.info("Wishlist owner filter built - owners: {}, bits: {}, hash functions: {}",
+                    owners, filter.bitCount(), filter.hashFunctions());
+        } catch (DataAccessException ex) {
+            log.warn("Could not build wishlist owner filter, keeping previous state: {}", ex.getMessage());
+        } finally {
+            building = null;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.wishlist.wishlist.application.pagination;
+
+import com.wishlist.wishlist.domain.exception.InvalidCursorException;
+import com.wishlist.wishlist.domain.model.ItemPage;
+import com.wishlist.wishlist.domain.model.WishlistItem;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Where the next page of a wishlist's items starts: right after the last item returned, or at its position
+ * when that item has been removed since. Clients get it as an opaque URL-safe token.
+ */
+public record ItemCursor(String afterItemId, int offset) {
+
+    /**
+     * The encoded cursor of the page after the given one, or null when no item follows it.
+     */
+    public static String next(ItemPage page) {
+        if (!page.hasMore() || page.items().isEmpty()) {
+            return null;
+        }
+        WishlistItem last = page.items().getLast();
+        return new ItemCursor(last.getItemId(), page.offset() + page.items().size()).encode();
+    }
+
+    public String encode() {
+        byte[] token = (offset + ":" + afterItemId).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token);
+    }
+
+    public static ItemCursor decode(String cursor) {
+        try {
+            String token = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = token.indexOf(':');
+            int offset = Integer.parseInt(token.substring(0, separator));
+            String afterItemId = token.substring(separator + 1);
+            if (offset < 0 || afterItemId.isEmpty()) {
+                throw new InvalidCursorException(cursor);
+            }
+            return new ItemCursor(afterItemId, offset);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+}
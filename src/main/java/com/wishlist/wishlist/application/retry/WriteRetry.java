@@ -0,0 +1,125 @@
+package com.wishlist.wishlist.application.retry;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@Component
+public class WriteRetry {
+
+    private static final Logger log = LoggerFactory.getLogger(WriteRetry.class);
+
+    static final String CONFLICTS = "wishlist.write.conflicts";
+    static final String RETRIES = "wishlist.write.retries";
+    static final String EXHAUSTED = "wishlist.write.retries.exhausted";
+
+    private final MeterRegistry meterRegistry;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    public WriteRetry(
+            MeterRegistry meterRegistry,
+            @Value("${wishlist.write-retry.max-attempts:3}") int maxAttempts,
+            @Value("${wishlist.write-retry.initial-backoff:5ms}") Duration initialBackoff,
+            @Value("${wishlist.write-retry.max-backoff:50ms}") Duration maxBackoff) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("wishlist.write-retry.max-attempts must be at least 1: " + maxAttempts);
+        }
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    // Every write is a single-document atomic update, so the only conflicts left are two first adds racing
+    // to upsert the same user's wishlist (the loser hits the unique userId index) and transient write
+    // conflicts reported by the server. Both succeed on a fresh attempt against the winner's document.
+    public static boolean isConflict(Throwable throwable) {
+        return throwable instanceof ConcurrencyFailureException || throwable instanceof DuplicateKeyException;
+    }
+
+    public <T> T execute(String operation, Supplier<T> write) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return write.get();
+            } catch (DataAccessException e) {
+                if (!isConflict(e)) {
+                    throw e;
+                }
+                counter(CONFLICTS, operation).increment();
+                if (attempt >= maxAttempts) {
+                    counter(EXHAUSTED, operation).increment();
+                    log.warn("Write conflict not resolved after {} attempts - operation: {}", attempt, operation);
+                    throw e;
+                }
+                counter(RETRIES, operation).increment();
+                log.debug("Write conflict, retrying - operation: {}, attempt: {}", operation, attempt);
+                if (!sleep(backoff(attempt))) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    // Same policy as execute: each retry waits backoff(attempt), without blocking a thread.
+    public <T> Mono<T> executeReactive(String operation, Supplier<Mono<T>> write) {
+        return Mono.defer(write)
+                .doOnError(WriteRetry::isConflict, e -> counter(CONFLICTS, operation).increment())
+                .retryWhen(Retry.from(signals -> signals.concatMap(signal -> {
+                    Throwable failure = signal.failure();
+                    if (!isConflict(failure)) {
+                        return Mono.<Long>error(failure);
+                    }
+                    int attempt = Math.toIntExact(signal.totalRetries()) + 1;
+                    if (attempt >= maxAttempts) {
+                        counter(EXHAUSTED, operation).increment();
+                        log.warn("Write conflict not resolved after {} attempts - operation: {}", attempt, operation);
+                        return Mono.<Long>error(failure);
+                    }
+                    counter(RETRIES, operation).increment();
+                    log.debug("Write conflict, retrying - operation: {}, attempt: {}", operation, attempt);
+                    long nanos = backoff(attempt);
+                    return nanos <= 0 ? Mono.just(0L) : Mono.delay(Duration.ofNanos(nanos));
+                })));
+    }
+
+    // Full jitter: retries of writers that collided together spread over the whole window instead of
+    // colliding again at the same instant.
+    long backoff(int attempt) {
+        long ceiling = Math.min(maxBackoff.toNanos(), initialBackoff.toNanos() << Math.min(attempt - 1, 20));
+        return ceiling <= 0 ? 0 : ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private Counter counter(String name, String operation) {
+        return Counter.builder(name)
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    private static boolean sleep(long nanos) {
+        if (nanos <= 0) {
+            return true;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -1,30 +1,64 @@
 package com.wishlist.wishlist.application.service;
 
+import com.wishlist.wishlist.application.cache.SingleFlightLoader;
+import com.wishlist.wishlist.application.cache.WishlistCache;
+import com.wishlist.wishlist.domain.model.ItemPage;
 import com.wishlist.wishlist.domain.model.Wishlist;
 import com.wishlist.wishlist.domain.repository.WishlistRepository;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
 
 @Service
+@Profile("!reactive")
 @RequiredArgsConstructor
 public class WishlistService {
 
     private static final Logger log = LoggerFactory.getLogger(WishlistService.class);
 
     private final WishlistRepository wishlistRepository;
+    private final WishlistCache wishlistCache;
+    private final SingleFlightLoader singleFlightLoader;
 
     public Optional<Wishlist> findWishlist(String userId) {
         log.debug("Finding wishlist for userId: {}", userId);
-        Optional<Wishlist> wishlistOpt = wishlistRepository.findByUserId(userId);
+        Optional<Wishlist> wishlistOpt = singleFlightLoader.load(userId,
+                key -> wishlistCache.get(key, wishlistRepository::findByUserId));
         wishlistOpt.ifPresent(wishlist -> {
             log.debug("Found wishlist - wishlistId: {}, items count: {}", 
                     wishlist.getId(), wishlist.getItems().size());
         });
         return wishlistOpt;
     }
-}
 
+    public Optional<Wishlist> findCachedWishlist(String userId) {
+        return wishlistCache.getIfPresent(userId);
+    }
+
+    // A cached wishlist is sliced in place; otherwise only the page is read, so it is not cached either.
+    public Optional<ItemPage> findItemPage(String userId, String afterItemId, int offset, int limit) {
+        Optional<Wishlist> cached = wishlistCache.getIfPresent(userId);
+        if (cached.isPresent()) {
+            return Optional.of(ItemPage.of(cached.get(), afterItemId, offset, limit));
+        }
+        return wishlistRepository.findItemPage(userId, afterItemId, offset, limit);
+    }
+
+    public long findVersion(String userId) {
+        Optional<Wishlist> cached = wishlistCache.getIfPresent(userId);
+        if (cached.isPresent()) {
+            return cached.get().getVersion();
+        }
+        return wishlistRepository.findVersion(userId).orElse(0);
+    }
+
+    public void evictWishlist(String userId) {
+        log.debug("Evicting cached wishlist for userId: {}", userId);
+        singleFlightLoader.forget(userId);
+        wishlistCache.invalidate(userId);
+    }
+}
@@ -1,82 +1,77 @@
 package com.wishlist.wishlist.application.usecase;
 
+import com.wishlist.wishlist.application.coalescing.WishlistWriteCoalescer;
 import com.wishlist.wishlist.application.dto.AddItemInput;
 import com.wishlist.wishlist.application.dto.AddItemOutput;
+import com.wishlist.wishlist.application.filter.WishlistOwnerFilter;
+import com.wishlist.wishlist.application.retry.WriteRetry;
 import com.wishlist.wishlist.application.service.WishlistService;
 import com.wishlist.wishlist.domain.exception.WishlistLimitExceededException;
-import com.wishlist.wishlist.domain.model.Wishlist;
+import com.wishlist.wishlist.domain.model.PushedItem;
 import com.wishlist.wishlist.domain.model.WishlistItem;
+import com.wishlist.wishlist.domain.model.WishlistMutation;
 import com.wishlist.wishlist.domain.repository.WishlistRepository;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
+@Profile("!reactive")
 @RequiredArgsConstructor
 public class AddItemUseCaseImpl implements AddItemUseCase {
 
     private static final Logger log = LoggerFactory.getLogger(AddItemUseCaseImpl.class);
-    private static final int MAX_ITEMS = 20;
+    public static final int MAX_ITEMS = 20;
 
     private final WishlistRepository wishlistRepository;
     private final WishlistService wishlistService;
+    private final WishlistOwnerFilter wishlistOwnerFilter;
+    private final WriteRetry writeRetry;
+    private final WishlistWriteCoalescer writeCoalescer;
 
     @Override
-    @Transactional
     public AddItemOutput execute(AddItemInput input) {
         log.debug("Executing AddItemUseCase - userId: {}, itemId: {}", 
                 input.getUserId(), input.getItemId());
 
-        Wishlist wishlist = wishlistService.findWishlist(input.getUserId())
-                .orElse(Wishlist.builder()
-                        .userId(input.getUserId())
-                        .build());
+        WishlistItem item = WishlistItem.builder()
+                .itemId(input.getItemId())
+                .name(input.getName())
+                .build();
 
-        if (wishlist.getId() == null) {
-            log.debug("Wishlist not found, creating new wishlist for userId: {}", input.getUserId());
+        PushedItem pushed;
+        try {
+            pushed = writeRetry.execute("AddItemUseCase", () -> pushItem(input.getUserId(), item));
+        } finally {
+            wishlistService.evictWishlist(input.getUserId());
         }
+        wishlistOwnerFilter.recordWishlist(input.getUserId());
 
-        WishlistItem existingItem = wishlist.getItems().stream()
-                .filter(i -> i.getItemId().equals(input.getItemId()))
-                .findFirst()
-                .orElse(null);
+        WishlistItem storedItem = pushed.item();
 
-        if (existingItem != null) {
-            log.debug("Item already exists in wishlist - userId: {}, itemId: {}", 
-                    input.getUserId(), input.getItemId());
-            return AddItemOutput.builder()
-                    .wishlistId(wishlist.getId())
-                    .itemId(existingItem.getItemId())
-                    .name(existingItem.getName())
-                    .build();
-        }
-
-        if (wishlist.getItems().size() >= MAX_ITEMS) {
+        if (storedItem == null) {
             log.warn("Wishlist limit exceeded for userId: {}, current size: {}", 
-                    input.getUserId(), wishlist.getItems().size());
-            throw new WishlistLimitExceededException(input.getUserId(), wishlist.getItems().size());
+                    input.getUserId(), pushed.itemCount());
+            throw new WishlistLimitExceededException(input.getUserId(), pushed.itemCount());
         }
 
-        log.debug("Adding new item to wishlist - userId: {}, itemId: {}, name: {}", 
-                input.getUserId(), input.getItemId(), input.getName());
-        WishlistItem item = WishlistItem.builder()
-                .itemId(input.getItemId())
-                .name(input.getName())
-                .build();
-
-        wishlist.getItems().add(item);
-
-        Wishlist savedWishlist = wishlistRepository.save(wishlist);
-        log.debug("Item saved successfully - wishlistId: {}, itemId: {}", 
-                savedWishlist.getId(), item.getItemId());
+        log.debug("Item stored in wishlist - wishlistId: {}, itemId: {}, name: {}", 
+                pushed.wishlistId(), storedItem.getItemId(), storedItem.getName());
 
         return AddItemOutput.builder()
-                .wishlistId(savedWishlist.getId())
-                .itemId(item.getItemId())
-                .name(item.getName())
+                .wishlistId(pushed.wishlistId())
+                .itemId(storedItem.getItemId())
+                .name(storedItem.getName())
                 .build();
+    }
 
+    // The direct path reads back only what the answer needs; a coalesced write already has the whole wishlist.
+    private PushedItem pushItem(String userId, WishlistItem item) {
+        if (writeCoalescer.isEnabled()) {
+            return PushedItem.of(writeCoalescer.submit(userId, new WishlistMutation.Push(item)).wishlist(), item.getItemId());
+        }
+        return wishlistRepository.pushItemProjected(userId, item, MAX_ITEMS);
     }
 }
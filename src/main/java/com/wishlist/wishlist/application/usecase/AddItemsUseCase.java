@@ -0,0 +1,8 @@
+package com.wishlist.wishlist.application.usecase;
+
+import com.wishlist.wishlist.application.dto.AddItemsInput;
+import com.wishlist.wishlist.application.dto.AddItemsOutput;
+
+public interface AddItemsUseCase {
+    AddItemsOutput execute(AddItemsInput input);
+}
@@ -0,0 +1,164 @@
+package com.wishlist.wishlist.application.usecase;
+
+import com.wishlist.wishlist.application.dto.AddItemInput;
+import com.wishlist.wishlist.application.dto.AddItemsInput;
+import com.wishlist.wishlist.application.dto.AddItemsOutput;
+import com.wishlist.wishlist.application.filter.WishlistOwnerFilter;
+import com.wishlist.wishlist.application.retry.WriteRetry;
+import com.wishlist.wishlist.application.service.WishlistService;
+import com.wishlist.wishlist.domain.model.PushedItems;
+import com.wishlist.wishlist.domain.model.Wishlist;
+import com.wishlist.wishlist.domain.model.WishlistItem;
+import com.wishlist.wishlist.domain.model.WishlistMutation;
+import com.wishlist.wishlist.domain.repository.WishlistRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.wishlist.wishlist.application.usecase.AddItemUseCaseImpl.MAX_ITEMS;
+
+@Service
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class AddItemsUseCaseImpl implements AddItemsUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(AddItemsUseCaseImpl.class);
+
+    private final WishlistRepository wishlistRepository;
+    private final WishlistService wishlistService;
+    private final WishlistOwnerFilter wishlistOwnerFilter;
+    private final WriteRetry writeRetry;
+
+    @Override
+    public AddItemsOutput execute(AddItemsInput input) {
+        log.debug("Executing AddItemsUseCase - items: {}", input.getItems().size());
+
+        Map<String, List<WishlistItem>> itemsByUser = new LinkedHashMap<>();
+        Set<String> requested = new HashSet<>();
+        for (AddItemInput item : input.getItems()) {
+            if (requested.add(key(item.getUserId(), item.getItemId()))) {
+                itemsByUser.computeIfAbsent(item.getUserId(), userId -> new ArrayList<>())
+                        .add(WishlistItem.builder()
+                                .itemId(item.getItemId())
+                                .name(item.getName())
+                                .build());
+            }
+        }
+
+        PushedItems pushed;
+        try {
+            pushed = push(itemsByUser);
+        } finally {
+            itemsByUser.keySet().forEach(wishlistService::evictWishlist);
+        }
+        // Users whose write failed are reported as such while the writes of the others stand; only a batch
+        // in which no write went through fails as a whole.
+        if (pushed.results().isEmpty() && !pushed.failures().isEmpty()) {
+            throw pushed.failures().values().iterator().next();
+        }
+        pushed.results().keySet().forEach(wishlistOwnerFilter::recordWishlist);
+        pushed.failures().forEach((userId, failure) ->
+                log.warn("Batch add failed for userId: {} - {}", userId, failure.getMessage()));
+
+        Map<String, WishlistMutation.Result> outcomes = new HashMap<>();
+        pushed.results().forEach((userId, userResults) -> {
+            List<WishlistItem> items = itemsByUser.get(userId);
+            for (int i = 0; i < items.size(); i++) {
+                outcomes.put(key(userId, items.get(i).getItemId()), userResults.get(i));
+            }
+        });
+
+        Set<String> reported = new HashSet<>();
+        List<AddItemsOutput.Result> results = input.getItems().stream()
+                .map(item -> result(item, outcomes.get(key(item.getUserId(), item.getItemId())),
+                        reported.add(key(item.getUserId(), item.getItemId()))))
+                .collect(Collectors.toList());
+
+        log.debug("Added items for {} users - results: {}", itemsByUser.size(), results.size());
+        return new AddItemsOutput(results);
+    }
+
+    // Like a single add, a first add racing another for the same user hits the unique userId index and succeeds
+    // on a fresh attempt. Only the users whose update conflicted are pushed again: the results of the others are
+    // kept from the attempt that wrote them, so each item is reported by the write that appended it.
+    private PushedItems push(Map<String, List<WishlistItem>> itemsByUser) {
+        Map<String, List<WishlistMutation.Result>> results = new HashMap<>();
+        Map<String, DataAccessException> failures = new HashMap<>();
+        Map<String, List<WishlistItem>> pending = new LinkedHashMap<>(itemsByUser);
+        try {
+            writeRetry.execute("AddItemsUseCase", () -> {
+                PushedItems attempt = wishlistRepository.pushItems(new LinkedHashMap<>(pending), MAX_ITEMS);
+                results.putAll(attempt.results());
+                pending.keySet().removeAll(attempt.results().keySet());
+
+                DataAccessException conflict = null;
+                for (Map.Entry<String, DataAccessException> failure : attempt.failures().entrySet()) {
+                    if (WriteRetry.isConflict(failure.getValue())) {
+                        conflict = failure.getValue();
+                    } else {
+                        failures.put(failure.getKey(), failure.getValue());
+                        pending.remove(failure.getKey());
+                    }
+                }
+                if (conflict != null) {
+                    throw conflict;
+                }
+                return attempt;
+            });
+        } catch (DataAccessException e) {
+            pending.keySet().forEach(userId -> failures.put(userId, e));
+        }
+        return new PushedItems(results, failures);
+    }
+
+    // The outcome comes from the write itself: an item its push appended was added by this call, one the
+    // wishlist held right after its push was already there, and any other was refused by the limit. A repeated
+    // request for the same item in the batch is never the one that added it. An item without an outcome
+    // belongs to a user whose write failed.
+    private AddItemsOutput.Result result(AddItemInput item, WishlistMutation.Result outcome, boolean firstRequest) {
+        if (outcome == null) {
+            return AddItemsOutput.Result.builder()
+                    .userId(item.getUserId())
+                    .itemId(item.getItemId())
+                    .name(item.getName())
+                    .status(AddItemsOutput.Status.FAILED)
+                    .build();
+        }
+        Wishlist wishlist = outcome.wishlist();
+        Optional<WishlistItem> stored = wishlist.getItems().findItem(item.getItemId());
+        AddItemsOutput.Status status;
+        if (stored.isEmpty()) {
+            log.warn("Wishlist limit exceeded for userId: {}, itemId: {}", item.getUserId(), item.getItemId());
+            status = AddItemsOutput.Status.LIMIT_EXCEEDED;
+        } else if (firstRequest && outcome.applied()) {
+            status = AddItemsOutput.Status.ADDED;
+        } else {
+            status = AddItemsOutput.Status.ALREADY_PRESENT;
+        }
+
+        return AddItemsOutput.Result.builder()
+                .userId(item.getUserId())
+                .wishlistId(wishlist.getId())
+                .itemId(item.getItemId())
+                .name(stored.map(WishlistItem::getName).orElse(item.getName()))
+                .status(status)
+                .build();
+    }
+
+    private static String key(String userId, String itemId) {
+        return userId + '\u0000' + itemId;
+    }
+}
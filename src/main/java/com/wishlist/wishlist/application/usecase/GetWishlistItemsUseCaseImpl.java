@@ -2,29 +2,53 @@ package com.wishlist.wishlist.application.usecase;
 
 import com.wishlist.wishlist.application.dto.GetWishlistItemsInput;
 import com.wishlist.wishlist.application.dto.GetWishlistItemsOutput;
+import com.wishlist.wishlist.application.filter.WishlistOwnerFilter;
+import com.wishlist.wishlist.application.pagination.ItemCursor;
 import com.wishlist.wishlist.application.service.WishlistService;
+import com.wishlist.wishlist.domain.model.ItemPage;
 import com.wishlist.wishlist.domain.model.Wishlist;
+import com.wishlist.wishlist.domain.model.WishlistItem;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
+@Profile("!reactive")
 @RequiredArgsConstructor
 public class GetWishlistItemsUseCaseImpl implements GetWishlistItemsUseCase {
 
     private static final Logger log = LoggerFactory.getLogger(GetWishlistItemsUseCaseImpl.class);
 
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+
     private final WishlistService wishlistService;
+    private final WishlistOwnerFilter wishlistOwnerFilter;
 
     @Override
     public GetWishlistItemsOutput execute(GetWishlistItemsInput input) {
         log.debug("Executing GetWishlistItemsUseCase - userId: {}", input.getUserId());
 
+        boolean paged = input.getCursor() != null || input.getLimit() != null;
+        ItemCursor cursor = input.getCursor() != null ? ItemCursor.decode(input.getCursor()) : null;
+
+        if (!wishlistOwnerFilter.mightHaveWishlist(input.getUserId())) {
+            log.debug("User has no wishlist according to owner filter - userId: {}, returning empty list", 
+                    input.getUserId());
+            return new GetWishlistItemsOutput(List.of());
+        }
+
+        if (paged) {
+            return executePage(input, cursor);
+        }
+
         Optional<Wishlist> wishlistOpt = wishlistService.findWishlist(input.getUserId());
 
         if (wishlistOpt.isEmpty()) {
@@ -36,14 +60,35 @@ public class GetWishlistItemsUseCaseImpl implements GetWishlistItemsUseCase {
         log.debug("Found wishlist - wishlistId: {}, items count: {}", 
                 wishlist.getId(), wishlist.getItems().size());
 
-        List<GetWishlistItemsOutput.Item> items = wishlist.getItems().stream()
+        List<GetWishlistItemsOutput.Item> items = toItems(wishlist.getItems());
+
+        log.debug("Returning {} items for userId: {}", items.size(), input.getUserId());
+        return new GetWishlistItemsOutput(items, null, wishlist.getVersion());
+    }
+
+    private GetWishlistItemsOutput executePage(GetWishlistItemsInput input, ItemCursor cursor) {
+        int limit = input.getLimit() != null ? Math.clamp(input.getLimit(), 1, MAX_PAGE_SIZE) : DEFAULT_PAGE_SIZE;
+        Optional<ItemPage> pageOpt = cursor != null
+                ? wishlistService.findItemPage(input.getUserId(), cursor.afterItemId(), cursor.offset(), limit)
+                : wishlistService.findItemPage(input.getUserId(), null, 0, limit);
+
+        if (pageOpt.isEmpty()) {
+            log.debug("Wishlist not found for userId: {}, returning empty page", input.getUserId());
+            return new GetWishlistItemsOutput(List.of());
+        }
+
+        ItemPage page = pageOpt.get();
+        log.debug("Returning page of {} items from offset {} of {} for userId: {}",
+                page.items().size(), page.offset(), page.itemCount(), input.getUserId());
+        return new GetWishlistItemsOutput(toItems(page.items()), ItemCursor.next(page), page.version());
+    }
+
+    private static List<GetWishlistItemsOutput.Item> toItems(Collection<WishlistItem> items) {
+        return items.stream()
                 .map(item -> GetWishlistItemsOutput.Item.builder()
                         .itemId(item.getItemId())
                         .name(item.getName())
                         .build())
                 .collect(Collectors.toList());
-
-        log.debug("Returning {} items for userId: {}", items.size(), input.getUserId());
-        return new GetWishlistItemsOutput(items);
     }
 }
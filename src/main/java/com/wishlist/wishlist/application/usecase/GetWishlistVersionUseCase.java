@@ -0,0 +1,8 @@
+package com.wishlist.wishlist.application.usecase;
+
+import com.wishlist.wishlist.application.dto.GetWishlistVersionInput;
+import com.wishlist.wishlist.application.dto.GetWishlistVersionOutput;
+
+public interface GetWishlistVersionUseCase {
+    GetWishlistVersionOutput execute(GetWishlistVersionInput input);
+}
@@ -0,0 +1,38 @@
+package com.wishlist.wishlist.application.usecase;
+
+import com.wishlist.wishlist.application.dto.GetWishlistVersionInput;
+import com.wishlist.wishlist.application.dto.GetWishlistVersionOutput;
+import com.wishlist.wishlist.application.filter.WishlistOwnerFilter;
+import com.wishlist.wishlist.application.service.WishlistService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+@Service
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class GetWishlistVersionUseCaseImpl implements GetWishlistVersionUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(GetWishlistVersionUseCaseImpl.class);
+
+    private final WishlistService wishlistService;
+    private final WishlistOwnerFilter wishlistOwnerFilter;
+
+    // A user without a wishlist reads as version 0; every stored wishlist is at 1 or above once an item was added.
+    @Override
+    public GetWishlistVersionOutput execute(GetWishlistVersionInput input) {
+        log.debug("Executing GetWishlistVersionUseCase - userId: {}", input.getUserId());
+
+        if (!wishlistOwnerFilter.mightHaveWishlist(input.getUserId())) {
+            log.debug("User has no wishlist according to owner filter - userId: {}, returning version 0",
+                    input.getUserId());
+            return new GetWishlistVersionOutput(0);
+        }
+
+        long version = wishlistService.findVersion(input.getUserId());
+        log.debug("Wishlist version for userId: {} is {}", input.getUserId(), version);
+        return new GetWishlistVersionOutput(version);
+    }
+}
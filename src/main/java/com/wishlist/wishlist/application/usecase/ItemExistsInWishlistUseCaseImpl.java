@@ -2,41 +2,45 @@ package com.wishlist.wishlist.application.usecase;
 
 import com.wishlist.wishlist.application.dto.ContainsItemInput;
 import com.wishlist.wishlist.application.dto.ContainsItemOutput;
+import com.wishlist.wishlist.application.filter.WishlistOwnerFilter;
 import com.wishlist.wishlist.application.service.WishlistService;
-import com.wishlist.wishlist.domain.model.Wishlist;
+import com.wishlist.wishlist.domain.model.ItemPresence;
+import com.wishlist.wishlist.domain.repository.WishlistRepository;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
-import java.util.Optional;
-
 @Service
+@Profile("!reactive")
 @RequiredArgsConstructor
 public class ItemExistsInWishlistUseCaseImpl implements ItemExistsInWishlistUseCase {
 
     private static final Logger log = LoggerFactory.getLogger(ItemExistsInWishlistUseCaseImpl.class);
 
+    private final WishlistRepository wishlistRepository;
     private final WishlistService wishlistService;
+    private final WishlistOwnerFilter wishlistOwnerFilter;
 
     @Override
     public ContainsItemOutput execute(ContainsItemInput input) {
         log.debug("Executing ItemExistsInWishlistUseCase - userId: {}, itemId: {}", 
                 input.getUserId(), input.getItemId());
 
-        Optional<Wishlist> wishlistOpt = wishlistService.findWishlist(input.getUserId());
-
-        if (wishlistOpt.isEmpty()) {
-            log.debug("Wishlist not found for userId: {}, returning false", input.getUserId());
+        if (!wishlistOwnerFilter.mightHaveWishlist(input.getUserId())) {
+            log.debug("User has no wishlist according to owner filter - userId: {}, returning false", 
+                    input.getUserId());
             return new ContainsItemOutput(false);
         }
 
-        Wishlist wishlist = wishlistOpt.get();
-        boolean exists = wishlist.getItems().stream()
-                .anyMatch(item -> item.getItemId().equals(input.getItemId()));
+        ItemPresence presence = wishlistService.findCachedWishlist(input.getUserId())
+                .map(wishlist -> ItemPresence.of(wishlist, input.getItemId()))
+                .or(() -> wishlistRepository.findItemPresence(input.getUserId(), input.getItemId()))
+                .orElse(new ItemPresence(false, 0));
 
         log.debug("Item exists check completed - userId: {}, itemId: {}, exists: {}", 
-                input.getUserId(), input.getItemId(), exists);
-        return new ContainsItemOutput(exists);
+                input.getUserId(), input.getItemId(), presence.present());
+        return new ContainsItemOutput(presence.present(), presence.version());
     }
 }
@@ -0,0 +1,8 @@
+package com.wishlist.wishlist.application.usecase;
+
+import com.wishlist.wishlist.application.dto.ContainsItemsInput;
+import com.wishlist.wishlist.application.dto.ContainsItemsOutput;
+
+public interface ItemsExistInWishlistUseCase {
+    ContainsItemsOutput execute(ContainsItemsInput input);
+}
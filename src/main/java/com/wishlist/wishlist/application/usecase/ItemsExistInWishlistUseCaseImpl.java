@@ -0,0 +1,70 @@
+package com.wishlist.wishlist.application.usecase;
+
+import com.wishlist.wishlist.application.dto.ContainsItemsInput;
+import com.wishlist.wishlist.application.dto.ContainsItemsOutput;
+import com.wishlist.wishlist.application.filter.WishlistOwnerFilter;
+import com.wishlist.wishlist.application.service.WishlistService;
+import com.wishlist.wishlist.domain.model.Wishlist;
+import com.wishlist.wishlist.domain.repository.WishlistRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class ItemsExistInWishlistUseCaseImpl implements ItemsExistInWishlistUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(ItemsExistInWishlistUseCaseImpl.class);
+
+    private final WishlistRepository wishlistRepository;
+    private final WishlistService wishlistService;
+    private final WishlistOwnerFilter wishlistOwnerFilter;
+
+    @Override
+    public ContainsItemsOutput execute(ContainsItemsInput input) {
+        log.debug("Executing ItemsExistInWishlistUseCase - users: {}", input.getUsers().size());
+
+        Map<String, Set<String>> requested = new LinkedHashMap<>();
+        input.getUsers().forEach(user -> requested
+                .computeIfAbsent(user.getUserId(), userId -> new LinkedHashSet<>())
+                .addAll(user.getItemIds()));
+
+        Map<String, Set<String>> storedIds = new LinkedHashMap<>();
+        Set<String> uncached = new HashSet<>();
+        requested.keySet().stream()
+                .filter(wishlistOwnerFilter::mightHaveWishlist)
+                .forEach(userId -> {
+                    Optional<Wishlist> cached = wishlistService.findCachedWishlist(userId);
+                    if (cached.isPresent()) {
+                        storedIds.put(userId, cached.get().getItems().itemIds());
+                    } else {
+                        uncached.add(userId);
+                    }
+                });
+        if (!uncached.isEmpty()) {
+            storedIds.putAll(wishlistRepository.findItemIds(uncached));
+        }
+
+        Map<String, Set<String>> wishlisted = new LinkedHashMap<>();
+        requested.forEach((userId, itemIds) -> {
+            Set<String> stored = storedIds.getOrDefault(userId, Set.of());
+            wishlisted.put(userId, itemIds.stream()
+                    .filter(stored::contains)
+                    .collect(Collectors.toCollection(LinkedHashSet::new)));
+        });
+
+        log.debug("Items exist check completed - users: {}, queried: {}", requested.size(), uncached.size());
+        return new ContainsItemsOutput(wishlisted);
+    }
+}
@@ -1,17 +1,21 @@
 package com.wishlist.wishlist.application.usecase;
 
+import com.wishlist.wishlist.application.coalescing.WishlistWriteCoalescer;
 import com.wishlist.wishlist.application.dto.RemoveItemInput;
+import com.wishlist.wishlist.application.retry.WriteRetry;
 import com.wishlist.wishlist.application.service.WishlistService;
 import com.wishlist.wishlist.domain.exception.WishlistNotFoundException;
-import com.wishlist.wishlist.domain.model.Wishlist;
+import com.wishlist.wishlist.domain.model.RemoveItemResult;
+import com.wishlist.wishlist.domain.model.WishlistMutation;
 import com.wishlist.wishlist.domain.repository.WishlistRepository;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
+@Profile("!reactive")
 @RequiredArgsConstructor
 public class RemoveItemUseCaseImpl implements RemoveItemUseCase {
 
@@ -19,33 +23,41 @@ public class RemoveItemUseCaseImpl implements RemoveItemUseCase {
 
     private final WishlistRepository wishlistRepository;
     private final WishlistService wishlistService;
+    private final WriteRetry writeRetry;
+    private final WishlistWriteCoalescer writeCoalescer;
 
     @Override
-    @Transactional
     public void execute(RemoveItemInput input) {
         log.debug("Executing RemoveItemUseCase - userId: {}, itemId: {}", 
                 input.getUserId(), input.getItemId());
 
-        Wishlist wishlist = wishlistService.findWishlist(input.getUserId())
-                .orElseThrow(() -> {
-                    log.warn("Wishlist not found for userId: {}", input.getUserId());
-                    return new WishlistNotFoundException(input.getUserId());
-                });
-
-        log.debug("Found wishlist - wishlistId: {}, items count before removal: {}", 
-                wishlist.getId(), wishlist.getItems().size());
-
-        boolean removed = wishlist.getItems().removeIf(
-                item -> item.getItemId().equals(input.getItemId())
-        );
+        RemoveItemResult result;
+        try {
+            result = writeRetry.execute("RemoveItemUseCase", () -> pullItem(input.getUserId(), input.getItemId()));
+        } finally {
+            wishlistService.evictWishlist(input.getUserId());
+        }
 
-        if (removed) {
-            log.debug("Item removed from wishlist - userId: {}, itemId: {}", 
+        switch (result) {
+            case REMOVED -> log.debug("Item removed from wishlist - userId: {}, itemId: {}", 
                     input.getUserId(), input.getItemId());
-            wishlistRepository.save(wishlist);
-        } else {
-            log.warn("Item not found in wishlist - userId: {}, itemId: {}", 
+            case ITEM_NOT_FOUND -> log.warn("Item not found in wishlist - userId: {}, itemId: {}", 
                     input.getUserId(), input.getItemId());
+            case WISHLIST_NOT_FOUND -> {
+                log.warn("Wishlist not found for userId: {}", input.getUserId());
+                throw new WishlistNotFoundException(input.getUserId());
+            }
+        }
+    }
+
+    private RemoveItemResult pullItem(String userId, String itemId) {
+        if (!writeCoalescer.isEnabled()) {
+            return wishlistRepository.pullItem(userId, itemId);
+        }
+        WishlistMutation.Result result = writeCoalescer.submit(userId, new WishlistMutation.Pull(itemId));
+        if (result.wishlist() == null) {
+            return RemoveItemResult.WISHLIST_NOT_FOUND;
         }
+        return result.applied() ? RemoveItemResult.REMOVED : RemoveItemResult.ITEM_NOT_FOUND;
     }
 }
@@ -0,0 +1,9 @@
+package com.wishlist.wishlist.application.usecase.reactive;
+
+import com.wishlist.wishlist.application.dto.AddItemInput;
+import com.wishlist.wishlist.application.dto.AddItemOutput;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveAddItemUseCase {
+    Mono<AddItemOutput> execute(AddItemInput input);
+}
@@ -0,0 +1,61 @@
+package com.wishlist.wishlist.application.usecase.reactive;
+
+import com.wishlist.wishlist.application.dto.AddItemInput;
+import com.wishlist.wishlist.application.dto.AddItemOutput;
+import com.wishlist.wishlist.application.filter.WishlistOwnerFilter;
+import com.wishlist.wishlist.application.retry.WriteRetry;
+import com.wishlist.wishlist.domain.exception.WishlistLimitExceededException;
+import com.wishlist.wishlist.domain.model.WishlistItem;
+import com.wishlist.wishlist.domain.repository.ReactiveWishlistRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import static com.wishlist.wishlist.application.usecase.AddItemUseCaseImpl.MAX_ITEMS;
+
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveAddItemUseCaseImpl implements ReactiveAddItemUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveAddItemUseCaseImpl.class);
+
+    private final ReactiveWishlistRepository wishlistRepository;
+    private final WishlistOwnerFilter wishlistOwnerFilter;
+    private final WriteRetry writeRetry;
+
+    @Override
+    public Mono<AddItemOutput> execute(AddItemInput input) {
+        log.debug("Executing ReactiveAddItemUseCase - userId: {}, itemId: {}", 
+                input.getUserId(), input.getItemId());
+
+        WishlistItem item = WishlistItem.builder()
+                .itemId(input.getItemId())
+                .name(input.getName())
+                .build();
+
+        return writeRetry.executeReactive("ReactiveAddItemUseCase",
+                        () -> wishlistRepository.pushItem(input.getUserId(), item, MAX_ITEMS))
+                .doOnNext(wishlist -> wishlistOwnerFilter.recordWishlist(input.getUserId()))
+                .map(wishlist -> {
+                    WishlistItem storedItem = wishlist.getItems().findItem(input.getItemId()).orElse(null);
+
+                    if (storedItem == null) {
+                        log.warn("Wishlist limit exceeded for userId: {}, current size: {}", 
+                                input.getUserId(), wishlist.getItems().size());
+                        throw new WishlistLimitExceededException(input.getUserId(), wishlist.getItems().size());
+                    }
+
+                    log.debug("Item stored in wishlist - wishlistId: {}, itemId: {}, name: {}", 
+                            wishlist.getId(), storedItem.getItemId(), storedItem.getName());
+                    return AddItemOutput.builder()
+                            .wishlistId(wishlist.getId())
+                            .itemId(storedItem.getItemId())
+                            .name(storedItem.getName())
+                            .build();
+                });
+    }
+}
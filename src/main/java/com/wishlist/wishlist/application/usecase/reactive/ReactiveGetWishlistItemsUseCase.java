@@ -0,0 +1,9 @@
+package com.wishlist.wishlist.application.usecase.reactive;
+
+import com.wishlist.wishlist.application.dto.GetWishlistItemsInput;
+import com.wishlist.wishlist.application.dto.GetWishlistItemsOutput;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveGetWishlistItemsUseCase {
+    Mono<GetWishlistItemsOutput> execute(GetWishlistItemsInput input);
+}
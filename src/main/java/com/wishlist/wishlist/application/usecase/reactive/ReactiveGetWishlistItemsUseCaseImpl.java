@@ -0,0 +1,81 @@
+package com.wishlist.wishlist.application.usecase.reactive;
+
+import com.wishlist.wishlist.application.dto.GetWishlistItemsInput;
+import com.wishlist.wishlist.application.dto.GetWishlistItemsOutput;
+import com.wishlist.wishlist.application.filter.WishlistOwnerFilter;
+import com.wishlist.wishlist.application.pagination.ItemCursor;
+import com.wishlist.wishlist.domain.model.ItemPage;
+import com.wishlist.wishlist.domain.model.Wishlist;
+import com.wishlist.wishlist.domain.model.WishlistItem;
+import com.wishlist.wishlist.domain.repository.ReactiveWishlistRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.wishlist.wishlist.application.usecase.GetWishlistItemsUseCaseImpl.DEFAULT_PAGE_SIZE;
+import static com.wishlist.wishlist.application.usecase.GetWishlistItemsUseCaseImpl.MAX_PAGE_SIZE;
+
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveGetWishlistItemsUseCaseImpl implements ReactiveGetWishlistItemsUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveGetWishlistItemsUseCaseImpl.class);
+
+    private final ReactiveWishlistRepository wishlistRepository;
+    private final WishlistOwnerFilter wishlistOwnerFilter;
+
+    // The reactive repository reads the whole wishlist either way, so a page is sliced from it with the same
+    // rules as the servlet API's page query.
+    @Override
+    public Mono<GetWishlistItemsOutput> execute(GetWishlistItemsInput input) {
+        log.debug("Executing ReactiveGetWishlistItemsUseCase - userId: {}", input.getUserId());
+
+        boolean paged = input.getCursor() != null || input.getLimit() != null;
+        ItemCursor cursor = input.getCursor() != null ? ItemCursor.decode(input.getCursor()) : null;
+
+        if (!wishlistOwnerFilter.mightHaveWishlist(input.getUserId())) {
+            log.debug("User has no wishlist according to owner filter - userId: {}, returning empty list", 
+                    input.getUserId());
+            return Mono.just(new GetWishlistItemsOutput(List.of()));
+        }
+
+        return wishlistRepository.findByUserId(input.getUserId())
+                .map(wishlist -> {
+                    log.debug("Found wishlist - wishlistId: {}, items count: {}", 
+                            wishlist.getId(), wishlist.getItems().size());
+                    if (paged) {
+                        return page(wishlist, cursor, input.getLimit());
+                    }
+                    return new GetWishlistItemsOutput(toItems(wishlist.getItems()), null, wishlist.getVersion());
+                })
+                .switchIfEmpty(Mono.fromSupplier(() -> {
+                    log.debug("Wishlist not found for userId: {}, returning empty list", input.getUserId());
+                    return new GetWishlistItemsOutput(List.of());
+                }));
+    }
+
+    private static GetWishlistItemsOutput page(Wishlist wishlist, ItemCursor cursor, Integer requestedLimit) {
+        int limit = requestedLimit != null ? Math.clamp(requestedLimit, 1, MAX_PAGE_SIZE) : DEFAULT_PAGE_SIZE;
+        ItemPage page = cursor != null
+                ? ItemPage.of(wishlist, cursor.afterItemId(), cursor.offset(), limit)
+                : ItemPage.of(wishlist, null, 0, limit);
+        return new GetWishlistItemsOutput(toItems(page.items()), ItemCursor.next(page), page.version());
+    }
+
+    private static List<GetWishlistItemsOutput.Item> toItems(Collection<WishlistItem> items) {
+        return items.stream()
+                .map(item -> GetWishlistItemsOutput.Item.builder()
+                        .itemId(item.getItemId())
+                        .name(item.getName())
+                        .build())
+                .collect(Collectors.toList());
+    }
+}
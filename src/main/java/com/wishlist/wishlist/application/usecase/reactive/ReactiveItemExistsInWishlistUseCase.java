@@ -0,0 +1,9 @@
+package com.wishlist.wishlist.application.usecase.reactive;
+
+import com.wishlist.wishlist.application.dto.ContainsItemInput;
+import com.wishlist.wishlist.application.dto.ContainsItemOutput;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveItemExistsInWishlistUseCase {
+    Mono<ContainsItemOutput> execute(ContainsItemInput input);
+}
@@ -0,0 +1,42 @@
+package com.wishlist.wishlist.application.usecase.reactive;
+
+import com.wishlist.wishlist.application.dto.ContainsItemInput;
+import com.wishlist.wishlist.application.dto.ContainsItemOutput;
+import com.wishlist.wishlist.application.filter.WishlistOwnerFilter;
+import com.wishlist.wishlist.domain.repository.ReactiveWishlistRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveItemExistsInWishlistUseCaseImpl implements ReactiveItemExistsInWishlistUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveItemExistsInWishlistUseCaseImpl.class);
+
+    private final ReactiveWishlistRepository wishlistRepository;
+    private final WishlistOwnerFilter wishlistOwnerFilter;
+
+    @Override
+    public Mono<ContainsItemOutput> execute(ContainsItemInput input) {
+        log.debug("Executing ReactiveItemExistsInWishlistUseCase - userId: {}, itemId: {}", 
+                input.getUserId(), input.getItemId());
+
+        if (!wishlistOwnerFilter.mightHaveWishlist(input.getUserId())) {
+            log.debug("User has no wishlist according to owner filter - userId: {}, returning false", 
+                    input.getUserId());
+            return Mono.just(new ContainsItemOutput(false));
+        }
+
+        return wishlistRepository.containsItem(input.getUserId(), input.getItemId())
+                .map(exists -> {
+                    log.debug("Item exists check completed - userId: {}, itemId: {}, exists: {}", 
+                            input.getUserId(), input.getItemId(), exists);
+                    return new ContainsItemOutput(exists);
+                });
+    }
+}
@@ -0,0 +1,8 @@
+package com.wishlist.wishlist.application.usecase.reactive;
+
+import com.wishlist.wishlist.application.dto.RemoveItemInput;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveRemoveItemUseCase {
+    Mono<Void> execute(RemoveItemInput input);
+}
@@ -0,0 +1,48 @@
+package com.wishlist.wishlist.application.usecase.reactive;
+
+import com.wishlist.wishlist.application.dto.RemoveItemInput;
+import com.wishlist.wishlist.application.retry.WriteRetry;
+import com.wishlist.wishlist.domain.exception.WishlistNotFoundException;
+import com.wishlist.wishlist.domain.repository.ReactiveWishlistRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveRemoveItemUseCaseImpl implements ReactiveRemoveItemUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveRemoveItemUseCaseImpl.class);
+
+    private final ReactiveWishlistRepository wishlistRepository;
+    private final WriteRetry writeRetry;
+
+    @Override
+    public Mono<Void> execute(RemoveItemInput input) {
+        log.debug("Executing ReactiveRemoveItemUseCase - userId: {}, itemId: {}", 
+                input.getUserId(), input.getItemId());
+
+        return writeRetry.executeReactive("ReactiveRemoveItemUseCase",
+                        () -> wishlistRepository.pullItem(input.getUserId(), input.getItemId()))
+                .flatMap(result -> switch (result) {
+                    case REMOVED -> {
+                        log.debug("Item removed from wishlist - userId: {}, itemId: {}", 
+                                input.getUserId(), input.getItemId());
+                        yield Mono.<Void>empty();
+                    }
+                    case ITEM_NOT_FOUND -> {
+                        log.warn("Item not found in wishlist - userId: {}, itemId: {}", 
+                                input.getUserId(), input.getItemId());
+                        yield Mono.<Void>empty();
+                    }
+                    case WISHLIST_NOT_FOUND -> {
+                        log.warn("Wishlist not found for userId: {}", input.getUserId());
+                        yield Mono.<Void>error(new WishlistNotFoundException(input.getUserId()));
+                    }
+                });
+    }
+}
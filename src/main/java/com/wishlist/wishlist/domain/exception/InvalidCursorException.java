@@ -0,0 +1,8 @@
+package com.wishlist.wishlist.domain.exception;
+
+public class InvalidCursorException extends RuntimeException {
+    
+    public InvalidCursorException(String cursor) {
+        super("Invalid cursor: " + cursor);
+    }
+}
@@ -0,0 +1,38 @@
+package com.wishlist.wishlist.domain.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A window of a wishlist's items in insertion order: at most {@code limit} items starting at {@code offset},
+ * and how many items the wishlist held, and its version, when the window was read.
+ */
+public record ItemPage(List<WishlistItem> items, int offset, int itemCount, long version) {
+
+    public boolean hasMore() {
+        return offset + items.size() < itemCount;
+    }
+
+    /**
+     * The window starts right after {@code afterItemId} while the wishlist still holds it, so items removed
+     * before it do not shift the next page; otherwise, and for the first page, it starts at {@code offset}.
+     */
+    public static ItemPage of(Wishlist wishlist, String afterItemId, int offset, int limit) {
+        int start = offset;
+        if (afterItemId != null && wishlist.getItems().containsItem(afterItemId)) {
+            start = List.copyOf(wishlist.getItems().itemIds()).indexOf(afterItemId) + 1;
+        }
+        List<WishlistItem> items = new ArrayList<>(Math.min(limit, wishlist.getItems().size()));
+        int position = 0;
+        for (WishlistItem item : wishlist.getItems()) {
+            if (position++ < start) {
+                continue;
+            }
+            if (items.size() == limit) {
+                break;
+            }
+            items.add(WishlistItem.builder().itemId(item.getItemId()).name(item.getName()).build());
+        }
+        return new ItemPage(items, start, wishlist.getItems().size(), wishlist.getVersion());
+    }
+}
@@ -0,0 +1,11 @@
+package com.wishlist.wishlist.domain.model;
+
+/**
+ * Whether a wishlist holds an item, together with the version of the wishlist the answer was read from.
+ */
+public record ItemPresence(boolean present, long version) {
+
+    public static ItemPresence of(Wishlist wishlist, String itemId) {
+        return new ItemPresence(wishlist.getItems().containsItem(itemId), wishlist.getVersion());
+    }
+}
@@ -0,0 +1,13 @@
+package com.wishlist.wishlist.domain.model;
+
+/**
+ * What an add needs back from a guarded push: the wishlist id, the stored item with the pushed itemId (null
+ * when the limit kept it out) and how many items the wishlist holds, without the other items themselves.
+ */
+public record PushedItem(String wishlistId, WishlistItem item, int itemCount) {
+
+    public static PushedItem of(Wishlist wishlist, String itemId) {
+        return new PushedItem(wishlist.getId(), wishlist.getItems().findItem(itemId).orElse(null),
+                wishlist.getItems().size());
+    }
+}
@@ -0,0 +1,14 @@
+package com.wishlist.wishlist.domain.model;
+
+import org.springframework.dao.DataAccessException;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * What a batch push did per user: the results of each user whose write went through, one per item, and the
+ * failure of each user whose write did not. A user is in exactly one of the two maps.
+ */
+public record PushedItems(Map<String, List<WishlistMutation.Result>> results,
+                          Map<String, DataAccessException> failures) {
+}
@@ -0,0 +1,7 @@
+package com.wishlist.wishlist.domain.model;
+
+public enum RemoveItemResult {
+    REMOVED,
+    ITEM_NOT_FOUND,
+    WISHLIST_NOT_FOUND
+}
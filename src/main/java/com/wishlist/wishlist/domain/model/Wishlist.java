@@ -3,16 +3,16 @@ package com.wishlist.wishlist.domain.model;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Collection;
 
 @Document(collection = "wishlists")
+@CompoundIndex(name = "userId_itemId", def = "{'userId': 1, 'items.itemId': 1}")
 @Data
-@NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Wishlist {
@@ -20,8 +20,30 @@ public class Wishlist {
     @Id
     private String id;
 
+    @Indexed(name = "userId", unique = true)
     private String userId;
-    
-    @Builder.Default
-    private List<WishlistItem> items = new ArrayList<>();
+
+    // Unique by itemId: adding an item whose itemId is present is ignored and returns false.
+    private WishlistItems items;
+
+    // Incremented by every write that changes the items; documents written before it existed read as 0.
+    private long version;
+
+    public Wishlist() {
+        this.items = new WishlistItems();
+    }
+
+    public void setItems(Collection<WishlistItem> items) {
+        this.items = new WishlistItems(items);
+    }
+
+    public static class WishlistBuilder {
+
+        private WishlistItems items = new WishlistItems();
+
+        public WishlistBuilder items(Collection<WishlistItem> items) {
+            this.items = new WishlistItems(items);
+            return this;
+        }
+    }
 }
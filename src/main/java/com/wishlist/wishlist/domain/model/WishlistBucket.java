@@ -0,0 +1,42 @@
+package com.wishlist.wishlist.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A fixed-size slice of a user's items under the bucketed layout. Buckets are numbered from 0 in the order they
+ * were opened and items are appended to the last one, so reading them by bucketNo yields insertion order.
+ */
+@Document(collection = "wishlist_buckets")
+@CompoundIndexes({
+        @CompoundIndex(name = "userId_bucketNo", def = "{'userId': 1, 'bucketNo': 1}", unique = true),
+        @CompoundIndex(name = "userId_itemId", def = "{'userId': 1, 'items.itemId': 1}")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WishlistBucket {
+
+    @Id
+    private String id;
+
+    private String userId;
+
+    private int bucketNo;
+
+    @Builder.Default
+    private List<WishlistItem> items = new ArrayList<>();
+
+    // Kept next to the items so the bucket-full guard and page lookups do not need $size.
+    private int itemCount;
+}
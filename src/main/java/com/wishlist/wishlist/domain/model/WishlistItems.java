@@ -0,0 +1,134 @@
+package com.wishlist.wishlist.domain.model;
+
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.SequencedCollection;
+import java.util.Set;
+
+/**
+ * The items of a wishlist in insertion order, indexed by itemId so that lookups, adds and removals by itemId
+ * take constant time. It is a {@link SequencedCollection} rather than a {@code List}: there is no positional
+ * access, and, as a {@code Set} would, {@link #add} leaves the collection unchanged and returns {@code false}
+ * when an item with the same itemId is already present. Like any collection with a no-arg constructor, it is
+ * mapped to and from the same BSON array as before. An item must not change its itemId while it is held here.
+ */
+public class WishlistItems extends AbstractCollection<WishlistItem> implements SequencedCollection<WishlistItem> {
+
+    private final LinkedHashMap<String, WishlistItem> itemsById = new LinkedHashMap<>();
+
+    public WishlistItems() {
+    }
+
+    public WishlistItems(Collection<? extends WishlistItem> items) {
+        addAll(items);
+    }
+
+    public boolean containsItem(String itemId) {
+        return itemsById.containsKey(itemId);
+    }
+
+    public Optional<WishlistItem> findItem(String itemId) {
+        return Optional.ofNullable(itemsById.get(itemId));
+    }
+
+    public boolean removeItem(String itemId) {
+        return itemsById.remove(itemId) != null;
+    }
+
+    /**
+     * Unmodifiable view of the itemIds, in insertion order.
+     */
+    public Set<String> itemIds() {
+        return Collections.unmodifiableSet(itemsById.keySet());
+    }
+
+    @Override
+    public boolean add(WishlistItem item) {
+        Objects.requireNonNull(item, "item");
+        return itemsById.putIfAbsent(item.getItemId(), item) == null;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof WishlistItem item && item.equals(itemsById.get(item.getItemId()));
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        return o instanceof WishlistItem item && itemsById.remove(item.getItemId(), item);
+    }
+
+    @Override
+    public void clear() {
+        itemsById.clear();
+    }
+
+    @Override
+    public int size() {
+        return itemsById.size();
+    }
+
+    @Override
+    public Iterator<WishlistItem> iterator() {
+        return itemsById.values().iterator();
+    }
+
+    @Override
+    public WishlistItem getFirst() {
+        return value(itemsById.firstEntry());
+    }
+
+    @Override
+    public WishlistItem getLast() {
+        return value(itemsById.lastEntry());
+    }
+
+    /**
+     * Unmodifiable view of the items, last added first.
+     */
+    @Override
+    public SequencedCollection<WishlistItem> reversed() {
+        return Collections.unmodifiableSequencedCollection(itemsById.sequencedValues().reversed());
+    }
+
+    // Equal to another WishlistItems holding equal items in the same order; the hash is the one a List would have.
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (!(o instanceof WishlistItems other) || other.size() != size()) {
+            return false;
+        }
+        Iterator<WishlistItem> otherItems = other.iterator();
+        for (WishlistItem item : this) {
+            if (!Objects.equals(item, otherItems.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (WishlistItem item : this) {
+            hash = 31 * hash + Objects.hashCode(item);
+        }
+        return hash;
+    }
+
+    private static WishlistItem value(Map.Entry<String, WishlistItem> entry) {
+        if (entry == null) {
+            throw new NoSuchElementException();
+        }
+        return entry.getValue();
+    }
+}
@@ -0,0 +1,80 @@
+package com.wishlist.wishlist.domain.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An add or remove queued for a user's wishlist, applied in order with others in one write. {@link #replay}
+ * defines what a sequence of them does, so both repository adapters report the same per-mutation results.
+ */
+public sealed interface WishlistMutation permits WishlistMutation.Push, WishlistMutation.Pull {
+
+    String itemId();
+
+    record Push(WishlistItem item) implements WishlistMutation {
+
+        @Override
+        public String itemId() {
+            return item.getItemId();
+        }
+    }
+
+    record Pull(String itemId) implements WishlistMutation {
+    }
+
+    /**
+     * The wishlist right after a mutation, null while the user has no wishlist, and whether the mutation changed it.
+     */
+    record Result(Wishlist wishlist, boolean applied) {
+    }
+
+    /**
+     * One push per item, in order: a batch add is these mutations applied in one write.
+     */
+    static List<WishlistMutation> pushes(List<WishlistItem> items) {
+        return items.stream().<WishlistMutation>map(Push::new).toList();
+    }
+
+    /**
+     * Applies the mutations in order to a copy of {@code before} (null when the user has no wishlist): a push
+     * creates the wishlist with {@code createdId} if needed and appends an absent item while there is room
+     * below {@code maxItems}, a pull removes a present item, and each change moves the version by one.
+     */
+    static List<Result> replay(Wishlist before, String createdId, String userId,
+                               List<? extends WishlistMutation> mutations, int maxItems) {
+        List<Result> results = new ArrayList<>(mutations.size());
+        Wishlist current = before != null ? copy(before) : null;
+        for (WishlistMutation mutation : mutations) {
+            boolean applied = false;
+            switch (mutation) {
+                case Push push -> {
+                    if (current == null) {
+                        current = Wishlist.builder().id(createdId).userId(userId).build();
+                    }
+                    if (current.getItems().size() < maxItems && !current.getItems().containsItem(push.itemId())) {
+                        current.getItems().add(WishlistItem.builder()
+                                .itemId(push.item().getItemId())
+                                .name(push.item().getName())
+                                .build());
+                        applied = true;
+                    }
+                }
+                case Pull pull -> applied = current != null && current.getItems().removeItem(pull.itemId());
+            }
+            if (applied) {
+                current.setVersion(current.getVersion() + 1);
+            }
+            results.add(new Result(current != null ? copy(current) : null, applied));
+        }
+        return results;
+    }
+
+    private static Wishlist copy(Wishlist wishlist) {
+        return Wishlist.builder()
+                .id(wishlist.getId())
+                .userId(wishlist.getUserId())
+                .items(wishlist.getItems())
+                .version(wishlist.getVersion())
+                .build();
+    }
+}
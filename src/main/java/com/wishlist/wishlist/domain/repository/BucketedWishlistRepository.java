@@ -0,0 +1,524 @@
+package com.wishlist.wishlist.domain.repository;
+
+import com.wishlist.wishlist.domain.model.ItemPage;
+import com.wishlist.wishlist.domain.model.ItemPresence;
+import com.wishlist.wishlist.domain.model.PushedItem;
+import com.wishlist.wishlist.domain.model.PushedItems;
+import com.wishlist.wishlist.domain.model.RemoveItemResult;
+import com.wishlist.wishlist.domain.model.Wishlist;
+import com.wishlist.wishlist.domain.model.WishlistBucket;
+import com.wishlist.wishlist.domain.model.WishlistItem;
+import com.wishlist.wishlist.domain.model.WishlistMutation;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.BasicQuery;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * {@link WishlistRepository} for the bucketed layout: a user's items live in {@link WishlistBucket} documents of at
+ * most {@code bucketSize} items keyed by (userId, bucketNo), so a write changes one bucket instead of rewriting every
+ * item and no document grows with the wishlist. The wishlist document stays as the head, holding the id, the
+ * version, the item count and the bucket count. Adds go to the last (open) bucket, opening a new one once it is
+ * full, and removes $pull from the bucket holding the item; a bucket emptied by removes is kept.
+ * <p>
+ * Every write runs in a transaction (see {@link MongoReadRouting#transaction}) and updates the head whenever it
+ * changes an item, so concurrent writes of a user conflict and run one after the other; that keeps itemIds unique
+ * across buckets and the count within the limit. A wishlist still in the single-document shape, with its items in
+ * the head, is read as it is and moved into buckets by its first write, or ahead of it by {@link #migrate}.
+ */
+public class BucketedWishlistRepository implements WishlistRepository {
+
+    private static final String USER_ID = "userId";
+    private static final String ITEMS = "items";
+    private static final String ITEM_ID = "itemId";
+    private static final String VERSION = "version";
+    private static final String ITEM_COUNT = "itemCount";
+    private static final String BUCKET_COUNT = "bucketCount";
+    private static final String BUCKET_NO = "bucketNo";
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoReadRouting readRouting;
+    private final int bucketSize;
+
+    public BucketedWishlistRepository(MongoTemplate mongoTemplate, MongoReadRouting readRouting, int bucketSize) {
+        if (bucketSize < 1) {
+            throw new IllegalArgumentException("wishlist.mongo.storage.bucket-size must be at least 1: " + bucketSize);
+        }
+        this.mongoTemplate = mongoTemplate;
+        this.readRouting = readRouting;
+        this.bucketSize = bucketSize;
+    }
+
+    // The wishlist is cached, so it only leaves the primary when read-your-writes is on; see cachedReadPreference.
+    @Override
+    public Optional<Wishlist> findByUserId(String userId) {
+        return readRouting.read(mongoTemplate, List.of(userId),
+                template -> load(template, List.of(userId), readRouting.isReadYourWrites())).stream().findFirst();
+    }
+
+    // Like the derived query of the default adapter, this read stays on the primary.
+    @Override
+    public List<Wishlist> findByUserIdIn(Collection<String> userIds) {
+        return load(mongoTemplate, userIds, false);
+    }
+
+    // The head answers a single-document wishlist with the same projection as the default adapter; for a
+    // bucketed one the (bucketNo, itemCount) list locates the window and only its items are read, bucket by bucket.
+    @Override
+    public Optional<ItemPage> findItemPage(String userId, String afterItemId, int offset, int limit) {
+        return readRouting.read(mongoTemplate, List.of(userId), template -> {
+            Document fields = WishlistRepositoryCustomImpl.itemPageFields(afterItemId, offset, limit).append(BUCKET_COUNT, 1);
+            Document head = template.findOne(reads(new BasicQuery(new Document(USER_ID, userId), fields)),
+                    Document.class, heads(template));
+            if (head == null) {
+                return Optional.empty();
+            }
+            if (!isBucketed(head)) {
+                return Optional.of(WishlistRepositoryCustomImpl.itemPage(head, offset));
+            }
+
+            Query directoryQuery = reads(Query.query(Criteria.where(USER_ID).is(userId)).with(Sort.by(BUCKET_NO)));
+            directoryQuery.fields().include(BUCKET_NO, ITEM_COUNT).exclude("_id");
+            List<Document> directory = template.find(directoryQuery, Document.class, buckets(template));
+
+            int start = offset;
+            if (afterItemId != null) {
+                Document anchor = template.findOne(reads(new BasicQuery(
+                        new Document(USER_ID, userId).append(ITEMS + "." + ITEM_ID, afterItemId),
+                        new Document("_id", 0).append(BUCKET_NO, 1).append("position", new Document("$indexOfArray",
+                                List.of("$" + ITEMS + "." + ITEM_ID, new Document("$literal", afterItemId)))))),
+                        Document.class, buckets(template));
+                if (anchor != null) {
+                    start = itemsBefore(directory, intValue(anchor, BUCKET_NO)) + intValue(anchor, "position") + 1;
+                }
+            }
+
+            List<WishlistItem> items = new ArrayList<>(limit);
+            int skipped = 0;
+            for (Document bucket : directory) {
+                int count = intValue(bucket, ITEM_COUNT);
+                if (items.size() < limit && skipped + count > start) {
+                    int from = Math.max(0, start - skipped);
+                    Document slice = new Document("_id", 0).append(ITEMS,
+                            new Document("$slice", List.of("$" + ITEMS, from, limit - items.size())));
+                    Document window = template.findOne(reads(new BasicQuery(
+                            new Document(USER_ID, userId).append(BUCKET_NO, intValue(bucket, BUCKET_NO)), slice)),
+                            Document.class, buckets(template));
+                    if (window != null) {
+                        items.addAll(toItems(window.getList(ITEMS, Document.class, List.of())));
+                    }
+                }
+                skipped += count;
+            }
+            return Optional.of(new ItemPage(items, start, skipped, Head.of(head).version));
+        });
+    }
+
+    @Override
+    public Wishlist pushItem(String userId, WishlistItem item, int maxItems) {
+        return readRouting.transaction(mongoTemplate, List.of(userId), template -> {
+            Head head = head(template, userId, true);
+            if (push(template, head, item, maxItems)) {
+                head.version++;
+                saveHead(template, head);
+            }
+            return load(template, List.of(userId), false).getFirst();
+        });
+    }
+
+    @Override
+    public PushedItem pushItemProjected(String userId, WishlistItem item, int maxItems) {
+        return readRouting.transaction(mongoTemplate, List.of(userId), template -> {
+            Head head = head(template, userId, true);
+            if (push(template, head, item, maxItems)) {
+                head.version++;
+                saveHead(template, head);
+                return new PushedItem(head.wishlistId(), copy(item), head.itemCount);
+            }
+            return new PushedItem(head.wishlistId(), storedItem(template, userId, item.getItemId()), head.itemCount);
+        });
+    }
+
+    // One transaction per user, so a failure on one user does not undo the others and is reported for that user.
+    @Override
+    public PushedItems pushItems(Map<String, List<WishlistItem>> itemsByUser, int maxItems) {
+        Map<String, List<WishlistMutation.Result>> results = new LinkedHashMap<>();
+        Map<String, DataAccessException> failures = new LinkedHashMap<>();
+        itemsByUser.forEach((userId, items) -> {
+            try {
+                results.put(userId, applyMutations(userId, WishlistMutation.pushes(items), maxItems));
+            } catch (DataAccessException e) {
+                failures.put(userId, e);
+            }
+        });
+        return new PushedItems(results, failures);
+    }
+
+    @Override
+    public RemoveItemResult pullItem(String userId, String itemId) {
+        return readRouting.transaction(mongoTemplate, List.of(userId), template -> {
+            Head head = head(template, userId, false);
+            if (head == null) {
+                return RemoveItemResult.WISHLIST_NOT_FOUND;
+            }
+            if (!pull(template, head, itemId)) {
+                return RemoveItemResult.ITEM_NOT_FOUND;
+            }
+            head.version++;
+            saveHead(template, head);
+            return RemoveItemResult.REMOVED;
+        });
+    }
+
+    // The results carry the whole wishlist after each mutation, so the wishlist is loaded once, in the same
+    // snapshot the mutations run against, and the results are replayed on it.
+    @Override
+    public List<WishlistMutation.Result> applyMutations(String userId, List<WishlistMutation> mutations, int maxItems) {
+        if (mutations.isEmpty()) {
+            return List.of();
+        }
+        boolean creates = mutations.stream().anyMatch(WishlistMutation.Push.class::isInstance);
+        return readRouting.transaction(mongoTemplate, List.of(userId), template -> {
+            Head head = head(template, userId, creates);
+            if (head == null) {
+                return WishlistMutation.replay(null, null, userId, mutations, maxItems);
+            }
+            Wishlist before = head.created ? null : load(template, List.of(userId), false).getFirst();
+            int applied = 0;
+            for (WishlistMutation mutation : mutations) {
+                boolean changed = switch (mutation) {
+                    case WishlistMutation.Push push -> push(template, head, push.item(), maxItems);
+                    case WishlistMutation.Pull pull -> pull(template, head, pull.itemId());
+                };
+                applied += changed ? 1 : 0;
+            }
+            if (applied > 0) {
+                head.version += applied;
+                saveHead(template, head);
+            }
+            return WishlistMutation.replay(before, head.wishlistId(), userId, mutations, maxItems);
+        });
+    }
+
+    // A wishlist not migrated yet still holds its items in the head, so the head is checked when no bucket has it.
+    @Override
+    public boolean containsItem(String userId, String itemId) {
+        Query query = reads(Query.query(Criteria.where(USER_ID).is(userId).and(ITEMS + "." + ITEM_ID).is(itemId)));
+        return readRouting.read(mongoTemplate, List.of(userId), template ->
+                template.exists(query, WishlistBucket.class) || template.exists(query, Wishlist.class));
+    }
+
+    // The head is read before the buckets, so a write in between can only make the answer newer than its version.
+    @Override
+    public Optional<ItemPresence> findItemPresence(String userId, String itemId) {
+        return readRouting.read(mongoTemplate, List.of(userId), template -> {
+            Document fields = WishlistRepositoryCustomImpl.itemPresenceFields(itemId).append(BUCKET_COUNT, 1);
+            Document head = template.findOne(reads(new BasicQuery(new Document(USER_ID, userId), fields)),
+                    Document.class, heads(template));
+            if (head == null) {
+                return Optional.empty();
+            }
+            ItemPresence presence = WishlistRepositoryCustomImpl.itemPresence(head);
+            if (presence.present() || !isBucketed(head)) {
+                return Optional.of(presence);
+            }
+            Query bucketQuery = reads(Query.query(Criteria.where(USER_ID).is(userId).and(ITEMS + "." + ITEM_ID).is(itemId)));
+            return Optional.of(new ItemPresence(template.exists(bucketQuery, WishlistBucket.class), presence.version()));
+        });
+    }
+
+    @Override
+    public Map<String, Set<String>> findItemIds(Collection<String> userIds) {
+        return readRouting.read(mongoTemplate, userIds, template -> {
+            Query headQuery = reads(Query.query(Criteria.where(USER_ID).in(userIds)));
+            headQuery.fields().include(USER_ID, ITEMS + "." + ITEM_ID).exclude("_id");
+            Map<String, Set<String>> itemIds = new HashMap<>();
+            for (Document head : template.find(headQuery, Document.class, heads(template))) {
+                itemIds.put(head.getString(USER_ID), itemIdsOf(head));
+            }
+            if (itemIds.isEmpty()) {
+                return itemIds;
+            }
+            Query bucketQuery = reads(Query.query(Criteria.where(USER_ID).in(itemIds.keySet())));
+            bucketQuery.fields().include(USER_ID, ITEMS + "." + ITEM_ID).exclude("_id");
+            for (Document bucket : template.find(bucketQuery, Document.class, buckets(template))) {
+                itemIds.computeIfAbsent(bucket.getString(USER_ID), key -> new HashSet<>()).addAll(itemIdsOf(bucket));
+            }
+            return itemIds;
+        });
+    }
+
+    @Override
+    public OptionalLong findVersion(String userId) {
+        Query query = Query.query(Criteria.where(USER_ID).is(userId))
+                .withReadPreference(readRouting.cachedReadPreference());
+        query.fields().include(VERSION).exclude("_id");
+
+        Document document = readRouting.read(mongoTemplate, List.of(userId),
+                template -> template.findOne(query, Document.class, heads(template)));
+        if (document == null) {
+            return OptionalLong.empty();
+        }
+        Number version = document.get(VERSION, Number.class);
+        return OptionalLong.of(version != null ? version.longValue() : 0);
+    }
+
+    @Override
+    public Stream<String> streamUserIds() {
+        return streamUserIds(new Query());
+    }
+
+    @Override
+    public long estimatedWishlistCount() {
+        return mongoTemplate.estimatedCount(Wishlist.class);
+    }
+
+    /**
+     * Streams the userId of every wishlist still in the single-document shape; the stream holds a server cursor
+     * and must be closed.
+     */
+    public Stream<String> streamUnbucketedUserIds() {
+        return streamUserIds(Query.query(Criteria.where(BUCKET_COUNT).exists(false)));
+    }
+
+    /**
+     * Moves the items of the user's single-document wishlist into buckets, leaving its id and version as they
+     * are. Returns whether the wishlist was still in that shape.
+     */
+    public boolean migrate(String userId) {
+        return readRouting.transaction(mongoTemplate, List.of(userId), template -> {
+            Document stored = template.findOne(byUser(userId), Document.class, heads(template));
+            if (stored == null || isBucketed(stored)) {
+                return false;
+            }
+            migrate(template, stored);
+            return true;
+        });
+    }
+
+    private Stream<String> streamUserIds(Query query) {
+        query.fields().include(USER_ID).exclude("_id");
+        return mongoTemplate.stream(query, Document.class, heads(mongoTemplate))
+                .map(document -> document.getString(USER_ID))
+                .filter(Objects::nonNull);
+    }
+
+    private List<Wishlist> load(MongoTemplate template, Collection<String> userIds, boolean routed) {
+        Query headQuery = Query.query(Criteria.where(USER_ID).in(userIds));
+        List<Document> heads = template.find(routed ? reads(headQuery) : headQuery, Document.class, heads(template));
+        List<String> bucketed = heads.stream()
+                .filter(BucketedWishlistRepository::isBucketed)
+                .map(head -> head.getString(USER_ID))
+                .toList();
+
+        Map<String, List<WishlistItem>> itemsByUser = new HashMap<>();
+        if (!bucketed.isEmpty()) {
+            Query bucketQuery = Query.query(Criteria.where(USER_ID).in(bucketed)).with(Sort.by(USER_ID, BUCKET_NO));
+            for (WishlistBucket bucket : template.find(routed ? reads(bucketQuery) : bucketQuery, WishlistBucket.class)) {
+                itemsByUser.computeIfAbsent(bucket.getUserId(), key -> new ArrayList<>()).addAll(bucket.getItems());
+            }
+        }
+
+        List<Wishlist> wishlists = new ArrayList<>(heads.size());
+        for (Document head : heads) {
+            Wishlist wishlist = template.getConverter().read(Wishlist.class, head);
+            if (isBucketed(head)) {
+                wishlist.setItems(itemsByUser.getOrDefault(wishlist.getUserId(), List.of()));
+            }
+            wishlists.add(wishlist);
+        }
+        return wishlists;
+    }
+
+    // Returns the head of a bucketed wishlist, moving the items of a single-document one into buckets first;
+    // null when the user has no wishlist and none is to be created.
+    private Head head(MongoTemplate template, String userId, boolean create) {
+        Document stored = template.findOne(byUser(userId), Document.class, heads(template));
+        if (stored == null) {
+            if (!create) {
+                return null;
+            }
+            Head created = new Head(new ObjectId(), userId, true, 0, 0, 0);
+            template.insert(new Document("_id", created.id)
+                    .append(USER_ID, userId)
+                    .append(VERSION, 0L)
+                    .append(ITEM_COUNT, 0)
+                    .append(BUCKET_COUNT, 0), heads(template));
+            return created;
+        }
+        return isBucketed(stored) ? Head.of(stored) : migrate(template, stored);
+    }
+
+    private Head migrate(MongoTemplate template, Document stored) {
+        String userId = stored.getString(USER_ID);
+        List<Document> items = stored.getList(ITEMS, Document.class, List.of());
+        List<Document> buckets = new ArrayList<>();
+        for (int from = 0; from < items.size(); from += bucketSize) {
+            List<Document> slice = items.subList(from, Math.min(from + bucketSize, items.size()));
+            buckets.add(new Document(USER_ID, userId)
+                    .append(BUCKET_NO, buckets.size())
+                    .append(ITEMS, new ArrayList<>(slice))
+                    .append(ITEM_COUNT, slice.size()));
+        }
+        if (!buckets.isEmpty()) {
+            template.insert(buckets, buckets(template));
+        }
+        Number version = stored.get(VERSION, Number.class);
+        Head head = new Head(stored.get("_id"), userId, false, version != null ? version.longValue() : 0,
+                items.size(), buckets.size());
+        template.updateFirst(Query.query(Criteria.where("_id").is(head.id)), new Update()
+                .unset(ITEMS)
+                .set(VERSION, head.version)
+                .set(ITEM_COUNT, head.itemCount)
+                .set(BUCKET_COUNT, head.bucketCount), heads(template));
+        return head;
+    }
+
+    // Same guards as the default adapter: an itemId present in any bucket, or a full wishlist, leaves it unchanged.
+    private boolean push(MongoTemplate template, Head head, WishlistItem item, int maxItems) {
+        if (head.itemCount >= maxItems || template.exists(Query.query(Criteria.where(USER_ID).is(head.userId)
+                .and(ITEMS + "." + ITEM_ID).is(item.getItemId())), WishlistBucket.class)) {
+            return false;
+        }
+        Document stored = new Document(ITEM_ID, item.getItemId()).append("name", item.getName());
+        Query open = Query.query(Criteria.where(USER_ID).is(head.userId)
+                .and(BUCKET_NO).is(head.bucketCount - 1)
+                .and(ITEM_COUNT).lt(bucketSize));
+        if (head.bucketCount == 0 || template.updateFirst(open,
+                new Update().push(ITEMS, stored).inc(ITEM_COUNT, 1), WishlistBucket.class).getModifiedCount() == 0) {
+            template.insert(new Document(USER_ID, head.userId)
+                    .append(BUCKET_NO, head.bucketCount)
+                    .append(ITEMS, List.of(stored))
+                    .append(ITEM_COUNT, 1), buckets(template));
+            head.bucketCount++;
+        }
+        head.itemCount++;
+        return true;
+    }
+
+    private boolean pull(MongoTemplate template, Head head, String itemId) {
+        Query holding = Query.query(Criteria.where(USER_ID).is(head.userId).and(ITEMS + "." + ITEM_ID).is(itemId));
+        Update pulled = new Update().pull(ITEMS, new Document(ITEM_ID, itemId)).inc(ITEM_COUNT, -1);
+        if (template.updateFirst(holding, pulled, WishlistBucket.class).getModifiedCount() == 0) {
+            return false;
+        }
+        head.itemCount--;
+        return true;
+    }
+
+    // The head is written by every write that changed an item: this is what makes two such writes conflict.
+    private void saveHead(MongoTemplate template, Head head) {
+        template.updateFirst(Query.query(Criteria.where("_id").is(head.id)), new Update()
+                .set(VERSION, head.version)
+                .set(ITEM_COUNT, head.itemCount)
+                .set(BUCKET_COUNT, head.bucketCount), heads(template));
+    }
+
+    private WishlistItem storedItem(MongoTemplate template, String userId, String itemId) {
+        Query query = Query.query(Criteria.where(USER_ID).is(userId).and(ITEMS + "." + ITEM_ID).is(itemId));
+        query.fields().elemMatch(ITEMS, Criteria.where(ITEM_ID).is(itemId));
+        WishlistBucket bucket = template.findOne(query, WishlistBucket.class);
+        return bucket != null && !bucket.getItems().isEmpty() ? bucket.getItems().getFirst() : null;
+    }
+
+    // Only the queries behind the read use cases go through here; writes and the reads they make stay on the primary.
+    private Query reads(Query query) {
+        return query.withReadPreference(readRouting.readPreference());
+    }
+
+    private static Query byUser(String userId) {
+        return Query.query(Criteria.where(USER_ID).is(userId));
+    }
+
+    private static String heads(MongoTemplate template) {
+        return template.getCollectionName(Wishlist.class);
+    }
+
+    private static String buckets(MongoTemplate template) {
+        return template.getCollectionName(WishlistBucket.class);
+    }
+
+    private static boolean isBucketed(Document head) {
+        return head.containsKey(BUCKET_COUNT);
+    }
+
+    private static int itemsBefore(List<Document> directory, int bucketNo) {
+        int before = 0;
+        for (Document bucket : directory) {
+            if (intValue(bucket, BUCKET_NO) < bucketNo) {
+                before += intValue(bucket, ITEM_COUNT);
+            }
+        }
+        return before;
+    }
+
+    private static int intValue(Document document, String field) {
+        Number value = document.get(field, Number.class);
+        return value != null ? value.intValue() : 0;
+    }
+
+    private static Set<String> itemIdsOf(Document document) {
+        Set<String> ids = new HashSet<>();
+        for (Document item : document.getList(ITEMS, Document.class, List.of())) {
+            ids.add(item.getString(ITEM_ID));
+        }
+        return ids;
+    }
+
+    private static List<WishlistItem> toItems(List<Document> items) {
+        return items.stream()
+                .map(item -> WishlistItem.builder().itemId(item.getString(ITEM_ID)).name(item.getString("name")).build())
+                .toList();
+    }
+
+    private static WishlistItem copy(WishlistItem item) {
+        return WishlistItem.builder().itemId(item.getItemId()).name(item.getName()).build();
+    }
+
+    private static final class Head {
+
+        private final Object id;
+        private final boolean created;
+        private final String userId;
+        private long version;
+        private int itemCount;
+        private int bucketCount;
+
+        private Head(Object id, String userId, boolean created, long version, int itemCount, int bucketCount) {
+            this.id = id;
+            this.userId = userId;
+            this.created = created;
+            this.version = version;
+            this.itemCount = itemCount;
+            this.bucketCount = bucketCount;
+        }
+
+        private static Head of(Document stored) {
+            return new Head(stored.get("_id"), stored.getString(USER_ID), false,
+                    Optional.ofNullable(stored.get(VERSION, Number.class)).map(Number::longValue).orElse(0L),
+                    intValue(stored, ITEM_COUNT), intValue(stored, BUCKET_COUNT));
+        }
+
+        private String wishlistId() {
+            return String.valueOf(id);
+        }
+    }
+}
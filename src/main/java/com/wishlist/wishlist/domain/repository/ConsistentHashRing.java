@@ -0,0 +1,64 @@
+package com.wishlist.wishlist.domain.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Consistent hashing over named nodes. Each node is placed at {@code virtualNodes} points of a 64-bit ring,
+ * derived from its name only, and a key belongs to the first point at or after its own hash. Adding a node to
+ * N moves about 1/(N+1) of the keys, all of them to the new node; removing one moves only its own keys.
+ */
+public final class ConsistentHashRing<T> {
+
+    private final NavigableMap<Long, T> ring = new TreeMap<>();
+    private final Map<String, T> nodes;
+
+    public ConsistentHashRing(Map<String, T> nodes, int virtualNodes) {
+        if (nodes.isEmpty()) {
+            throw new IllegalArgumentException("A hash ring needs at least one node");
+        }
+        if (virtualNodes < 1) {
+            throw new IllegalArgumentException("virtualNodes must be at least 1: " + virtualNodes);
+        }
+        this.nodes = new LinkedHashMap<>(nodes);
+        nodes.forEach((name, node) -> {
+            for (int i = 0; i < virtualNodes; i++) {
+                ring.put(hash(name + "#" + i), node);
+            }
+        });
+    }
+
+    public T nodeFor(String key) {
+        Map.Entry<Long, T> owner = ring.ceilingEntry(hash(key));
+        return (owner != null ? owner : ring.firstEntry()).getValue();
+    }
+
+    public Collection<T> nodes() {
+        return nodes.values();
+    }
+
+    // MD5 rather than String.hashCode: the placement must not change between JVMs and similar keys such as
+    // "user1" and "user2" must land far apart.
+    static long hash(String key) {
+        byte[] digest = md5().digest(key.getBytes(StandardCharsets.UTF_8));
+        long hash = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            hash = (hash << 8) | (digest[i] & 0xFF);
+        }
+        return hash;
+    }
+
+    private static MessageDigest md5() {
+        try {
+            return MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 is required by every Java platform", e);
+        }
+    }
+}
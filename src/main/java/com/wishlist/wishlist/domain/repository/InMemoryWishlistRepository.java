@@ -0,0 +1,221 @@
+package com.wishlist.wishlist.domain.repository;
+
+import com.wishlist.wishlist.domain.model.ItemPage;
+import com.wishlist.wishlist.domain.model.ItemPresence;
+import com.wishlist.wishlist.domain.model.PushedItem;
+import com.wishlist.wishlist.domain.model.PushedItems;
+import com.wishlist.wishlist.domain.model.RemoveItemResult;
+import com.wishlist.wishlist.domain.model.Wishlist;
+import com.wishlist.wishlist.domain.model.WishlistItem;
+import com.wishlist.wishlist.domain.model.WishlistItems;
+import com.wishlist.wishlist.domain.model.WishlistMutation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Process-local {@link WishlistRepository} for benchmarks, load tests and nodes without a Mongo server.
+ * Writes to a user's wishlist are serialized by one of a fixed set of locks chosen by userId, so the
+ * guarded append stays atomic without a global lock; each write stores a new copy, so reads never lock
+ * and every returned wishlist is a detached copy, as one mapped from BSON would be.
+ */
+@Repository
+@Profile("memory")
+public class InMemoryWishlistRepository implements WishlistRepository {
+
+    private final ConcurrentHashMap<String, Wishlist> wishlists = new ConcurrentHashMap<>();
+    private final ReentrantLock[] stripes;
+
+    public InMemoryWishlistRepository(@Value("${wishlist.memory.lock-stripes:64}") int lockStripes) {
+        if (lockStripes <= 0) {
+            throw new IllegalArgumentException("lockStripes must be positive");
+        }
+        this.stripes = new ReentrantLock[lockStripes];
+        for (int i = 0; i < lockStripes; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    @Override
+    public Optional<Wishlist> findByUserId(String userId) {
+        return Optional.ofNullable(wishlists.get(userId)).map(InMemoryWishlistRepository::copy);
+    }
+
+    @Override
+    public Optional<ItemPage> findItemPage(String userId, String afterItemId, int offset, int limit) {
+        return Optional.ofNullable(wishlists.get(userId)).map(wishlist -> ItemPage.of(wishlist, afterItemId, offset, limit));
+    }
+
+    @Override
+    public List<Wishlist> findByUserIdIn(Collection<String> userIds) {
+        return userIds.stream()
+                .distinct()
+                .map(wishlists::get)
+                .filter(Objects::nonNull)
+                .map(InMemoryWishlistRepository::copy)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Wishlist pushItem(String userId, WishlistItem item, int maxItems) {
+        return copy(update(userId, wishlist -> append(wishlist, List.of(item), maxItems)));
+    }
+
+    @Override
+    public PushedItem pushItemProjected(String userId, WishlistItem item, int maxItems) {
+        return PushedItem.of(update(userId, wishlist -> append(wishlist, List.of(item), maxItems)), item.getItemId());
+    }
+
+    @Override
+    public PushedItems pushItems(Map<String, List<WishlistItem>> itemsByUser, int maxItems) {
+        Map<String, List<WishlistMutation.Result>> results = new LinkedHashMap<>();
+        itemsByUser.forEach((userId, items) ->
+                results.put(userId, applyMutations(userId, WishlistMutation.pushes(items), maxItems)));
+        return new PushedItems(results, Map.of());
+    }
+
+    @Override
+    public RemoveItemResult pullItem(String userId, String itemId) {
+        ReentrantLock lock = lockFor(userId);
+        lock.lock();
+        try {
+            Wishlist stored = wishlists.get(userId);
+            if (stored == null) {
+                return RemoveItemResult.WISHLIST_NOT_FOUND;
+            }
+            Wishlist updated = copy(stored);
+            if (!updated.getItems().removeItem(itemId)) {
+                return RemoveItemResult.ITEM_NOT_FOUND;
+            }
+            updated.setVersion(updated.getVersion() + 1);
+            wishlists.put(userId, updated);
+            return RemoveItemResult.REMOVED;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public List<WishlistMutation.Result> applyMutations(String userId, List<WishlistMutation> mutations, int maxItems) {
+        ReentrantLock lock = lockFor(userId);
+        lock.lock();
+        try {
+            Wishlist stored = wishlists.get(userId);
+            List<WishlistMutation.Result> results = WishlistMutation.replay(
+                    stored, UUID.randomUUID().toString(), userId, mutations, maxItems);
+            if (!results.isEmpty()) {
+                Wishlist updated = results.getLast().wishlist();
+                if (updated != null && (stored == null || updated.getVersion() != stored.getVersion())) {
+                    wishlists.put(userId, copy(updated));
+                }
+            }
+            return results;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean containsItem(String userId, String itemId) {
+        Wishlist wishlist = wishlists.get(userId);
+        return wishlist != null && wishlist.getItems().containsItem(itemId);
+    }
+
+    @Override
+    public Optional<ItemPresence> findItemPresence(String userId, String itemId) {
+        return Optional.ofNullable(wishlists.get(userId)).map(wishlist -> ItemPresence.of(wishlist, itemId));
+    }
+
+    @Override
+    public Map<String, Set<String>> findItemIds(Collection<String> userIds) {
+        Map<String, Set<String>> itemIds = new LinkedHashMap<>();
+        for (String userId : userIds) {
+            Wishlist wishlist = wishlists.get(userId);
+            if (wishlist != null) {
+                itemIds.put(userId, new HashSet<>(wishlist.getItems().itemIds()));
+            }
+        }
+        return itemIds;
+    }
+
+    @Override
+    public OptionalLong findVersion(String userId) {
+        Wishlist wishlist = wishlists.get(userId);
+        return wishlist != null ? OptionalLong.of(wishlist.getVersion()) : OptionalLong.empty();
+    }
+
+    @Override
+    public Stream<String> streamUserIds() {
+        return wishlists.keySet().stream();
+    }
+
+    @Override
+    public long estimatedWishlistCount() {
+        return wishlists.mappingCount();
+    }
+
+    // Creates the wishlist on first write, like the upsert of the Mongo adapter.
+    private Wishlist update(String userId, UnaryOperator<Wishlist> change) {
+        ReentrantLock lock = lockFor(userId);
+        lock.lock();
+        try {
+            Wishlist stored = wishlists.get(userId);
+            Wishlist updated = change.apply(stored != null
+                    ? copy(stored)
+                    : Wishlist.builder().id(UUID.randomUUID().toString()).userId(userId).build());
+            wishlists.put(userId, updated);
+            return updated;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static Wishlist append(Wishlist wishlist, List<WishlistItem> items, int maxItems) {
+        int sizeBefore = wishlist.getItems().size();
+        for (WishlistItem item : items) {
+            if (wishlist.getItems().size() >= maxItems) {
+                break;
+            }
+            if (!wishlist.getItems().containsItem(item.getItemId())) {
+                wishlist.getItems().add(WishlistItem.builder().itemId(item.getItemId()).name(item.getName()).build());
+            }
+        }
+        if (wishlist.getItems().size() > sizeBefore) {
+            wishlist.setVersion(wishlist.getVersion() + 1);
+        }
+        return wishlist;
+    }
+
+    private ReentrantLock lockFor(String userId) {
+        return stripes[Math.floorMod(userId.hashCode(), stripes.length)];
+    }
+
+    private static Wishlist copy(Wishlist wishlist) {
+        WishlistItems items = new WishlistItems();
+        for (WishlistItem item : wishlist.getItems()) {
+            items.add(WishlistItem.builder().itemId(item.getItemId()).name(item.getName()).build());
+        }
+        return Wishlist.builder()
+                .id(wishlist.getId())
+                .userId(wishlist.getUserId())
+                .items(items)
+                .version(wishlist.getVersion())
+                .build();
+    }
+}
@@ -0,0 +1,196 @@
+package com.wishlist.wishlist.domain.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mongodb.ClientSessionOptions;
+import com.mongodb.MongoException;
+import com.mongodb.ReadConcern;
+import com.mongodb.ReadPreference;
+import com.mongodb.TransactionOptions;
+import com.mongodb.WriteConcern;
+import com.mongodb.client.ClientSession;
+import org.bson.BsonDocument;
+import org.bson.BsonTimestamp;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Decides where {@link WishlistRepositoryCustomImpl} sends its queries. The read-only queries behind the read use
+ * cases carry {@link #readPreference()}, except those whose answer is cached or tagged onto a cached answer, which
+ * carry {@link #cachedReadPreference()}; writes, and the reads they make, stay on the primary. With read-your-writes
+ * on, a write runs in a causally consistent session whose operation time is kept for its users during the window;
+ * a read of such a user runs in a session advanced to that time, so whichever member serves it first waits until
+ * it has applied the write. Operation times are kept per instance, so the guarantee holds for the writes this
+ * instance made. Writes spanning several documents run in a transaction instead, see {@link #transaction}.
+ */
+public class MongoReadRouting {
+
+    private static final ClientSessionOptions CAUSAL = ClientSessionOptions.builder().causallyConsistent(true).build();
+    private static final long MAXIMUM_TRACKED_USERS = 100_000;
+    private static final TransactionOptions TRANSACTION = TransactionOptions.builder()
+            .readPreference(ReadPreference.primary())
+            .readConcern(ReadConcern.SNAPSHOT)
+            .writeConcern(WriteConcern.MAJORITY)
+            .build();
+    private static final int TRANSACTION_ATTEMPTS = 3;
+    private static final int COMMIT_ATTEMPTS = 3;
+
+    private final ReadPreference readPreference;
+    private final Cache<String, CausalToken> lastWrites;
+
+    public MongoReadRouting(ReadPreference readPreference, boolean readYourWrites, Duration window) {
+        this.readPreference = readPreference;
+        this.lastWrites = readYourWrites
+                ? Caffeine.newBuilder().expireAfterWrite(window).maximumSize(MAXIMUM_TRACKED_USERS).build()
+                : null;
+    }
+
+    public static MongoReadRouting primary() {
+        return new MongoReadRouting(ReadPreference.primary(), false, Duration.ZERO);
+    }
+
+    public ReadPreference readPreference() {
+        return readPreference;
+    }
+
+    public boolean isReadYourWrites() {
+        return lastWrites != null;
+    }
+
+    /**
+     * The preference of the reads that fill the wishlist cache or are compared with it: {@link #readPreference()}
+     * only with read-your-writes on, the primary otherwise. A lagging member could otherwise answer with a state
+     * older than this instance's own write, which would then be cached and served with a version older than the
+     * one the write returned.
+     */
+    public ReadPreference cachedReadPreference() {
+        return lastWrites != null ? readPreference : ReadPreference.primary();
+    }
+
+    <T> T write(MongoTemplate mongoTemplate, Collection<String> userIds, Function<MongoTemplate, T> write) {
+        if (lastWrites == null) {
+            return write.apply(mongoTemplate);
+        }
+        try (ClientSession session = mongoTemplate.getMongoDatabaseFactory().getSession(CAUSAL)) {
+            T result = write.apply(mongoTemplate.withSession(session));
+            remember(session, userIds);
+            return result;
+        }
+    }
+
+    /**
+     * Runs the write in a snapshot transaction on the primary, which needs a replica set or a sharded cluster.
+     * A transaction aborted by a write conflict with a concurrent one runs again, up to three times in all;
+     * a conflict left after that is reported as a {@link ConcurrencyFailureException}, which the use cases retry
+     * with backoff. A commit whose outcome is unknown is sent again, up to three times; any other commit failure
+     * is translated like the template's own. With read-your-writes on, the commit is remembered like any other write.
+     */
+    <T> T transaction(MongoTemplate mongoTemplate, Collection<String> userIds, Function<MongoTemplate, T> write) {
+        try (ClientSession session = mongoTemplate.getMongoDatabaseFactory().getSession(CAUSAL)) {
+            MongoTemplate bound = mongoTemplate.withSession(session);
+            for (int attempt = 1; ; attempt++) {
+                session.startTransaction(TRANSACTION);
+                T result;
+                try {
+                    result = write.apply(bound);
+                } catch (RuntimeException e) {
+                    if (session.hasActiveTransaction()) {
+                        session.abortTransaction();
+                    }
+                    if (!isTransient(e)) {
+                        throw e;
+                    }
+                    retryOrGiveUp(attempt, e);
+                    continue;
+                }
+                try {
+                    commit(session);
+                } catch (MongoException e) {
+                    if (!isTransient(e)) {
+                        throw translate(mongoTemplate, e);
+                    }
+                    retryOrGiveUp(attempt, e);
+                    continue;
+                }
+                remember(session, userIds);
+                return result;
+            }
+        }
+    }
+
+    // Committing again is safe: the server applies a transaction's commit at most once.
+    private static void commit(ClientSession session) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                session.commitTransaction();
+                return;
+            } catch (MongoException e) {
+                if (attempt >= COMMIT_ATTEMPTS
+                        || !e.hasErrorLabel(MongoException.UNKNOWN_TRANSACTION_COMMIT_RESULT_LABEL)) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private static RuntimeException translate(MongoTemplate mongoTemplate, MongoException failure) {
+        RuntimeException translated = mongoTemplate.getExceptionTranslator().translateExceptionIfPossible(failure);
+        return translated != null ? translated : failure;
+    }
+
+    private static void retryOrGiveUp(int attempt, RuntimeException conflict) {
+        if (attempt >= TRANSACTION_ATTEMPTS) {
+            throw new ConcurrencyFailureException("Wishlist transaction still conflicting after " + attempt + " attempts", conflict);
+        }
+    }
+
+    // The template translates driver exceptions, so the label is looked up along the causes.
+    static boolean isTransient(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof MongoException mongo
+                    && mongo.hasErrorLabel(MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void remember(ClientSession session, Collection<String> userIds) {
+        if (lastWrites != null && session.getOperationTime() != null) {
+            CausalToken token = new CausalToken(session.getOperationTime(), session.getClusterTime());
+            userIds.forEach(userId -> lastWrites.asMap().merge(userId, token, CausalToken::later));
+        }
+    }
+
+    <T> T read(MongoTemplate mongoTemplate, Collection<String> userIds, Function<MongoTemplate, T> read) {
+        List<CausalToken> tokens = lastWrites == null ? List.of() : userIds.stream()
+                .map(lastWrites::getIfPresent)
+                .filter(Objects::nonNull)
+                .toList();
+        if (tokens.isEmpty()) {
+            return read.apply(mongoTemplate);
+        }
+        try (ClientSession session = mongoTemplate.getMongoDatabaseFactory().getSession(CAUSAL)) {
+            for (CausalToken token : tokens) {
+                if (token.clusterTime() != null) {
+                    session.advanceClusterTime(token.clusterTime());
+                }
+                session.advanceOperationTime(token.operationTime());
+            }
+            return read.apply(mongoTemplate.withSession(session));
+        }
+    }
+
+    private record CausalToken(BsonTimestamp operationTime, BsonDocument clusterTime) {
+
+        private CausalToken later(CausalToken other) {
+            return other.operationTime.compareTo(operationTime) > 0 ? other : this;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.wishlist.wishlist.domain.repository;
+
+import com.wishlist.wishlist.domain.model.Wishlist;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface MongoWishlistRepository extends MongoRepository<Wishlist, String>, WishlistRepositoryCustom, WishlistRepository {
+}
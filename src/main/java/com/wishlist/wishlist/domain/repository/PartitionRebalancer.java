@@ -0,0 +1,61 @@
+package com.wishlist.wishlist.domain.repository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.stream.Stream;
+
+/**
+ * Moves, while the application keeps serving, every wishlist whose owner changed between the previous and the
+ * current ring. Each previous partition's userIds are streamed with a cursor and only the users it owned on the
+ * previous ring and no longer owns are moved, one by one through {@link PartitionedWishlistRepository#move}, the
+ * same move requests make on demand. Running it again after an interruption only scans the partitions again.
+ */
+public class PartitionRebalancer {
+
+    private static final Logger log = LoggerFactory.getLogger(PartitionRebalancer.class);
+    private static final long PROGRESS_INTERVAL = 10_000;
+
+    static final String MOVED = "wishlist.partition.moved";
+
+    private final PartitionedWishlistRepository repository;
+    private final Counter moved;
+
+    public PartitionRebalancer(PartitionedWishlistRepository repository, MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.moved = Counter.builder(MOVED)
+                .description("Wishlists moved to their partition on the current ring")
+                .register(meterRegistry);
+    }
+
+    public Result rebalance() {
+        if (!repository.isRebalancing()) {
+            return new Result(0, 0);
+        }
+        long scanned = 0;
+        long movedHere = 0;
+        for (WishlistPartition partition : repository.previousPartitions()) {
+            try (Stream<String> userIds = partition.repository().streamUserIds()) {
+                for (String userId : (Iterable<String>) userIds::iterator) {
+                    scanned++;
+                    if (repository.previousPartitionFor(userId) == partition
+                            && repository.partitionFor(userId) != partition
+                            && repository.move(userId)) {
+                        movedHere++;
+                        moved.increment();
+                    }
+                    if (scanned % PROGRESS_INTERVAL == 0) {
+                        log.info("Rebalancing wishlists - scanned: {}, moved: {}", scanned, movedHere);
+                    }
+                }
+            }
+        }
+        log.info("Rebalanced wishlists - scanned: {}, moved: {}", scanned, movedHere);
+        return new Result(scanned, movedHere);
+    }
+
+    public record Result(long scanned, long moved) {
+    }
+}
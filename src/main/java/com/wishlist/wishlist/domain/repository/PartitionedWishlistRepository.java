@@ -0,0 +1,203 @@
+package com.wishlist.wishlist.domain.repository;
+
+import com.wishlist.wishlist.domain.model.ItemPage;
+import com.wishlist.wishlist.domain.model.ItemPresence;
+import com.wishlist.wishlist.domain.model.PushedItem;
+import com.wishlist.wishlist.domain.model.PushedItems;
+import com.wishlist.wishlist.domain.model.RemoveItemResult;
+import com.wishlist.wishlist.domain.model.Wishlist;
+import com.wishlist.wishlist.domain.model.WishlistItem;
+import com.wishlist.wishlist.domain.model.WishlistMutation;
+import org.bson.Document;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Spreads wishlists over several partitions by a consistent hash of the userId: every operation on a user goes
+ * to the partition owning it, and operations on several users are split per owner. While a rebalance is in
+ * progress the previous ring is kept as well, and a user whose owner changed is moved to its new partition
+ * before the operation runs, so it never sees the wishlist in two places; {@link PartitionRebalancer} moves the
+ * remaining ones in the background.
+ */
+public class PartitionedWishlistRepository implements WishlistRepository {
+
+    private final ConsistentHashRing<WishlistPartition> ring;
+    private final ConsistentHashRing<WishlistPartition> previousRing;
+    private final List<WishlistPartition> partitions;
+
+    public PartitionedWishlistRepository(ConsistentHashRing<WishlistPartition> ring,
+                                         ConsistentHashRing<WishlistPartition> previousRing) {
+        this.ring = ring;
+        this.previousRing = previousRing;
+        Set<WishlistPartition> all = new LinkedHashSet<>(ring.nodes());
+        if (previousRing != null) {
+            all.addAll(previousRing.nodes());
+        }
+        this.partitions = List.copyOf(all);
+    }
+
+    public boolean isRebalancing() {
+        return previousRing != null;
+    }
+
+    public List<WishlistPartition> partitions() {
+        return partitions;
+    }
+
+    Collection<WishlistPartition> previousPartitions() {
+        return previousRing != null ? previousRing.nodes() : List.of();
+    }
+
+    WishlistPartition partitionFor(String userId) {
+        return ring.nodeFor(userId);
+    }
+
+    WishlistPartition previousPartitionFor(String userId) {
+        return previousRing != null ? previousRing.nodeFor(userId) : ring.nodeFor(userId);
+    }
+
+    /**
+     * Moves the user's wishlist from its previous partition to its current one, if it is still in the previous
+     * one. The copy is inserted only when the target holds no wishlist for the user (the unique userId index
+     * rejects a second one) and the source is removed afterwards, so concurrent moves of the same user, here
+     * or on another instance, leave exactly one copy. Returns whether this call found a wishlist to move.
+     */
+    public boolean move(String userId) {
+        WishlistPartition source = previousPartitionFor(userId);
+        WishlistPartition target = partitionFor(userId);
+        if (source == target) {
+            return false;
+        }
+        String collection = source.mongoTemplate().getCollectionName(Wishlist.class);
+        Document stored = source.mongoTemplate().findOne(
+                Query.query(Criteria.where("userId").is(userId)), Document.class, collection);
+        if (stored == null) {
+            return false;
+        }
+        try {
+            target.mongoTemplate().insert(stored, collection);
+        } catch (DuplicateKeyException alreadyMoved) {
+            // Another move of the same user inserted it first; removing the source copy is still ours to do.
+        }
+        source.mongoTemplate().remove(Query.query(Criteria.where("_id").is(stored.get("_id"))), collection);
+        return true;
+    }
+
+    private WishlistRepository owner(String userId) {
+        if (previousRing != null) {
+            move(userId);
+        }
+        return partitionFor(userId).repository();
+    }
+
+    private <V> Map<WishlistRepository, List<V>> byOwner(Collection<V> values, Function<V, String> userId) {
+        Map<WishlistRepository, List<V>> grouped = new LinkedHashMap<>();
+        for (V value : values) {
+            grouped.computeIfAbsent(owner(userId.apply(value)), key -> new ArrayList<>()).add(value);
+        }
+        return grouped;
+    }
+
+    @Override
+    public Optional<Wishlist> findByUserId(String userId) {
+        return owner(userId).findByUserId(userId);
+    }
+
+    @Override
+    public Optional<ItemPage> findItemPage(String userId, String afterItemId, int offset, int limit) {
+        return owner(userId).findItemPage(userId, afterItemId, offset, limit);
+    }
+
+    @Override
+    public List<Wishlist> findByUserIdIn(Collection<String> userIds) {
+        List<Wishlist> wishlists = new ArrayList<>();
+        byOwner(userIds, userId -> userId).forEach((repository, owned) -> wishlists.addAll(repository.findByUserIdIn(owned)));
+        return wishlists;
+    }
+
+    @Override
+    public Wishlist pushItem(String userId, WishlistItem item, int maxItems) {
+        return owner(userId).pushItem(userId, item, maxItems);
+    }
+
+    @Override
+    public PushedItem pushItemProjected(String userId, WishlistItem item, int maxItems) {
+        return owner(userId).pushItemProjected(userId, item, maxItems);
+    }
+
+    @Override
+    public PushedItems pushItems(Map<String, List<WishlistItem>> itemsByUser, int maxItems) {
+        Map<String, List<WishlistMutation.Result>> results = new HashMap<>();
+        Map<String, DataAccessException> failures = new HashMap<>();
+        byOwner(itemsByUser.entrySet(), Map.Entry::getKey).forEach((repository, owned) -> {
+            Map<String, List<WishlistItem>> ownedItems = new LinkedHashMap<>();
+            owned.forEach(entry -> ownedItems.put(entry.getKey(), entry.getValue()));
+            try {
+                PushedItems pushed = repository.pushItems(ownedItems, maxItems);
+                results.putAll(pushed.results());
+                failures.putAll(pushed.failures());
+            } catch (DataAccessException e) {
+                ownedItems.keySet().forEach(userId -> failures.put(userId, e));
+            }
+        });
+        return new PushedItems(results, failures);
+    }
+
+    @Override
+    public RemoveItemResult pullItem(String userId, String itemId) {
+        return owner(userId).pullItem(userId, itemId);
+    }
+
+    @Override
+    public List<WishlistMutation.Result> applyMutations(String userId, List<WishlistMutation> mutations, int maxItems) {
+        return owner(userId).applyMutations(userId, mutations, maxItems);
+    }
+
+    @Override
+    public boolean containsItem(String userId, String itemId) {
+        return owner(userId).containsItem(userId, itemId);
+    }
+
+    @Override
+    public Optional<ItemPresence> findItemPresence(String userId, String itemId) {
+        return owner(userId).findItemPresence(userId, itemId);
+    }
+
+    @Override
+    public Map<String, Set<String>> findItemIds(Collection<String> userIds) {
+        Map<String, Set<String>> itemIds = new HashMap<>();
+        byOwner(userIds, userId -> userId).forEach((repository, owned) -> itemIds.putAll(repository.findItemIds(owned)));
+        return itemIds;
+    }
+
+    @Override
+    public OptionalLong findVersion(String userId) {
+        return owner(userId).findVersion(userId);
+    }
+
+    // Every partition, previous ones included; a user being moved while the stream runs may appear twice.
+    @Override
+    public Stream<String> streamUserIds() {
+        return partitions.stream().flatMap(partition -> partition.repository().streamUserIds());
+    }
+
+    @Override
+    public long estimatedWishlistCount() {
+        return partitions.stream().mapToLong(partition -> partition.repository().estimatedWishlistCount()).sum();
+    }
+}
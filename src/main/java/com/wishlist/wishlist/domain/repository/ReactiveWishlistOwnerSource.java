@@ -0,0 +1,38 @@
+package com.wishlist.wishlist.domain.repository;
+
+import com.wishlist.wishlist.domain.model.Wishlist;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.stream.Stream;
+
+/**
+ * {@link WishlistOwnerSource} of the {@code reactive} profile, so the owner filter is built without a blocking
+ * Mongo client. Only the filter's startup and scheduled rebuilds call it, never an event loop thread, so it
+ * blocks on the reactive driver.
+ */
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveWishlistOwnerSource implements WishlistOwnerSource {
+
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @Override
+    public Stream<String> streamUserIds() {
+        Query query = new Query();
+        query.fields().include("userId").exclude("_id");
+        return reactiveMongoTemplate.find(query, Document.class, reactiveMongoTemplate.getCollectionName(Wishlist.class))
+                .mapNotNull(document -> document.getString("userId"))
+                .toStream();
+    }
+
+    @Override
+    public long estimatedWishlistCount() {
+        return reactiveMongoTemplate.estimatedCount(Wishlist.class).blockOptional().orElse(0L);
+    }
+}
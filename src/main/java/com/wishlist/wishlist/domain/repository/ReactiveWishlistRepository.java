@@ -0,0 +1,9 @@
+package com.wishlist.wishlist.domain.repository;
+
+import com.wishlist.wishlist.domain.model.Wishlist;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveWishlistRepository extends ReactiveMongoRepository<Wishlist, String>, ReactiveWishlistRepositoryCustom {
+    Mono<Wishlist> findByUserId(String userId);
+}
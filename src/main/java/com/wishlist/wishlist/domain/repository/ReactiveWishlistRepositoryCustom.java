@@ -0,0 +1,18 @@
+package com.wishlist.wishlist.domain.repository;
+
+import com.wishlist.wishlist.domain.model.RemoveItemResult;
+import com.wishlist.wishlist.domain.model.Wishlist;
+import com.wishlist.wishlist.domain.model.WishlistItem;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link WishlistRepositoryCustom}, issuing the same server-side operations.
+ */
+public interface ReactiveWishlistRepositoryCustom {
+
+    Mono<Wishlist> pushItem(String userId, WishlistItem item, int maxItems);
+
+    Mono<RemoveItemResult> pullItem(String userId, String itemId);
+
+    Mono<Boolean> containsItem(String userId, String itemId);
+}
@@ -0,0 +1,43 @@
+package com.wishlist.wishlist.domain.repository;
+
+import com.wishlist.wishlist.domain.model.RemoveItemResult;
+import com.wishlist.wishlist.domain.model.Wishlist;
+import com.wishlist.wishlist.domain.model.WishlistItem;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import reactor.core.publisher.Mono;
+
+@RequiredArgsConstructor
+public class ReactiveWishlistRepositoryCustomImpl implements ReactiveWishlistRepositoryCustom {
+
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @Override
+    public Mono<Wishlist> pushItem(String userId, WishlistItem item, int maxItems) {
+        Query query = Query.query(Criteria.where("userId").is(userId));
+        FindAndModifyOptions options = FindAndModifyOptions.options()
+                .upsert(true)
+                .returnNew(true);
+        return reactiveMongoTemplate.findAndModify(query,
+                WishlistRepositoryCustomImpl.pushItemUpdate(item, maxItems), options, Wishlist.class);
+    }
+
+    @Override
+    public Mono<RemoveItemResult> pullItem(String userId, String itemId) {
+        return reactiveMongoTemplate.updateFirst(WishlistRepositoryCustomImpl.pullItemQuery(userId, itemId),
+                        WishlistRepositoryCustomImpl.pullItemUpdate(itemId), Wishlist.class)
+                .flatMap(result -> result.getModifiedCount() > 0
+                        ? Mono.just(RemoveItemResult.REMOVED)
+                        : reactiveMongoTemplate.exists(Query.query(Criteria.where("userId").is(userId)), Wishlist.class)
+                                .map(exists -> exists ? RemoveItemResult.ITEM_NOT_FOUND : RemoveItemResult.WISHLIST_NOT_FOUND));
+    }
+
+    @Override
+    public Mono<Boolean> containsItem(String userId, String itemId) {
+        Query query = Query.query(Criteria.where("userId").is(userId).and("items.itemId").is(itemId));
+        return reactiveMongoTemplate.exists(query, Wishlist.class);
+    }
+}
@@ -0,0 +1,54 @@
+package com.wishlist.wishlist.domain.repository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.stream.Stream;
+
+/**
+ * Moves, while the application keeps serving, every wishlist still in the single-document shape into buckets.
+ * The userIds of those wishlists are streamed with a cursor and each one is migrated through
+ * {@link BucketedWishlistRepository#migrate}, in its own transaction; a wishlist a request migrated in the
+ * meantime is skipped. Running it again after an interruption only scans what is left.
+ */
+public class WishlistBucketMigrator {
+
+    private static final Logger log = LoggerFactory.getLogger(WishlistBucketMigrator.class);
+    private static final long PROGRESS_INTERVAL = 10_000;
+
+    static final String MIGRATED = "wishlist.bucket.migrated";
+
+    private final BucketedWishlistRepository repository;
+    private final Counter migrated;
+
+    public WishlistBucketMigrator(BucketedWishlistRepository repository, MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.migrated = Counter.builder(MIGRATED)
+                .description("Wishlists moved from the single-document shape into buckets")
+                .register(meterRegistry);
+    }
+
+    public Result migrate() {
+        long scanned = 0;
+        long migratedHere = 0;
+        try (Stream<String> userIds = repository.streamUnbucketedUserIds()) {
+            for (String userId : (Iterable<String>) userIds::iterator) {
+                scanned++;
+                if (repository.migrate(userId)) {
+                    migratedHere++;
+                    migrated.increment();
+                }
+                if (scanned % PROGRESS_INTERVAL == 0) {
+                    log.info("Migrating wishlists to buckets - scanned: {}, migrated: {}", scanned, migratedHere);
+                }
+            }
+        }
+        log.info("Migrated wishlists to buckets - scanned: {}, migrated: {}", scanned, migratedHere);
+        return new Result(scanned, migratedHere);
+    }
+
+    public record Result(long scanned, long migrated) {
+    }
+}
@@ -0,0 +1,17 @@
+package com.wishlist.wishlist.domain.repository;
+
+import java.util.stream.Stream;
+
+/**
+ * The stored wishlists the owner filter is built from. Every {@link WishlistRepository} is one; under the
+ * {@code reactive} profile, which has no blocking repository, {@link ReactiveWishlistOwnerSource} reads them.
+ */
+public interface WishlistOwnerSource {
+
+    /**
+     * Streams the userId of every stored wishlist; the stream holds a server cursor and must be closed.
+     */
+    Stream<String> streamUserIds();
+
+    long estimatedWishlistCount();
+}
@@ -0,0 +1,10 @@
+package com.wishlist.wishlist.domain.repository;
+
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+/**
+ * One storage partition: a database, possibly on a server shared with other partitions, and the repository
+ * reading and writing its wishlists. The name, not the location, places the partition on the hash ring.
+ */
+public record WishlistPartition(String name, MongoTemplate mongoTemplate, WishlistRepository repository) {
+}
@@ -1,10 +1,14 @@
 package com.wishlist.wishlist.domain.repository;
 
 import com.wishlist.wishlist.domain.model.Wishlist;
-import org.springframework.data.mongodb.repository.MongoRepository;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
 
-public interface WishlistRepository extends MongoRepository<Wishlist, String> {
-    Optional<Wishlist> findByUserId(String userId);
-}
\ No newline at end of file
+/**
+ * Storage port for wishlists. {@link MongoWishlistRepository} backs it by default and
+ * {@link InMemoryWishlistRepository} under the {@code memory} profile.
+ */
+public interface WishlistRepository extends WishlistRepositoryCustom {
+    List<Wishlist> findByUserIdIn(Collection<String> userIds);
+}
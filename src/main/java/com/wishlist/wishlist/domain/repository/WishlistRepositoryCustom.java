@@ -0,0 +1,91 @@
+package com.wishlist.wishlist.domain.repository;
+
+import com.wishlist.wishlist.domain.model.ItemPage;
+import com.wishlist.wishlist.domain.model.ItemPresence;
+import com.wishlist.wishlist.domain.model.PushedItem;
+import com.wishlist.wishlist.domain.model.PushedItems;
+import com.wishlist.wishlist.domain.model.RemoveItemResult;
+import com.wishlist.wishlist.domain.model.Wishlist;
+import com.wishlist.wishlist.domain.model.WishlistItem;
+import com.wishlist.wishlist.domain.model.WishlistMutation;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+
+public interface WishlistRepositoryCustom extends WishlistOwnerSource {
+
+    /**
+     * Returns the user's wishlist. Declared here rather than derived, so the Mongo adapter can route it like
+     * the other read-only queries.
+     */
+    Optional<Wishlist> findByUserId(String userId);
+
+    /**
+     * Returns at most {@code limit} of the user's items, as defined by {@link ItemPage#of}, reading only that
+     * window and the item count instead of the whole wishlist; empty when the user has no wishlist.
+     */
+    Optional<ItemPage> findItemPage(String userId, String afterItemId, int offset, int limit);
+
+    /**
+     * Atomically appends the item to the user's wishlist, creating the wishlist when it does not exist yet.
+     * The item is only appended when no item with the same itemId is present and the wishlist holds fewer
+     * than {@code maxItems} items, and the wishlist version is incremented only when it was appended.
+     * Returns the wishlist as stored after the update.
+     */
+    Wishlist pushItem(String userId, WishlistItem item, int maxItems);
+
+    /**
+     * Applies the same update as {@link #pushItem} but reads back only the wishlist id, the item with the
+     * pushed itemId and the item count, so an add does not transfer and map the names of every other item.
+     */
+    PushedItem pushItemProjected(String userId, WishlistItem item, int maxItems);
+
+    /**
+     * Applies the same guarded append as {@link #pushItem} for several users, with one atomic update per user
+     * appending every absent item, in order, until {@code maxItems} is reached; the version moves by one per
+     * appended item. Returns, per user, one result per item telling whether this write appended it, along
+     * with the wishlist holding the item unless the limit kept it out, as {@link WishlistMutation#replay} would
+     * for {@link WishlistMutation#pushes} of those items. A user whose update failed is reported with its
+     * failure instead, without undoing the updates of the others.
+     */
+    PushedItems pushItems(Map<String, List<WishlistItem>> itemsByUser, int maxItems);
+
+    /**
+     * Atomically removes the item with the given itemId from the user's wishlist without loading it.
+     * The wishlist version is incremented only when an item was removed.
+     */
+    RemoveItemResult pullItem(String userId, String itemId);
+
+    /**
+     * Applies the mutations to the user's wishlist in order within one atomic update, with the same guards
+     * as {@link #pushItem} and {@link #pullItem}; the wishlist is only created when a push is among them.
+     * Returns one result per mutation, as defined by {@link WishlistMutation#replay}.
+     */
+    List<WishlistMutation.Result> applyMutations(String userId, List<WishlistMutation> mutations, int maxItems);
+
+    /**
+     * Checks whether the user's wishlist holds the item, answered by the server without returning the document.
+     */
+    boolean containsItem(String userId, String itemId);
+
+    /**
+     * Checks whether the user's wishlist holds the item and reads its version in the same query, so the answer
+     * can be tagged with the version it was read at; empty when the user has no wishlist.
+     */
+    Optional<ItemPresence> findItemPresence(String userId, String itemId);
+
+    /**
+     * Returns the itemIds held by each of the given users' wishlists, read with one query projected to
+     * {@code items.itemId}; users without a wishlist are absent from the result.
+     */
+    Map<String, Set<String>> findItemIds(Collection<String> userIds);
+
+    /**
+     * Returns the version of the user's wishlist, read without its items; empty when the user has no wishlist.
+     */
+    OptionalLong findVersion(String userId);
+}
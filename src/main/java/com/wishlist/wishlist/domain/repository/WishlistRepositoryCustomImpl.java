@@ -0,0 +1,439 @@
+package com.wishlist.wishlist.domain.repository;
+
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.result.UpdateResult;
+import com.wishlist.wishlist.domain.model.ItemPage;
+import com.wishlist.wishlist.domain.model.ItemPresence;
+import com.wishlist.wishlist.domain.model.PushedItem;
+import com.wishlist.wishlist.domain.model.PushedItems;
+import com.wishlist.wishlist.domain.model.RemoveItemResult;
+import com.wishlist.wishlist.domain.model.Wishlist;
+import com.wishlist.wishlist.domain.model.WishlistItem;
+import com.wishlist.wishlist.domain.model.WishlistMutation;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.query.BasicQuery;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+public class WishlistRepositoryCustomImpl implements WishlistRepositoryCustom {
+
+    private static final String VERSION = "version";
+    private static final String ITEM_COUNT = "itemCount";
+    private static final String PRESENT = "present";
+    private static final String ITEM_OFFSET = "itemOffset";
+    private static final int DUPLICATE_KEY = 11000;
+    private static final int WRITE_CONFLICT = 112;
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoReadRouting readRouting;
+
+    @Override
+    public Optional<Wishlist> findByUserId(String userId) {
+        Query query = cachedReads(Query.query(Criteria.where("userId").is(userId)));
+        return Optional.ofNullable(readRouting.read(mongoTemplate, List.of(userId),
+                template -> template.findOne(query, Wishlist.class)));
+    }
+
+    @Override
+    public Optional<ItemPage> findItemPage(String userId, String afterItemId, int offset, int limit) {
+        Query query = reads(new BasicQuery(new Document("userId", userId), itemPageFields(afterItemId, offset, limit)));
+        Document document = readRouting.read(mongoTemplate, List.of(userId),
+                template -> template.findOne(query, Document.class, template.getCollectionName(Wishlist.class)));
+        return Optional.ofNullable(document).map(found -> itemPage(found, offset));
+    }
+
+    @Override
+    public Wishlist pushItem(String userId, WishlistItem item, int maxItems) {
+        Query query = Query.query(Criteria.where("userId").is(userId));
+        FindAndModifyOptions options = FindAndModifyOptions.options()
+                .upsert(true)
+                .returnNew(true);
+        return readRouting.write(mongoTemplate, List.of(userId),
+                template -> template.findAndModify(query, pushItemUpdate(item, maxItems), options, Wishlist.class));
+    }
+
+    @Override
+    public PushedItem pushItemProjected(String userId, WishlistItem item, int maxItems) {
+        Query query = new BasicQuery(new Document("userId", userId), pushedItemFields(item.getItemId()));
+        FindAndModifyOptions options = FindAndModifyOptions.options()
+                .upsert(true)
+                .returnNew(true);
+        Document pushed = readRouting.write(mongoTemplate, List.of(userId),
+                template -> template.findAndModify(query, pushItemUpdate(item, maxItems), options,
+                        Document.class, template.getCollectionName(Wishlist.class)));
+
+        List<Document> matched = pushed.getList("items", Document.class, List.of());
+        WishlistItem stored = matched.isEmpty() ? null : WishlistItem.builder()
+                .itemId(matched.get(0).getString("itemId"))
+                .name(matched.get(0).getString("name"))
+                .build();
+        Number itemCount = pushed.get(ITEM_COUNT, Number.class);
+        return new PushedItem(String.valueOf(pushed.get("_id")), stored, itemCount != null ? itemCount.intValue() : 0);
+    }
+
+    // One unordered bulk write upserts every user's guarded update in a single round trip. It reports counts, not
+    // what each update appended, so the itemIds each user held before it and the wishlists read back after it tell
+    // which items it added: the updates only append, so an item held after and not before was appended by it.
+    // A failed update leaves the others applied; its user is reported with the failure and not read back.
+    @Override
+    public PushedItems pushItems(Map<String, List<WishlistItem>> itemsByUser, int maxItems) {
+        if (itemsByUser.isEmpty()) {
+            return new PushedItems(Map.of(), Map.of());
+        }
+        List<String> userIds = List.copyOf(itemsByUser.keySet());
+        return readRouting.write(mongoTemplate, userIds, template -> {
+            Map<String, Set<String>> before = itemIds(template, Query.query(Criteria.where("userId").in(userIds)));
+
+            BulkOperations bulkOps = template.bulkOps(BulkOperations.BulkMode.UNORDERED, Wishlist.class);
+            userIds.forEach(userId -> bulkOps.upsert(Query.query(Criteria.where("userId").is(userId)),
+                    pushItemsUpdate(itemsByUser.get(userId), maxItems)));
+            Map<String, DataAccessException> failures = new LinkedHashMap<>();
+            try {
+                bulkOps.execute();
+            } catch (BulkOperationException e) {
+                for (BulkWriteError error : e.getErrors()) {
+                    failures.put(userIds.get(error.getIndex()), failure(error));
+                }
+            }
+
+            List<String> written = userIds.stream().filter(userId -> !failures.containsKey(userId)).toList();
+            Map<String, Wishlist> after = new HashMap<>();
+            if (!written.isEmpty()) {
+                template.find(Query.query(Criteria.where("userId").in(written)), Wishlist.class)
+                        .forEach(wishlist -> after.put(wishlist.getUserId(), wishlist));
+            }
+            Map<String, List<WishlistMutation.Result>> results = new LinkedHashMap<>();
+            for (String userId : written) {
+                Wishlist wishlist = after.get(userId);
+                if (wishlist == null) {
+                    // Moved to another partition between the write and the read back.
+                    failures.put(userId, new ConcurrencyFailureException("Wishlist moved during the batch add: " + userId));
+                    continue;
+                }
+                results.put(userId, pushResults(itemsByUser.get(userId), before.getOrDefault(userId, Set.of()), wishlist));
+            }
+            return new PushedItems(results, failures);
+        });
+    }
+
+    @Override
+    public RemoveItemResult pullItem(String userId, String itemId) {
+        // Matching on the item as well keeps the version unchanged when there is nothing to remove; only
+        // then a second query tells a missing item from a missing wishlist.
+        return readRouting.write(mongoTemplate, List.of(userId), template -> {
+            UpdateResult result = template.updateFirst(pullItemQuery(userId, itemId), pullItemUpdate(itemId), Wishlist.class);
+
+            if (result.getModifiedCount() > 0) {
+                return RemoveItemResult.REMOVED;
+            }
+            return template.exists(Query.query(Criteria.where("userId").is(userId)), Wishlist.class)
+                    ? RemoveItemResult.ITEM_NOT_FOUND
+                    : RemoveItemResult.WISHLIST_NOT_FOUND;
+        });
+    }
+
+    @Override
+    public List<WishlistMutation.Result> applyMutations(String userId, List<WishlistMutation> mutations, int maxItems) {
+        if (mutations.isEmpty()) {
+            return List.of();
+        }
+        // The document as it was before the update is exactly what the stages ran against, so replaying
+        // the mutations on it yields each one's result; only a wishlist created here needs its id read back.
+        boolean creates = mutations.stream().anyMatch(WishlistMutation.Push.class::isInstance);
+        Query query = Query.query(Criteria.where("userId").is(userId));
+        FindAndModifyOptions options = FindAndModifyOptions.options()
+                .upsert(creates)
+                .returnNew(false);
+        return readRouting.write(mongoTemplate, List.of(userId), template -> {
+            Wishlist before = template.findAndModify(query, mutationsUpdate(mutations, maxItems), options, Wishlist.class);
+
+            String createdId = before == null && creates ? createdId(template, userId) : null;
+            return WishlistMutation.replay(before, createdId, userId, mutations, maxItems);
+        });
+    }
+
+    @Override
+    public boolean containsItem(String userId, String itemId) {
+        Query query = reads(Query.query(Criteria.where("userId").is(userId).and("items.itemId").is(itemId)));
+        return readRouting.read(mongoTemplate, List.of(userId), template -> template.exists(query, Wishlist.class));
+    }
+
+    @Override
+    public Optional<ItemPresence> findItemPresence(String userId, String itemId) {
+        Query query = reads(new BasicQuery(new Document("userId", userId), itemPresenceFields(itemId)));
+        Document document = readRouting.read(mongoTemplate, List.of(userId),
+                template -> template.findOne(query, Document.class, template.getCollectionName(Wishlist.class)));
+        return Optional.ofNullable(document).map(WishlistRepositoryCustomImpl::itemPresence);
+    }
+
+    @Override
+    public Map<String, Set<String>> findItemIds(Collection<String> userIds) {
+        Query query = reads(Query.query(Criteria.where("userId").in(userIds)));
+        return readRouting.read(mongoTemplate, userIds, template -> itemIds(template, query));
+    }
+
+    @Override
+    public OptionalLong findVersion(String userId) {
+        Query query = cachedReads(Query.query(Criteria.where("userId").is(userId)));
+        query.fields().include(VERSION).exclude("_id");
+
+        Document document = readRouting.read(mongoTemplate, List.of(userId),
+                template -> template.findOne(query, Document.class, template.getCollectionName(Wishlist.class)));
+        if (document == null) {
+            return OptionalLong.empty();
+        }
+        Number version = document.get(VERSION, Number.class);
+        return OptionalLong.of(version != null ? version.longValue() : 0);
+    }
+
+    @Override
+    public Stream<String> streamUserIds() {
+        Query query = new Query();
+        query.fields().include("userId").exclude("_id");
+        return mongoTemplate.stream(query, Document.class, mongoTemplate.getCollectionName(Wishlist.class))
+                .map(document -> document.getString("userId"))
+                .filter(Objects::nonNull);
+    }
+
+    @Override
+    public long estimatedWishlistCount() {
+        return mongoTemplate.estimatedCount(Wishlist.class);
+    }
+
+    private static Map<String, Set<String>> itemIds(MongoTemplate template, Query query) {
+        query.fields().include("userId", "items.itemId").exclude("_id");
+
+        Map<String, Set<String>> itemIds = new HashMap<>();
+        for (Document document : template.find(query, Document.class, template.getCollectionName(Wishlist.class))) {
+            Set<String> ids = new HashSet<>();
+            for (Document item : document.getList("items", Document.class, List.of())) {
+                ids.add(item.getString("itemId"));
+            }
+            itemIds.put(document.getString("userId"), ids);
+        }
+        return itemIds;
+    }
+
+    // Every item of a user gets the wishlist as read back after the write; the pushes of one update only append,
+    // so an item it holds was held right after that item's own push, and one it lacks was kept out by the limit.
+    static List<WishlistMutation.Result> pushResults(List<WishlistItem> items, Set<String> heldBefore, Wishlist after) {
+        List<WishlistMutation.Result> results = new ArrayList<>(items.size());
+        for (WishlistItem item : items) {
+            boolean appended = !heldBefore.contains(item.getItemId()) && after.getItems().containsItem(item.getItemId());
+            results.add(new WishlistMutation.Result(after, appended));
+        }
+        return results;
+    }
+
+    // The exception the template would raise for the same error on a single write.
+    private static DataAccessException failure(BulkWriteError error) {
+        String message = "Batch add failed: " + error.getMessage();
+        return switch (error.getCode()) {
+            case DUPLICATE_KEY -> new DuplicateKeyException(message);
+            case WRITE_CONFLICT -> new ConcurrencyFailureException(message);
+            default -> new DataIntegrityViolationException(message);
+        };
+    }
+
+    private static String createdId(MongoTemplate template, String userId) {
+        Query idQuery = Query.query(Criteria.where("userId").is(userId));
+        idQuery.fields().include("_id");
+        Wishlist created = template.findOne(idQuery, Wishlist.class);
+        return created != null ? created.getId() : null;
+    }
+
+    // Only the queries behind the read use cases go through here; writes and the reads they make stay on the primary.
+    private Query reads(Query query) {
+        return query.withReadPreference(readRouting.readPreference());
+    }
+
+    private Query cachedReads(Query query) {
+        return query.withReadPreference(readRouting.cachedReadPreference());
+    }
+
+    static Query pullItemQuery(String userId, String itemId) {
+        return Query.query(Criteria.where("userId").is(userId).and("items.itemId").is(itemId));
+    }
+
+    static Update pullItemUpdate(String itemId) {
+        return new Update()
+                .pull("items", new Document("itemId", itemId))
+                .inc(VERSION, 1);
+    }
+
+    // Pipeline update so the "not present" and "below limit" guards are evaluated against the stored
+    // document in the same server call; user supplied values are wrapped in $literal so they are never
+    // interpreted as field paths or operators.
+    static AggregationUpdate pushItemUpdate(WishlistItem item, int maxItems) {
+        return AggregationUpdate.from(List.of(stage(pushItemFields(item, maxItems))));
+    }
+
+    // Projection with expressions, evaluated by the server on the updated document: only the item with the
+    // pushed itemId and the item count leave the server instead of the whole items array.
+    static Document pushedItemFields(String itemId) {
+        Document items = new Document("$ifNull", List.of("$items", List.of()));
+        return new Document("_id", 1)
+                .append("items", new Document("$filter", new Document("input", items)
+                        .append("cond", new Document("$eq", List.of("$$this.itemId", new Document("$literal", itemId))))))
+                .append(ITEM_COUNT, new Document("$size", items));
+    }
+
+    // The start of the window is resolved by the server, as in ItemPage.of, and $slice keeps everything outside
+    // the window on the server; the start is computed once for the slice and once more to be read back.
+    static Document itemPageFields(String afterItemId, int offset, int limit) {
+        Document items = new Document("$ifNull", List.of("$items", List.of()));
+        Object start = offset;
+        if (afterItemId != null) {
+            Document itemIds = new Document("$ifNull", List.of("$items.itemId", List.of()));
+            start = new Document("$let", new Document("vars", new Document("after",
+                    new Document("$indexOfArray", List.of(itemIds, new Document("$literal", afterItemId)))))
+                    .append("in", new Document("$cond", List.of(
+                            new Document("$gte", List.of("$$after", 0)),
+                            new Document("$add", List.of("$$after", 1)),
+                            offset))));
+        }
+        return new Document("_id", 0)
+                .append("items", new Document("$slice", List.of(items, start, limit)))
+                .append(ITEM_OFFSET, start)
+                .append(ITEM_COUNT, new Document("$size", items))
+                .append(VERSION, new Document("$ifNull", List.of("$" + VERSION, 0)));
+    }
+
+    // The itemId is compared as a literal, so one starting with '$' is not read as a field path.
+    static Document itemPresenceFields(String itemId) {
+        return new Document("_id", 0)
+                .append(PRESENT, new Document("$in", List.of(new Document("$literal", itemId),
+                        new Document("$ifNull", List.of("$items.itemId", List.of())))))
+                .append(VERSION, new Document("$ifNull", List.of("$" + VERSION, 0)));
+    }
+
+    static ItemPresence itemPresence(Document document) {
+        Number version = document.get(VERSION, Number.class);
+        return new ItemPresence(Boolean.TRUE.equals(document.getBoolean(PRESENT)),
+                version != null ? version.longValue() : 0);
+    }
+
+    static ItemPage itemPage(Document document, int offset) {
+        List<WishlistItem> items = document.getList("items", Document.class, List.of()).stream()
+                .map(item -> WishlistItem.builder()
+                        .itemId(item.getString("itemId"))
+                        .name(item.getString("name"))
+                        .build())
+                .toList();
+        Number itemOffset = document.get(ITEM_OFFSET, Number.class);
+        Number itemCount = document.get(ITEM_COUNT, Number.class);
+        Number version = document.get(VERSION, Number.class);
+        return new ItemPage(items, itemOffset != null ? itemOffset.intValue() : offset,
+                itemCount != null ? itemCount.intValue() : 0, version != null ? version.longValue() : 0);
+    }
+
+    // One $set stage per mutation: each stage sees the document the previous one produced, so the guards
+    // of a later push count the items added or removed before it, exactly as separate updates would.
+    static AggregationUpdate mutationsUpdate(List<WishlistMutation> mutations, int maxItems) {
+        List<AggregationOperation> stages = new ArrayList<>(mutations.size());
+        for (WishlistMutation mutation : mutations) {
+            stages.add(stage(switch (mutation) {
+                case WishlistMutation.Push push -> pushItemFields(push.item(), maxItems);
+                case WishlistMutation.Pull pull -> pullItemFields(pull.itemId());
+            }));
+        }
+        return AggregationUpdate.from(stages);
+    }
+
+    private static AggregationOperation stage(Document fields) {
+        return context -> new Document("$set", fields);
+    }
+
+    private static Document pushItemFields(WishlistItem item, int maxItems) {
+        Document items = new Document("$ifNull", List.of("$items", List.of()));
+        Document itemIds = new Document("$ifNull", List.of("$items.itemId", List.of()));
+        Document newItem = new Document("itemId", item.getItemId())
+                .append("name", item.getName());
+
+        Document absent = new Document("$not", List.of(
+                new Document("$in", List.of(new Document("$literal", item.getItemId()), itemIds))));
+        Document belowLimit = new Document("$lt", List.of(new Document("$size", items), maxItems));
+
+        Document added = new Document("$and", List.of(absent, belowLimit));
+        Document pushed = new Document("$cond", List.of(
+                added,
+                new Document("$concatArrays", List.of(items, List.of(new Document("$literal", newItem)))),
+                items));
+
+        return new Document("items", pushed)
+                .append(VERSION, incrementedVersionIf(added));
+    }
+
+    private static Document pullItemFields(String itemId) {
+        Document items = new Document("$ifNull", List.of("$items", List.of()));
+        Document itemIds = new Document("$ifNull", List.of("$items.itemId", List.of()));
+        Document literalId = new Document("$literal", itemId);
+
+        Document present = new Document("$in", List.of(literalId, itemIds));
+        Document pulled = new Document("$filter", new Document("input", items)
+                .append("cond", new Document("$ne", List.of("$$this.itemId", literalId))));
+
+        return new Document("items", pulled)
+                .append(VERSION, incrementedVersionIf(present));
+    }
+
+    // Same guards as pushItemUpdate for a list of items: absent items are kept in request order and only as
+    // many as the remaining room allows are appended, all in one update of the user's document. The version
+    // moves by one per appended item, as it would with one push per item.
+    static AggregationUpdate pushItemsUpdate(List<WishlistItem> items, int maxItems) {
+        Document stored = new Document("$ifNull", List.of("$items", List.of()));
+        Document storedIds = new Document("$ifNull", List.of("$items.itemId", List.of()));
+        List<Document> candidates = items.stream()
+                .map(item -> new Document("itemId", item.getItemId()).append("name", item.getName()))
+                .toList();
+
+        Document absent = new Document("$filter", new Document("input", new Document("$literal", candidates))
+                .append("as", "candidate")
+                .append("cond", new Document("$not", List.of(
+                        new Document("$in", List.of("$$candidate.itemId", storedIds))))));
+        Document room = new Document("$subtract", List.of(maxItems, new Document("$size", stored)));
+
+        Document appended = new Document("$cond", List.of(
+                new Document("$gt", List.of(room, 0)),
+                new Document("$slice", List.of(absent, room)),
+                List.of()));
+
+        Document version = new Document("$ifNull", List.of("$" + VERSION, 0));
+        return AggregationUpdate.from(List.of(context -> new Document("$set",
+                new Document("items", new Document("$concatArrays", List.of(stored, appended)))
+                        .append(VERSION, new Document("$add", List.of(version, new Document("$size", appended)))))));
+    }
+
+    // Expressions in one $set stage see the document as it was before the stage, so the version moves
+    // exactly when the guard lets the items change.
+    private static Document incrementedVersionIf(Document changed) {
+        Document version = new Document("$ifNull", List.of("$" + VERSION, 0));
+        return new Document("$cond", List.of(changed, new Document("$add", List.of(version, 1)), version));
+    }
+}
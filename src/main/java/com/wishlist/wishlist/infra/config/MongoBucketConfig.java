@@ -0,0 +1,93 @@
+package com.wishlist.wishlist.infra.config;
+
+import com.wishlist.wishlist.domain.repository.BucketedWishlistRepository;
+import com.wishlist.wishlist.domain.repository.MongoReadRouting;
+import com.wishlist.wishlist.domain.repository.WishlistBucketMigrator;
+import com.wishlist.wishlist.domain.repository.WishlistRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+/**
+ * Replaces the single-document repository with a {@link BucketedWishlistRepository} when
+ * {@code wishlist.mongo.storage.layout=bucketed}. Its writes run in transactions, so the server must be a replica
+ * set or a sharded cluster. Not combined with storage partitions yet: a partition move copies only the wishlist
+ * document, so the buckets would stay behind. Nor with the {@code reactive} profile, whose repository would keep
+ * reading the items from the single documents.
+ */
+@Configuration
+@Profile("!memory")
+@ConditionalOnProperty(name = "wishlist.mongo.storage.layout", havingValue = "bucketed")
+@EnableConfigurationProperties(MongoStorageProperties.class)
+public class MongoBucketConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(MongoBucketConfig.class);
+
+    // Checked before any bean of this configuration is created: the reactive profile has no blocking template
+    // to inject, and refusing here names the actual conflict.
+    public MongoBucketConfig(Environment environment) {
+        if (environment.matchesProfiles("reactive")) {
+            throw new IllegalStateException(
+                    "wishlist.mongo.storage.layout=bucketed cannot be combined with the reactive profile");
+        }
+    }
+
+    // Declared as the port: the metrics post-processor replaces it with an interface proxy.
+    @Bean
+    @Primary
+    public WishlistRepository bucketedWishlistRepository(
+            MongoTemplate mongoTemplate,
+            MongoReadRouting mongoReadRouting,
+            MongoStorageProperties storage,
+            @Value("${wishlist.mongo.partitioning.partitions[0].uri:}") String partitionUri) {
+        if (!partitionUri.isBlank()) {
+            throw new IllegalStateException(
+                    "wishlist.mongo.storage.layout=bucketed cannot be combined with wishlist.mongo.partitioning");
+        }
+        return bucketed(mongoTemplate, mongoReadRouting, storage);
+    }
+
+    // The repository holds no state of its own, so the migrator gets an unproxied instance of its own.
+    @Bean
+    public WishlistBucketMigrator wishlistBucketMigrator(MongoTemplate mongoTemplate, MongoReadRouting mongoReadRouting,
+                                                         MongoStorageProperties storage, MeterRegistry meterRegistry) {
+        return new WishlistBucketMigrator(bucketed(mongoTemplate, mongoReadRouting, storage), meterRegistry);
+    }
+
+    @Bean
+    public ApplicationListener<ApplicationReadyEvent> bucketStartup(
+            MongoTemplate mongoTemplate,
+            WishlistBucketMigrator wishlistBucketMigrator,
+            MongoStorageProperties storage,
+            ObjectProvider<MongoIndexInitializer> indexInitializer) {
+        return event -> {
+            indexInitializer.ifAvailable(initializer -> initializer.ensureBucketIndexes(mongoTemplate));
+            if (storage.migrateOnStartup()) {
+                Thread.ofVirtual().name("wishlist-bucket-migration").start(() -> {
+                    try {
+                        wishlistBucketMigrator.migrate();
+                    } catch (RuntimeException e) {
+                        log.error("Wishlist bucket migration failed; writes keep migrating wishlists on demand", e);
+                    }
+                });
+            }
+        };
+    }
+
+    static BucketedWishlistRepository bucketed(MongoTemplate mongoTemplate, MongoReadRouting mongoReadRouting,
+                                               MongoStorageProperties storage) {
+        return new BucketedWishlistRepository(mongoTemplate, mongoReadRouting, storage.bucketSize());
+    }
+}
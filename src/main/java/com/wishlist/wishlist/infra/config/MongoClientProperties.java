@@ -0,0 +1,43 @@
+package com.wishlist.wishlist.infra.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Client settings applied on top of {@code spring.mongodb.uri} by both the blocking and the reactive client.
+ * Compressors are offered to the server in order and the first one it also supports is used; an empty list
+ * keeps whatever the connection string asks for. Without an operation timeout, operations are bounded only
+ * by the pool wait, connect and server selection timeouts. {@code reads} routes the queries of the read use
+ * cases; see {@link com.wishlist.wishlist.domain.repository.MongoReadRouting}.
+ */
+@ConfigurationProperties(prefix = "wishlist.mongo")
+public record MongoClientProperties(
+        @DefaultValue Pool pool,
+        @DefaultValue Timeouts timeouts,
+        @DefaultValue({"zstd", "snappy", "zlib"}) List<String> compressors,
+        @DefaultValue Reads reads) {
+
+    public record Pool(
+            @DefaultValue("100") int maxSize,
+            @DefaultValue("0") int minSize,
+            @DefaultValue("2") int maxConnecting,
+            @DefaultValue("2m") Duration maxWaitTime,
+            @DefaultValue("0s") Duration maxIdleTime) {
+    }
+
+    public record Timeouts(
+            @DefaultValue("10s") Duration connect,
+            @DefaultValue("30s") Duration serverSelection,
+            Duration operation) {
+    }
+
+    public record Reads(
+            @DefaultValue("primary") String preference,
+            @DefaultValue("90s") Duration maxStaleness,
+            @DefaultValue("false") boolean readYourWrites,
+            @DefaultValue("30s") Duration readYourWritesWindow) {
+    }
+}
@@ -1,25 +1,108 @@
 package com.wishlist.wishlist.infra.config;
 
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.MongoCompressor;
+import com.mongodb.ReadPreference;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoClients;
+import com.wishlist.wishlist.domain.repository.MongoReadRouting;
+import com.wishlist.wishlist.infra.metrics.MongoPoolMetricsListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.mongodb.MongoMetricsCommandListener;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
+@Profile("!memory & !reactive")
+@EnableConfigurationProperties(MongoClientProperties.class)
+@EnableMongoRepositories(basePackages = "com.wishlist.wishlist.domain.repository")
 public class MongoConfig {
 
+    private static final Duration MIN_MAX_STALENESS = Duration.ofSeconds(90);
+
     @Value("${spring.mongodb.uri}")
     private String mongoUri;
 
     @Bean
-    public MongoClient mongoClient() {
-        return MongoClients.create(mongoUri);
+    public MongoClient mongoClient(MongoClientProperties properties, MeterRegistry meterRegistry) {
+        return MongoClients.create(clientSettings(mongoUri, properties, meterRegistry, "blocking"));
     }
 
     @Bean
     public MongoTemplate mongoTemplate(MongoClient mongoClient) {
         return new MongoTemplate(mongoClient, "wishlist");
     }
-}
\ No newline at end of file
+
+    @Bean
+    public MongoReadRouting mongoReadRouting(MongoClientProperties properties) {
+        return readRouting(properties.reads());
+    }
+
+    // Callers that find every connection checked out wait in the driver's unbounded queue for up to
+    // max-wait-time; on virtual threads that wait parks the request instead of holding a platform thread.
+    // The pool listener times that wait, the command listener times every command as mongodb.driver.commands.
+    static MongoClientSettings clientSettings(String uri, MongoClientProperties properties,
+                                              MeterRegistry meterRegistry, String client) {
+        MongoClientProperties.Pool pool = properties.pool();
+        MongoClientProperties.Timeouts timeouts = properties.timeouts();
+        MongoClientSettings.Builder settings = MongoClientSettings.builder()
+                .applyConnectionString(new ConnectionString(uri))
+                .applyToConnectionPoolSettings(builder -> builder
+                        .maxSize(pool.maxSize())
+                        .minSize(pool.minSize())
+                        .maxConnecting(pool.maxConnecting())
+                        .maxWaitTime(pool.maxWaitTime().toMillis(), TimeUnit.MILLISECONDS)
+                        .maxConnectionIdleTime(pool.maxIdleTime().toMillis(), TimeUnit.MILLISECONDS)
+                        .addConnectionPoolListener(new MongoPoolMetricsListener(meterRegistry, client)))
+                .applyToSocketSettings(builder -> builder
+                        .connectTimeout(Math.toIntExact(timeouts.connect().toMillis()), TimeUnit.MILLISECONDS))
+                .applyToClusterSettings(builder -> builder
+                        .serverSelectionTimeout(timeouts.serverSelection().toMillis(), TimeUnit.MILLISECONDS))
+                .addCommandListener(new MongoMetricsCommandListener(meterRegistry));
+        if (timeouts.operation() != null) {
+            settings.timeout(timeouts.operation().toMillis(), TimeUnit.MILLISECONDS);
+        }
+        if (!properties.compressors().isEmpty()) {
+            settings.compressorList(compressors(properties.compressors()));
+        }
+        return settings.build();
+    }
+
+    static MongoReadRouting readRouting(MongoClientProperties.Reads reads) {
+        return new MongoReadRouting(readPreference(reads.preference(), reads.maxStaleness()),
+                reads.readYourWrites(), reads.readYourWritesWindow());
+    }
+
+    // The server rejects a max staleness below 90 seconds; a primary read preference takes none.
+    static ReadPreference readPreference(String mode, Duration maxStaleness) {
+        if ("primary".equalsIgnoreCase(mode.trim())) {
+            return ReadPreference.primary();
+        }
+        if (maxStaleness.compareTo(MIN_MAX_STALENESS) < 0) {
+            throw new IllegalArgumentException("wishlist.mongo.reads.max-staleness must be at least 90s: " + maxStaleness);
+        }
+        return ReadPreference.valueOf(mode.trim(), List.of(), maxStaleness.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    static List<MongoCompressor> compressors(List<String> names) {
+        return names.stream()
+                .map(name -> switch (name.trim().toLowerCase(Locale.ROOT)) {
+                    case "zstd" -> MongoCompressor.createZstdCompressor();
+                    case "snappy" -> MongoCompressor.createSnappyCompressor();
+                    case "zlib" -> MongoCompressor.createZlibCompressor();
+                    default -> throw new IllegalArgumentException("Unknown wishlist.mongo.compressors entry: " + name);
+                })
+                .toList();
+    }
+}
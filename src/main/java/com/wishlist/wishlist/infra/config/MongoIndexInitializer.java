@@ -0,0 +1,158 @@
+package com.wishlist.wishlist.infra.config;
+
+import com.wishlist.wishlist.domain.model.Wishlist;
+import com.wishlist.wishlist.domain.model.WishlistBucket;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@Profile("!memory & !reactive")
+@ConditionalOnProperty(name = "wishlist.mongo.indexes.enabled", havingValue = "true", matchIfMissing = true)
+public class MongoIndexInitializer {
+
+    private static final Logger log = LoggerFactory.getLogger(MongoIndexInitializer.class);
+    private static final String PROBE = "__index_probe__";
+
+    static final Map<String, Document> VERIFIED_QUERIES = verifiedQueries();
+
+    private final MongoTemplate mongoTemplate;
+    private final FailureMode failureMode;
+    private final boolean verifyQueryPlans;
+    private final long backgroundThreshold;
+
+    public MongoIndexInitializer(
+            MongoTemplate mongoTemplate,
+            @Value("${wishlist.mongo.indexes.failure-mode:warn}") FailureMode failureMode,
+            @Value("${wishlist.mongo.indexes.verify-query-plans:true}") boolean verifyQueryPlans,
+            @Value("${wishlist.mongo.indexes.background-threshold:100000}") long backgroundThreshold) {
+        this.mongoTemplate = mongoTemplate;
+        this.failureMode = failureMode;
+        this.verifyQueryPlans = verifyQueryPlans;
+        this.backgroundThreshold = backgroundThreshold;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        ensureIndexes(mongoTemplate);
+    }
+
+    // Also called for each storage partition, whose databases the default template does not reach.
+    public void ensureIndexes(MongoTemplate mongoTemplate) {
+        String collection = mongoTemplate.getCollectionName(Wishlist.class);
+        try {
+            createIndexes(mongoTemplate, collection, Wishlist.class);
+            if (verifyQueryPlans) {
+                verifyQueryPlans(mongoTemplate, collection);
+            }
+        } catch (DataAccessException ex) {
+            report("Could not ensure indexes for collection " + collection + ": " + ex.getMessage());
+        }
+    }
+
+    // Only the bucketed layout has bucket documents, so its configuration asks for these.
+    public void ensureBucketIndexes(MongoTemplate mongoTemplate) {
+        String collection = mongoTemplate.getCollectionName(WishlistBucket.class);
+        try {
+            createIndexes(mongoTemplate, collection, WishlistBucket.class);
+        } catch (DataAccessException ex) {
+            report("Could not ensure indexes for collection " + collection + ": " + ex.getMessage());
+        }
+    }
+
+    private void createIndexes(MongoTemplate mongoTemplate, String collection, Class<?> entity) {
+        IndexResolver resolver = new MongoPersistentEntityIndexResolver(
+                mongoTemplate.getConverter().getMappingContext());
+        IndexOperations indexOps = mongoTemplate.indexOps(collection);
+        boolean background = mongoTemplate.estimatedCount(collection) >= backgroundThreshold;
+
+        for (IndexDefinition index : resolver.resolveIndexFor(entity)) {
+            String name = indexOps.createIndex(background ? inBackground(index) : index);
+            log.info("Ensured index {} on collection {} (background: {})", name, collection, background);
+        }
+    }
+
+    private void verifyQueryPlans(MongoTemplate mongoTemplate, String collection) {
+        List<String> unindexed = new ArrayList<>();
+        VERIFIED_QUERIES.forEach((query, filter) -> {
+            Document explain = mongoTemplate.executeCommand(new Document("explain",
+                    new Document("find", collection).append("filter", filter))
+                    .append("verbosity", "queryPlanner"));
+            Document queryPlanner = explain.get("queryPlanner", Document.class);
+            if (queryPlanner != null && usesCollectionScan(queryPlanner.get("winningPlan"))) {
+                unindexed.add(query);
+            }
+        });
+
+        if (!unindexed.isEmpty()) {
+            report("Queries " + unindexed + " on collection " + collection + " would use a collection scan");
+        } else {
+            log.info("Verified index usage for queries {} on collection {}", VERIFIED_QUERIES.keySet(), collection);
+        }
+    }
+
+    private void report(String message) {
+        if (failureMode == FailureMode.FAIL) {
+            throw new IllegalStateException(message);
+        }
+        log.warn(message);
+    }
+
+    static boolean usesCollectionScan(Object plan) {
+        if (plan instanceof Document stage) {
+            return "COLLSCAN".equals(stage.get("stage"))
+                    || stage.values().stream().anyMatch(MongoIndexInitializer::usesCollectionScan);
+        }
+        if (plan instanceof List<?> stages) {
+            return stages.stream().anyMatch(MongoIndexInitializer::usesCollectionScan);
+        }
+        return false;
+    }
+
+    // Servers from 4.2 on ignore the option and always use the optimized build, which only locks the
+    // collection at the start and end; older servers would otherwise block the collection for the whole build.
+    static IndexDefinition inBackground(IndexDefinition index) {
+        Document options = new Document(index.getIndexOptions()).append("background", true);
+        return new IndexDefinition() {
+            @Override
+            public Document getIndexKeys() {
+                return index.getIndexKeys();
+            }
+
+            @Override
+            public Document getIndexOptions() {
+                return options;
+            }
+        };
+    }
+
+    private static Map<String, Document> verifiedQueries() {
+        Map<String, Document> queries = new LinkedHashMap<>();
+        queries.put("findByUserId", new Document("userId", PROBE));
+        queries.put("containsItem", new Document("userId", PROBE).append("items.itemId", PROBE));
+        queries.put("findItemIds", new Document("userId", new Document("$in", List.of(PROBE))));
+        return queries;
+    }
+
+    public enum FailureMode {
+        WARN,
+        FAIL
+    }
+}
@@ -0,0 +1,75 @@
+package com.wishlist.wishlist.infra.config;
+
+import com.wishlist.wishlist.domain.repository.PartitionRebalancer;
+import com.wishlist.wishlist.domain.repository.PartitionedWishlistRepository;
+import com.wishlist.wishlist.domain.repository.WishlistRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+
+/**
+ * Replaces the single-database repository with a {@link PartitionedWishlistRepository} once at least one
+ * partition is configured. The default database is then no longer read or written by the repository. Not
+ * combined with the {@code reactive} profile, whose repository would keep using the default database.
+ */
+@Configuration
+@Profile("!memory")
+@ConditionalOnProperty(name = "wishlist.mongo.partitioning.partitions[0].uri")
+@EnableConfigurationProperties({MongoPartitionProperties.class, MongoClientProperties.class})
+public class MongoPartitionConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(MongoPartitionConfig.class);
+
+    @Bean
+    public MongoPartitions mongoPartitions(MongoPartitionProperties partitioning, MongoClientProperties clientProperties,
+                                           MeterRegistry meterRegistry, Environment environment) {
+        if (environment.matchesProfiles("reactive")) {
+            throw new IllegalStateException("wishlist.mongo.partitioning cannot be combined with the reactive profile");
+        }
+        return MongoPartitions.create(partitioning, clientProperties, meterRegistry);
+    }
+
+    // Declared as the port: the metrics post-processor replaces it with an interface proxy.
+    @Bean
+    @Primary
+    public WishlistRepository partitionedWishlistRepository(MongoPartitions mongoPartitions) {
+        return mongoPartitions.repository();
+    }
+
+    @Bean
+    public PartitionRebalancer partitionRebalancer(MongoPartitions mongoPartitions, MeterRegistry meterRegistry) {
+        return new PartitionRebalancer(mongoPartitions.repository(), meterRegistry);
+    }
+
+    // Indexes first: the unique userId index of each target is what keeps concurrent moves from duplicating.
+    @Bean
+    public ApplicationListener<ApplicationReadyEvent> partitionStartup(
+            MongoPartitions mongoPartitions,
+            PartitionRebalancer partitionRebalancer,
+            MongoPartitionProperties partitioning,
+            ObjectProvider<MongoIndexInitializer> indexInitializer) {
+        return event -> {
+            indexInitializer.ifAvailable(initializer -> mongoPartitions.partitions()
+                    .forEach(partition -> initializer.ensureIndexes(partition.mongoTemplate())));
+            if (mongoPartitions.repository().isRebalancing() && partitioning.rebalanceOnStartup()) {
+                Thread.ofVirtual().name("wishlist-partition-rebalance").start(() -> {
+                    try {
+                        partitionRebalancer.rebalance();
+                    } catch (RuntimeException e) {
+                        log.error("Wishlist partition rebalance failed; requests keep moving wishlists on demand", e);
+                    }
+                });
+            }
+        };
+    }
+}
@@ -0,0 +1,27 @@
+package com.wishlist.wishlist.infra.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+/**
+ * Storage partitions, each a connection string and a database; several may share one server. The current
+ * ring holds every partition that is not draining. A non-empty previous ring (partition names) means a
+ * rebalance is in progress: wishlists are moved from their owner on that ring to their owner on the current
+ * one, on demand and, with rebalance-on-startup, by a background scan.
+ */
+@ConfigurationProperties(prefix = "wishlist.mongo.partitioning")
+public record MongoPartitionProperties(
+        @DefaultValue List<Partition> partitions,
+        @DefaultValue("128") int virtualNodes,
+        @DefaultValue List<String> previousRing,
+        @DefaultValue("true") boolean rebalanceOnStartup) {
+
+    public record Partition(
+            String name,
+            String uri,
+            @DefaultValue("wishlist") String database,
+            @DefaultValue("false") boolean draining) {
+    }
+}
@@ -0,0 +1,94 @@
+package com.wishlist.wishlist.infra.config;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.wishlist.wishlist.domain.repository.ConsistentHashRing;
+import com.wishlist.wishlist.domain.repository.MongoWishlistRepository;
+import com.wishlist.wishlist.domain.repository.PartitionedWishlistRepository;
+import com.wishlist.wishlist.domain.repository.WishlistPartition;
+import com.wishlist.wishlist.domain.repository.WishlistRepository;
+import com.wishlist.wishlist.domain.repository.WishlistRepositoryCustomImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The partitions built from {@link MongoPartitionProperties} and the clients behind them: partitions on the same
+ * connection string share one client, and so one connection pool. Closing it closes the clients.
+ */
+public final class MongoPartitions implements AutoCloseable {
+
+    private final Map<String, MongoClient> clients;
+    private final PartitionedWishlistRepository repository;
+
+    private MongoPartitions(Map<String, MongoClient> clients, PartitionedWishlistRepository repository) {
+        this.clients = clients;
+        this.repository = repository;
+    }
+
+    public PartitionedWishlistRepository repository() {
+        return repository;
+    }
+
+    @Override
+    public void close() {
+        clients.values().forEach(MongoClient::close);
+    }
+
+    static MongoPartitions create(MongoPartitionProperties partitioning, MongoClientProperties clientProperties,
+                                  MeterRegistry meterRegistry) {
+        Map<String, MongoClient> clients = new LinkedHashMap<>();
+        try {
+            Map<String, WishlistPartition> partitions = new LinkedHashMap<>();
+            Map<String, WishlistPartition> current = new LinkedHashMap<>();
+            for (MongoPartitionProperties.Partition partition : partitioning.partitions()) {
+                if (partition.name() == null || partition.uri() == null) {
+                    throw new IllegalArgumentException("Every wishlist.mongo.partitioning.partitions entry needs a name and a uri");
+                }
+                MongoClient client = clients.computeIfAbsent(partition.uri(), uri -> MongoClients.create(
+                        MongoConfig.clientSettings(uri, clientProperties, meterRegistry, "partition-" + partition.name())));
+                WishlistPartition built = partition(partition.name(), new MongoTemplate(client, partition.database()),
+                        clientProperties);
+                if (partitions.putIfAbsent(partition.name(), built) != null) {
+                    throw new IllegalArgumentException("Duplicate wishlist partition name: " + partition.name());
+                }
+                if (!partition.draining()) {
+                    current.put(partition.name(), built);
+                }
+            }
+            ConsistentHashRing<WishlistPartition> previousRing = null;
+            if (!partitioning.previousRing().isEmpty()) {
+                Map<String, WishlistPartition> previous = new LinkedHashMap<>();
+                for (String name : partitioning.previousRing()) {
+                    WishlistPartition partition = partitions.get(name);
+                    if (partition == null) {
+                        throw new IllegalArgumentException("Unknown partition in wishlist.mongo.partitioning.previous-ring: " + name);
+                    }
+                    previous.put(name, partition);
+                }
+                previousRing = new ConsistentHashRing<>(previous, partitioning.virtualNodes());
+            }
+            return new MongoPartitions(clients, new PartitionedWishlistRepository(
+                    new ConsistentHashRing<>(current, partitioning.virtualNodes()), previousRing));
+        } catch (RuntimeException e) {
+            clients.values().forEach(MongoClient::close);
+            throw e;
+        }
+    }
+
+    static WishlistPartition partition(String name, MongoTemplate mongoTemplate, MongoClientProperties clientProperties) {
+        WishlistRepository repository = new MongoRepositoryFactory(mongoTemplate).getRepository(
+                MongoWishlistRepository.class, RepositoryFragments.just(
+                        new WishlistRepositoryCustomImpl(mongoTemplate, MongoConfig.readRouting(clientProperties.reads()))));
+        return new WishlistPartition(name, mongoTemplate, repository);
+    }
+
+    List<WishlistPartition> partitions() {
+        return repository.partitions();
+    }
+}
@@ -0,0 +1,21 @@
+package com.wishlist.wishlist.infra.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * How wishlists are laid out in MongoDB. {@code document} keeps every item embedded in the wishlist document;
+ * {@code bucketed} moves them into bucket documents of at most bucket-size items, migrating wishlists in the
+ * old shape on their first write and, with migrate-on-startup, by a background scan.
+ */
+@ConfigurationProperties(prefix = "wishlist.mongo.storage")
+public record MongoStorageProperties(
+        @DefaultValue("document") Layout layout,
+        @DefaultValue("500") int bucketSize,
+        @DefaultValue("true") boolean migrateOnStartup) {
+
+    public enum Layout {
+        DOCUMENT,
+        BUCKETED
+    }
+}
@@ -0,0 +1,71 @@
+package com.wishlist.wishlist.infra.config;
+
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoClients;
+import com.wishlist.wishlist.domain.model.Wishlist;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.index.ReactiveIndexOperations;
+import org.springframework.data.mongodb.repository.config.EnableReactiveMongoRepositories;
+import reactor.core.publisher.Flux;
+
+@Configuration
+@Profile("reactive")
+@EnableConfigurationProperties(MongoClientProperties.class)
+@EnableReactiveMongoRepositories(basePackages = "com.wishlist.wishlist.domain.repository")
+public class ReactiveMongoConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveMongoConfig.class);
+
+    @Value("${spring.mongodb.uri}")
+    private String mongoUri;
+
+    @Bean
+    public MongoClient reactiveMongoClient(MongoClientProperties properties, MeterRegistry meterRegistry) {
+        return MongoClients.create(MongoConfig.clientSettings(mongoUri, properties, meterRegistry, "reactive"));
+    }
+
+    @Bean
+    public ReactiveMongoTemplate reactiveMongoTemplate(MongoClient reactiveMongoClient) {
+        return new ReactiveMongoTemplate(reactiveMongoClient, "wishlist");
+    }
+
+    // MongoIndexInitializer needs the blocking template, which this profile does not create, so the mapped
+    // indexes are ensured here; the unique userId index is what turns racing first adds into a retried conflict.
+    @Bean
+    @ConditionalOnProperty(name = "wishlist.mongo.indexes.enabled", havingValue = "true", matchIfMissing = true)
+    public ApplicationListener<ApplicationReadyEvent> reactiveIndexStartup(
+            ReactiveMongoTemplate reactiveMongoTemplate,
+            @Value("${wishlist.mongo.indexes.failure-mode:warn}") MongoIndexInitializer.FailureMode failureMode) {
+        return event -> {
+            IndexResolver resolver = new MongoPersistentEntityIndexResolver(
+                    reactiveMongoTemplate.getConverter().getMappingContext());
+            ReactiveIndexOperations indexOps = reactiveMongoTemplate.indexOps(Wishlist.class);
+            try {
+                Flux.fromIterable(resolver.resolveIndexFor(Wishlist.class))
+                        .concatMap(indexOps::createIndex)
+                        .doOnNext(name -> log.info("Ensured index {} on collection {}", name,
+                                reactiveMongoTemplate.getCollectionName(Wishlist.class)))
+                        .blockLast();
+            } catch (DataAccessException ex) {
+                if (failureMode == MongoIndexInitializer.FailureMode.FAIL) {
+                    throw new IllegalStateException("Could not ensure wishlist indexes: " + ex.getMessage(), ex);
+                }
+                log.warn("Could not ensure wishlist indexes: {}", ex.getMessage());
+            }
+        };
+    }
+}
@@ -0,0 +1,109 @@
+package com.wishlist.wishlist.infra.controller;
+
+import com.wishlist.wishlist.application.dto.*;
+import com.wishlist.wishlist.application.usecase.reactive.ReactiveAddItemUseCase;
+import com.wishlist.wishlist.application.usecase.reactive.ReactiveGetWishlistItemsUseCase;
+import com.wishlist.wishlist.application.usecase.reactive.ReactiveItemExistsInWishlistUseCase;
+import com.wishlist.wishlist.application.usecase.reactive.ReactiveRemoveItemUseCase;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import static com.wishlist.wishlist.application.usecase.GetWishlistItemsUseCaseImpl.MAX_PAGE_SIZE;
+
+@RestController
+@RequestMapping("/wishlist")
+@Profile("reactive")
+@RequiredArgsConstructor
+@Validated
+public class ReactiveWishlistController {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveWishlistController.class);
+
+    private final ReactiveAddItemUseCase addItemUseCase;
+    private final ReactiveRemoveItemUseCase removeItemUseCase;
+    private final ReactiveGetWishlistItemsUseCase getWishlistItemsUseCase;
+    private final ReactiveItemExistsInWishlistUseCase itemExistsInWishlistUseCase;
+
+    @PostMapping("/item")
+    public Mono<ResponseEntity<AddItemOutput>> addItem(@Valid @RequestBody AddItemInput input) {
+        log.info("Adding item to wishlist - userId: {}, itemId: {}, name: {}", 
+                input.getUserId(), input.getItemId(), input.getName());
+        return addItemUseCase.execute(input)
+                .map(output -> {
+                    log.info("Item added successfully - wishlistId: {}, itemId: {}", 
+                            output.getWishlistId(), output.getItemId());
+                    return ResponseEntity.status(HttpStatus.CREATED).body(output);
+                });
+    }
+
+    @DeleteMapping("/{userId}/items/{itemId}")
+    public Mono<ResponseEntity<Void>> removeItem(
+            @PathVariable @NotBlank(message = "UserId is required") String userId,
+            @PathVariable @NotBlank(message = "ItemId is required") String itemId
+    ) {
+        log.info("Removing item from wishlist - userId: {}, itemId: {}", userId, itemId);
+        RemoveItemInput input = RemoveItemInput.builder()
+                .userId(userId)
+                .itemId(itemId)
+                .build();
+        return removeItemUseCase.execute(input)
+                .then(Mono.fromSupplier(() -> {
+                    log.info("Item removed successfully - userId: {}, itemId: {}", userId, itemId);
+                    return ResponseEntity.status(HttpStatus.NO_CONTENT).<Void>build();
+                }));
+    }
+
+    // The items are read along with their version, so a matching If-None-Match only saves sending the body.
+    @GetMapping("/{userId}/items")
+    public Mono<ResponseEntity<GetWishlistItemsOutput>> getItems(
+            @PathVariable @NotBlank(message = "UserId is required") String userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false)
+            @Min(value = 1, message = "Limit must be at least 1")
+            @Max(value = MAX_PAGE_SIZE, message = "Limit must be at most " + MAX_PAGE_SIZE) Integer limit,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        log.debug("Getting wishlist items - userId: {}, cursor: {}, limit: {}", userId, cursor, limit);
+        GetWishlistItemsInput input = new GetWishlistItemsInput(userId, cursor, limit);
+        return getWishlistItemsUseCase.execute(input)
+                .map(output -> {
+                    String eTag = "\"" + output.getVersion() + "\"";
+                    if (WishlistController.matches(ifNoneMatch, eTag)) {
+                        log.debug("Wishlist not modified - userId: {}, eTag: {}", userId, eTag);
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).<GetWishlistItemsOutput>build();
+                    }
+                    log.debug("Retrieved {} items for userId: {}", 
+                            output.getItems() != null ? output.getItems().size() : 0, userId);
+                    return ResponseEntity.ok().eTag(eTag).body(output);
+                });
+    }
+
+    @GetMapping("/{userId}/items/{itemId}")
+    public Mono<ResponseEntity<ContainsItemOutput>> contains(
+            @PathVariable @NotBlank(message = "UserId is required") String userId,
+            @PathVariable @NotBlank(message = "ItemId is required") String itemId
+    ) {
+        log.debug("Checking if item exists - userId: {}, itemId: {}", userId, itemId);
+        ContainsItemInput input = ContainsItemInput.builder()
+                .userId(userId)
+                .itemId(itemId)
+                .build();
+        return itemExistsInWishlistUseCase.execute(input)
+                .map(output -> {
+                    log.debug("Item exists check result - userId: {}, itemId: {}, exists: {}", 
+                            userId, itemId, output.isExists());
+                    return ResponseEntity.ok(output);
+                });
+    }
+}
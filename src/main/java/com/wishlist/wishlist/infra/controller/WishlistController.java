@@ -2,21 +2,32 @@ package com.wishlist.wishlist.infra.controller;
 
 import com.wishlist.wishlist.application.dto.*;
 import com.wishlist.wishlist.application.usecase.AddItemUseCase;
+import com.wishlist.wishlist.application.usecase.AddItemsUseCase;
 import com.wishlist.wishlist.application.usecase.GetWishlistItemsUseCase;
+import com.wishlist.wishlist.application.usecase.GetWishlistVersionUseCase;
 import com.wishlist.wishlist.application.usecase.ItemExistsInWishlistUseCase;
+import com.wishlist.wishlist.application.usecase.ItemsExistInWishlistUseCase;
 import com.wishlist.wishlist.application.usecase.RemoveItemUseCase;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import static com.wishlist.wishlist.application.usecase.GetWishlistItemsUseCaseImpl.MAX_PAGE_SIZE;
+
 @RestController
 @RequestMapping("/wishlist")
+@Profile("!reactive")
 @RequiredArgsConstructor
 @Validated
 public class WishlistController {
@@ -24,9 +35,12 @@ public class WishlistController {
     private static final Logger log = LoggerFactory.getLogger(WishlistController.class);
 
     private final AddItemUseCase addItemUseCase;
+    private final AddItemsUseCase addItemsUseCase;
     private final RemoveItemUseCase removeItemUseCase;
     private final GetWishlistItemsUseCase getWishlistItemsUseCase;
     private final ItemExistsInWishlistUseCase itemExistsInWishlistUseCase;
+    private final ItemsExistInWishlistUseCase itemsExistInWishlistUseCase;
+    private final GetWishlistVersionUseCase getWishlistVersionUseCase;
 
     @PostMapping("/item")
     public ResponseEntity<AddItemOutput> addItem(@Valid @RequestBody AddItemInput input) {
@@ -38,6 +52,14 @@ public class WishlistController {
         return ResponseEntity.status(HttpStatus.CREATED).body(output);
     }
 
+    @PostMapping("/item/batch")
+    public ResponseEntity<AddItemsOutput> addItems(@Valid @RequestBody AddItemsInput input) {
+        log.info("Adding items to wishlists - items: {}", input.getItems().size());
+        AddItemsOutput output = addItemsUseCase.execute(input);
+        log.info("Items processed successfully - results: {}", output.getResults().size());
+        return ResponseEntity.ok(output);
+    }
+
     @DeleteMapping("/{userId}/items/{itemId}")
     public ResponseEntity<Void> removeItem(
             @PathVariable @NotBlank(message = "UserId is required") String userId,
@@ -55,22 +77,37 @@ public class WishlistController {
 
     @GetMapping("/{userId}/items")
     public ResponseEntity<GetWishlistItemsOutput> getItems(
-            @PathVariable @NotBlank(message = "UserId is required") String userId) {
-        log.debug("Getting wishlist items - userId: {}", userId);
-        GetWishlistItemsInput input = new GetWishlistItemsInput();
-        input.setUserId(userId);
+            @PathVariable @NotBlank(message = "UserId is required") String userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false)
+            @Min(value = 1, message = "Limit must be at least 1")
+            @Max(value = MAX_PAGE_SIZE, message = "Limit must be at most " + MAX_PAGE_SIZE) Integer limit,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        log.debug("Getting wishlist items - userId: {}, cursor: {}, limit: {}", userId, cursor, limit);
+        String eTag = currentETag(userId, ifNoneMatch);
+        if (matches(ifNoneMatch, eTag)) {
+            log.debug("Wishlist not modified - userId: {}, eTag: {}", userId, eTag);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        GetWishlistItemsInput input = new GetWishlistItemsInput(userId, cursor, limit);
         GetWishlistItemsOutput output = getWishlistItemsUseCase.execute(input);
         log.debug("Retrieved {} items for userId: {}", 
                 output.getItems() != null ? output.getItems().size() : 0, userId);
-        return ResponseEntity.ok(output);
+        return ResponseEntity.ok().eTag(eTag(output.getVersion())).body(output);
     }
 
     @GetMapping("/{userId}/items/{itemId}")
     public ResponseEntity<ContainsItemOutput> contains(
             @PathVariable @NotBlank(message = "UserId is required") String userId,
-            @PathVariable @NotBlank(message = "ItemId is required") String itemId
+            @PathVariable @NotBlank(message = "ItemId is required") String itemId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
         log.debug("Checking if item exists - userId: {}, itemId: {}", userId, itemId);
+        String eTag = currentETag(userId, ifNoneMatch);
+        if (matches(ifNoneMatch, eTag)) {
+            log.debug("Wishlist not modified - userId: {}, eTag: {}", userId, eTag);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
         ContainsItemInput input = ContainsItemInput.builder()
                 .userId(userId)
                 .itemId(itemId)
@@ -78,6 +115,36 @@ public class WishlistController {
         ContainsItemOutput output = itemExistsInWishlistUseCase.execute(input);
         log.debug("Item exists check result - userId: {}, itemId: {}, exists: {}", 
                 userId, itemId, output.isExists());
+        return ResponseEntity.ok().eTag(eTag(output.getVersion())).body(output);
+    }
+
+    @PostMapping("/items/contains")
+    public ResponseEntity<ContainsItemsOutput> containsAll(@Valid @RequestBody ContainsItemsInput input) {
+        log.debug("Checking if items exist - users: {}", input.getUsers().size());
+        ContainsItemsOutput output = itemsExistInWishlistUseCase.execute(input);
+        log.debug("Items exist check result - users: {}", output.getWishlisted().size());
         return ResponseEntity.ok(output);
     }
+
+    // Only a conditional request reads the version up front, to answer 304 without reading the items; a full
+    // response is tagged with the version of the wishlist its body was read from, so the two always agree.
+    private String currentETag(String userId, String ifNoneMatch) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return null;
+        }
+        return eTag(getWishlistVersionUseCase.execute(new GetWishlistVersionInput(userId)).getVersion());
+    }
+
+    private static String eTag(long version) {
+        return "\"" + version + "\"";
+    }
+
+    static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        ETag current = ETag.create(eTag);
+        return ETag.parse(ifNoneMatch).stream()
+                .anyMatch(candidate -> candidate.isWildcard() || candidate.compare(current, false));
+    }
 }
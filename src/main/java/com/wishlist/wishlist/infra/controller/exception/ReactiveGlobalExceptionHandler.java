@@ -0,0 +1,116 @@
+package com.wishlist.wishlist.infra.controller.exception;
+
+import com.wishlist.wishlist.domain.exception.InvalidCursorException;
+import com.wishlist.wishlist.domain.exception.ItemNotFoundException;
+import com.wishlist.wishlist.domain.exception.WishlistLimitExceededException;
+import com.wishlist.wishlist.domain.exception.WishlistNotFoundException;
+import com.wishlist.wishlist.infra.controller.dto.ErrorResponse;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.support.WebExchangeBindException;
+
+import java.time.LocalDateTime;
+import java.util.stream.Collectors;
+
+/**
+ * WebFlux counterpart of {@link GlobalExceptionHandler}, answering with the same statuses and error bodies.
+ */
+@ControllerAdvice
+@Profile("reactive")
+public class ReactiveGlobalExceptionHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveGlobalExceptionHandler.class);
+
+    @ExceptionHandler(WishlistNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleWishlistNotFound(
+            WishlistNotFoundException ex,
+            ServerHttpRequest request) {
+        log.warn("WishlistNotFoundException - path: {}, message: {}", 
+                path(request), ex.getMessage());
+        return error(HttpStatus.NOT_FOUND, ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(ItemNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleItemNotFound(
+            ItemNotFoundException ex,
+            ServerHttpRequest request) {
+        log.warn("ItemNotFoundException - path: {}, message: {}", 
+                path(request), ex.getMessage());
+        return error(HttpStatus.NOT_FOUND, ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(WishlistLimitExceededException.class)
+    public ResponseEntity<ErrorResponse> handleWishlistLimitExceeded(
+            WishlistLimitExceededException ex,
+            ServerHttpRequest request) {
+        log.warn("WishlistLimitExceededException - path: {}, message: {}", 
+                path(request), ex.getMessage());
+        return error(HttpStatus.BAD_REQUEST, ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCursor(
+            InvalidCursorException ex,
+            ServerHttpRequest request) {
+        log.warn("InvalidCursorException - path: {}, message: {}", 
+                path(request), ex.getMessage());
+        return error(HttpStatus.BAD_REQUEST, ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ErrorResponse> handleValidation(
+            WebExchangeBindException ex,
+            ServerHttpRequest request) {
+        String errors = ex.getBindingResult()
+                .getFieldErrors()
+                .stream()
+                .map(error -> error.getField() + ": " + error.getDefaultMessage())
+                .collect(Collectors.joining(", "));
+
+        log.warn("Validation failed - path: {}, errors: {}", path(request), errors);
+        return error(HttpStatus.BAD_REQUEST, "Validation failed: " + errors, request);
+    }
+
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<ErrorResponse> handleConstraintViolation(
+            ConstraintViolationException ex,
+            ServerHttpRequest request) {
+        String errors = ex.getConstraintViolations()
+                .stream()
+                .map(ConstraintViolation::getMessage)
+                .collect(Collectors.joining(", "));
+
+        log.warn("Constraint violation - path: {}, errors: {}", path(request), errors);
+        return error(HttpStatus.BAD_REQUEST, "Validation failed: " + errors, request);
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponse> handleGenericException(
+            Exception ex,
+            ServerHttpRequest request) {
+        log.error("Unexpected error - path: {}, message: {}", 
+                path(request), ex.getMessage(), ex);
+        return error(HttpStatus.INTERNAL_SERVER_ERROR, "An unexpected error occurred: " + ex.getMessage(), request);
+    }
+
+    private static ResponseEntity<ErrorResponse> error(HttpStatus status, String message, ServerHttpRequest request) {
+        ErrorResponse error = ErrorResponse.builder()
+                .message(message)
+                .timestamp(LocalDateTime.now())
+                .path(path(request))
+                .build();
+        return ResponseEntity.status(status).body(error);
+    }
+
+    private static String path(ServerHttpRequest request) {
+        return request.getPath().value();
+    }
+}
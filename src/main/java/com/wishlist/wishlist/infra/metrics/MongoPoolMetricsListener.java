@@ -0,0 +1,95 @@
+package com.wishlist.wishlist.infra.metrics;
+
+import com.mongodb.event.ConnectionCheckOutFailedEvent;
+import com.mongodb.event.ConnectionCheckOutStartedEvent;
+import com.mongodb.event.ConnectionCheckedInEvent;
+import com.mongodb.event.ConnectionCheckedOutEvent;
+import com.mongodb.event.ConnectionClosedEvent;
+import com.mongodb.event.ConnectionCreatedEvent;
+import com.mongodb.event.ConnectionPoolListener;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Exports how long requests wait for a pooled connection ({@code wishlist.mongo.pool.checkout}, tagged by
+ * outcome), how many are waiting and how many connections are open and in use, summed over the pools of every
+ * server of one client (tag {@code client}). Waits approaching max-wait-time with in-use at max-size mean the
+ * pool is starved.
+ */
+public class MongoPoolMetricsListener implements ConnectionPoolListener {
+
+    static final String CHECKOUT = "wishlist.mongo.pool.checkout";
+    static final String WAITING = "wishlist.mongo.pool.waiting";
+    static final String CONNECTIONS = "wishlist.mongo.pool.connections";
+
+    private final Timer checkedOut;
+    private final Timer checkOutFailed;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final AtomicInteger inUse = new AtomicInteger();
+    private final AtomicInteger open = new AtomicInteger();
+
+    public MongoPoolMetricsListener(MeterRegistry meterRegistry, String client) {
+        this.checkedOut = checkoutTimer(meterRegistry, client, "success");
+        this.checkOutFailed = checkoutTimer(meterRegistry, client, "failed");
+        Gauge.builder(WAITING, waiting, AtomicInteger::get)
+                .description("Operations waiting for a pooled MongoDB connection")
+                .tag("client", client)
+                .register(meterRegistry);
+        Gauge.builder(CONNECTIONS, inUse, AtomicInteger::get)
+                .description("Pooled MongoDB connections by state")
+                .tag("client", client)
+                .tag("state", "in-use")
+                .register(meterRegistry);
+        Gauge.builder(CONNECTIONS, open, AtomicInteger::get)
+                .description("Pooled MongoDB connections by state")
+                .tag("client", client)
+                .tag("state", "open")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void connectionCheckOutStarted(ConnectionCheckOutStartedEvent event) {
+        waiting.incrementAndGet();
+    }
+
+    @Override
+    public void connectionCheckedOut(ConnectionCheckedOutEvent event) {
+        waiting.decrementAndGet();
+        inUse.incrementAndGet();
+        checkedOut.record(event.getElapsedTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void connectionCheckOutFailed(ConnectionCheckOutFailedEvent event) {
+        waiting.decrementAndGet();
+        checkOutFailed.record(event.getElapsedTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void connectionCheckedIn(ConnectionCheckedInEvent event) {
+        inUse.decrementAndGet();
+    }
+
+    @Override
+    public void connectionCreated(ConnectionCreatedEvent event) {
+        open.incrementAndGet();
+    }
+
+    @Override
+    public void connectionClosed(ConnectionClosedEvent event) {
+        open.decrementAndGet();
+    }
+
+    private static Timer checkoutTimer(MeterRegistry meterRegistry, String client, String outcome) {
+        return Timer.builder(CHECKOUT)
+                .description("Time spent waiting to check out a pooled MongoDB connection")
+                .tag("client", client)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
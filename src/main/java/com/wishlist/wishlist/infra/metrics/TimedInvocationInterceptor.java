@@ -0,0 +1,101 @@
+package com.wishlist.wishlist.infra.metrics;
+
+import com.wishlist.wishlist.application.dto.ContainsItemOutput;
+import com.wishlist.wishlist.application.dto.GetWishlistItemsOutput;
+import com.wishlist.wishlist.domain.exception.ItemNotFoundException;
+import com.wishlist.wishlist.domain.exception.WishlistLimitExceededException;
+import com.wishlist.wishlist.domain.exception.WishlistNotFoundException;
+import com.wishlist.wishlist.domain.model.RemoveItemResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Records every invocation in a timer tagged by operation and outcome. Calls returning a {@link Mono} are timed
+ * from subscription until the Mono completes, so the reactive use cases report the same latency as the blocking ones.
+ */
+public class TimedInvocationInterceptor implements MethodInterceptor {
+
+    private final Supplier<MeterRegistry> meterRegistry;
+    private final String metricName;
+    private final Function<MethodInvocation, String> operation;
+
+    public TimedInvocationInterceptor(Supplier<MeterRegistry> meterRegistry, String metricName,
+                                      Function<MethodInvocation, String> operation) {
+        this.meterRegistry = meterRegistry;
+        this.metricName = metricName;
+        this.operation = operation;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        String operationName = operation.apply(invocation);
+        MeterRegistry registry = meterRegistry.get();
+        Timer.Sample sample = Timer.start(registry);
+        Object result;
+        try {
+            result = invocation.proceed();
+        } catch (Throwable ex) {
+            stop(registry, sample, operationName, outcome(ex));
+            throw ex;
+        }
+
+        if (result instanceof Mono<?> mono) {
+            return Mono.defer(() -> {
+                Timer.Sample subscribed = Timer.start(registry);
+                return mono
+                        .doOnSuccess(value -> stop(registry, subscribed, operationName, outcome(value)))
+                        .doOnError(ex -> stop(registry, subscribed, operationName, outcome(ex)));
+            });
+        }
+        stop(registry, sample, operationName, outcome(result));
+        return result;
+    }
+
+    private void stop(MeterRegistry registry, Timer.Sample sample, String operationName, String outcome) {
+        sample.stop(Timer.builder(metricName)
+                .tag("operation", operationName)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry));
+    }
+
+    static String outcome(Object result) {
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? "hit" : "not-found";
+        }
+        if (result instanceof Boolean exists) {
+            return exists ? "hit" : "miss";
+        }
+        if (result instanceof ContainsItemOutput output) {
+            return output.isExists() ? "hit" : "miss";
+        }
+        if (result instanceof GetWishlistItemsOutput output) {
+            return output.getItems() == null || output.getItems().isEmpty() ? "miss" : "hit";
+        }
+        if (result instanceof RemoveItemResult removeResult) {
+            return switch (removeResult) {
+                case REMOVED -> "success";
+                case ITEM_NOT_FOUND -> "miss";
+                case WISHLIST_NOT_FOUND -> "not-found";
+            };
+        }
+        return "success";
+    }
+
+    static String outcome(Throwable ex) {
+        if (ex instanceof WishlistLimitExceededException) {
+            return "limit-exceeded";
+        }
+        if (ex instanceof WishlistNotFoundException || ex instanceof ItemNotFoundException) {
+            return "not-found";
+        }
+        return "error";
+    }
+}
@@ -0,0 +1,56 @@
+package com.wishlist.wishlist.infra.metrics;
+
+import com.wishlist.wishlist.domain.repository.ReactiveWishlistRepository;
+import com.wishlist.wishlist.domain.repository.WishlistRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Wraps every use case and the wishlist repositories in a {@link TimedInvocationInterceptor}: use cases are
+ * recorded as {@code wishlist.usecase} by their use case interface name, repository calls as {@code wishlist.repository} by
+ * method name. The registry is resolved on first use so it is still configured by Boot before it records.
+ */
+@Component
+@ConditionalOnProperty(name = "wishlist.metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class WishlistMetricsPostProcessor implements BeanPostProcessor {
+
+    private static final String USE_CASE_PACKAGE = "com.wishlist.wishlist.application.usecase";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public WishlistMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof WishlistRepository || bean instanceof ReactiveWishlistRepository) {
+            return proxy(bean, new TimedInvocationInterceptor(meterRegistry::getObject, "wishlist.repository",
+                    invocation -> invocation.getMethod().getName()));
+        }
+        Optional<Class<?>> useCase = Arrays.stream(ClassUtils.getAllInterfaces(bean))
+                .filter(type -> type.getPackageName().startsWith(USE_CASE_PACKAGE))
+                .filter(type -> type.getSimpleName().endsWith("UseCase"))
+                .findFirst();
+        if (useCase.isPresent()) {
+            String operation = useCase.get().getSimpleName();
+            return proxy(bean, new TimedInvocationInterceptor(meterRegistry::getObject, "wishlist.usecase",
+                    invocation -> operation));
+        }
+        return bean;
+    }
+
+    private static Object proxy(Object bean, TimedInvocationInterceptor interceptor) {
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        proxyFactory.addAdvice(interceptor);
+        return proxyFactory.getProxy(bean.getClass().getClassLoader());
+    }
+}
@@ -0,0 +1,143 @@
+package com.wishlist.wishlist.application.cache;
+
+import com.wishlist.wishlist.domain.model.Wishlist;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SingleFlightLoader - In-Flight Load Deduplication Tests")
+class SingleFlightLoaderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlightLoader loader = new SingleFlightLoader(meterRegistry, true);
+
+    @Test
+    @DisplayName("load - should run one load for concurrent callers of the same user and share its empty result")
+    void shouldShareOneLoadBetweenConcurrentCallers() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Function<String, Optional<Wishlist>> blockingLoad = userId -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return Optional.empty();
+        };
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            List<Future<Optional<Wishlist>>> results = new ArrayList<>();
+            results.add(executor.submit(() -> loader.load("user123", blockingLoad)));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 0; i < 3; i++) {
+                results.add(executor.submit(() -> loader.load("user123", blockingLoad)));
+            }
+            waitForCount("collapsed", 3);
+            release.countDown();
+
+            for (Future<Optional<Wishlist>> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEmpty();
+            }
+        }
+
+        assertThat(loads).hasValue(1);
+        assertThat(count("leader")).isEqualTo(1);
+        assertThat(count("collapsed")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("load - should start a new load once the previous one failed")
+    void shouldStartNewLoadAfterFailure() {
+        assertThatThrownBy(() -> loader.load("user123", userId -> {
+            throw new IllegalStateException("read failed");
+        })).isInstanceOf(IllegalStateException.class);
+
+        Optional<Wishlist> result = loader.load("user123",
+                userId -> Optional.of(Wishlist.builder().id("wishlist123").userId(userId).build()));
+
+        assertThat(result).get().extracting(Wishlist::getId).isEqualTo("wishlist123");
+        assertThat(count("leader")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("forget - should make later callers start a new load instead of joining the one in flight")
+    void shouldNotJoinLoadInFlightAfterForget() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            Future<Optional<Wishlist>> stale = executor.submit(() -> loader.load("user123", userId -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                await(release);
+                return Optional.empty();
+            }));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+            loader.forget("user123");
+            Optional<Wishlist> fresh = loader.load("user123", userId -> {
+                loads.incrementAndGet();
+                return Optional.of(Wishlist.builder().id("wishlist123").userId(userId).build());
+            });
+            release.countDown();
+
+            assertThat(fresh).isPresent();
+            assertThat(stale.get(5, TimeUnit.SECONDS)).isEmpty();
+        }
+        assertThat(loads).hasValue(2);
+        assertThat(count("collapsed")).isZero();
+    }
+
+    @Test
+    @DisplayName("load - should call the loader every time when disabled")
+    void shouldCallLoaderWhenDisabled() {
+        SingleFlightLoader disabled = new SingleFlightLoader(meterRegistry, false);
+        AtomicInteger loads = new AtomicInteger();
+
+        disabled.load("user123", userId -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+        disabled.load("user123", userId -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+
+        assertThat(loads).hasValue(2);
+        assertThat(count("leader")).isZero();
+    }
+
+    private double count(String role) {
+        return meterRegistry.get(SingleFlightLoader.LOADS).tag("role", role).counter().count();
+    }
+
+    private void waitForCount(String role, double expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (count(role) < expected && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertThat(count(role)).isEqualTo(expected);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.wishlist.wishlist.application.cache;
+
+import com.wishlist.wishlist.domain.model.Wishlist;
+import com.wishlist.wishlist.domain.model.WishlistItem;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("WishlistCache - Read-Through Cache Tests")
+class WishlistCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("get - should load once and count hits and misses")
+    void shouldLoadOnceAndCountHitsAndMisses() {
+        WishlistCache cache = new WishlistCache(meterRegistry, true, 1_000, Duration.ofMinutes(10));
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("user123", userId -> {
+            loads.incrementAndGet();
+            return Optional.of(wishlist(userId, 2));
+        });
+        Optional<Wishlist> cached = cache.get("user123", userId -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+
+        assertThat(cached).isPresent();
+        assertThat(loads).hasValue(1);
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+        assertThat(cache.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("get - should publish hits and misses to the meter registry")
+    void shouldPublishStatsToMeterRegistry() {
+        WishlistCache cache = new WishlistCache(meterRegistry, true, 1_000, Duration.ofMinutes(10));
+
+        cache.get("user123", userId -> Optional.of(wishlist(userId, 1)));
+        cache.get("user123", userId -> Optional.empty());
+
+        assertThat(gets("hit")).isEqualTo(1);
+        assertThat(gets("miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("get - should not cache users without a wishlist")
+    void shouldNotCacheMissingWishlists() {
+        WishlistCache cache = new WishlistCache(meterRegistry, true, 1_000, Duration.ofMinutes(10));
+
+        assertThat(cache.get("user123", userId -> Optional.empty())).isEmpty();
+        assertThat(cache.getIfPresent("user123")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("get - should evict by total item weight")
+    void shouldEvictByItemWeight() {
+        WishlistCache cache = new WishlistCache(meterRegistry, true, 30, Duration.ofMinutes(10), Runnable::run);
+
+        for (int u = 0; u < 10; u++) {
+            cache.get("user" + u, userId -> Optional.of(wishlist(userId, 9)));
+        }
+
+        assertThat(cache.stats().evictionCount()).isGreaterThan(0);
+        assertThat(cache.stats().evictionWeight()).isGreaterThanOrEqualTo(cache.stats().evictionCount() * 10);
+    }
+
+    @Test
+    @DisplayName("invalidate - should wait for an in-flight load so a stale read cannot survive a write")
+    void shouldNotKeepStaleLoadAfterInvalidate() throws Exception {
+        WishlistCache cache = new WishlistCache(meterRegistry, true, 1_000, Duration.ofMinutes(10));
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            Future<?> reader = executor.submit(() -> cache.get("user123", userId -> {
+                loading.countDown();
+                awaitQuietly(release);
+                return Optional.of(wishlist(userId, 1));
+            }));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+            Future<?> writer = executor.submit(() -> cache.invalidate("user123"));
+            release.countDown();
+            reader.get(5, TimeUnit.SECONDS);
+            writer.get(5, TimeUnit.SECONDS);
+
+            assertThat(cache.getIfPresent("user123")).isEmpty();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("disabled - should always delegate to the loader")
+    void shouldDelegateWhenDisabled() {
+        WishlistCache cache = new WishlistCache(meterRegistry, false, 1_000, Duration.ofMinutes(10));
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("user123", userId -> {
+            loads.incrementAndGet();
+            return Optional.of(wishlist(userId, 1));
+        });
+        cache.get("user123", userId -> {
+            loads.incrementAndGet();
+            return Optional.of(wishlist(userId, 1));
+        });
+
+        assertThat(loads).hasValue(2);
+        assertThat(cache.getIfPresent("user123")).isEmpty();
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", WishlistCache.NAME).tag("result", result)
+                .functionCounter().count();
+    }
+
+    private static Wishlist wishlist(String userId, int items) {
+        Wishlist wishlist = Wishlist.builder()
+                .id("wishlist-" + userId)
+                .userId(userId)
+                .items(new ArrayList<>())
+                .build();
+        for (int i = 0; i < items; i++) {
+            wishlist.getItems().add(WishlistItem.builder().itemId("item" + i).name("Item " + i).build());
+        }
+        return wishlist;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
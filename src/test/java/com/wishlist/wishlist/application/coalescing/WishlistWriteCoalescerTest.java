@@ -0,0 +1,139 @@
+package com.wishlist.wishlist.application.coalescing;
+
+import com.wishlist.wishlist.domain.model.WishlistItem;
+import com.wishlist.wishlist.domain.model.WishlistMutation;
+import com.wishlist.wishlist.domain.repository.InMemoryWishlistRepository;
+import com.wishlist.wishlist.domain.repository.WishlistRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("WishlistWriteCoalescer - Group Commit Tests")
+class WishlistWriteCoalescerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("submit - should apply concurrent mutations of a user in one write and answer each caller")
+    void shouldApplyConcurrentMutationsInOneWrite() throws Exception {
+        WishlistRepository repository = spy(new InMemoryWishlistRepository(4));
+        WishlistWriteCoalescer coalescer = new WishlistWriteCoalescer(repository, meterRegistry, true, Duration.ofSeconds(5), 5);
+
+        List<WishlistMutation.Result> results = submitConcurrently(coalescer, "user1", 5, i -> push("item" + i));
+
+        verify(repository, times(1)).applyMutations(eq("user1"), anyList(), eq(20));
+        for (int i = 0; i < results.size(); i++) {
+            assertThat(results.get(i).applied()).isTrue();
+            assertThat(results.get(i).wishlist().getItems().containsItem("item" + i)).isTrue();
+        }
+        assertThat(repository.findByUserId("user1")).get()
+                .extracting(wishlist -> wishlist.getItems().size()).isEqualTo(5);
+        DistributionSummary batchSizes = meterRegistry.get(WishlistWriteCoalescer.BATCH_SIZE).summary();
+        assertThat(batchSizes.count()).isEqualTo(1);
+        assertThat(batchSizes.totalAmount()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("submit - should keep the item limit across the mutations of one batch")
+    void shouldKeepLimitWithinBatch() throws Exception {
+        InMemoryWishlistRepository repository = new InMemoryWishlistRepository(4);
+        List<WishlistItem> existing = new ArrayList<>();
+        for (int i = 0; i < 19; i++) {
+            existing.add(item("existing" + i));
+        }
+        repository.pushItems(Map.of("user1", existing), 20);
+        WishlistWriteCoalescer coalescer = new WishlistWriteCoalescer(repository, meterRegistry, true, Duration.ofSeconds(5), 3);
+
+        List<WishlistMutation.Result> results = submitConcurrently(coalescer, "user1", 3, i -> push("item" + i));
+
+        assertThat(results).filteredOn(WishlistMutation.Result::applied).hasSize(1);
+        assertThat(repository.findByUserId("user1")).get()
+                .extracting(wishlist -> wishlist.getItems().size()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("submit - should commit the batches of a user in submission order")
+    void shouldCommitBatchesInOrder() {
+        InMemoryWishlistRepository repository = new InMemoryWishlistRepository(4);
+        WishlistWriteCoalescer coalescer = new WishlistWriteCoalescer(repository, meterRegistry, true, Duration.ZERO, 1);
+
+        assertThat(coalescer.submit("user1", push("item1")).applied()).isTrue();
+        WishlistMutation.Result removed = coalescer.submit("user1", new WishlistMutation.Pull("item1"));
+        WishlistMutation.Result missing = coalescer.submit("user2", new WishlistMutation.Pull("item1"));
+
+        assertThat(removed.applied()).isTrue();
+        assertThat(removed.wishlist().getItems()).isEmpty();
+        assertThat(missing.wishlist()).isNull();
+        assertThat(repository.findByUserId("user2")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("submit - should fail every caller of a batch when the write fails")
+    void shouldFailEveryCallerWhenWriteFails() {
+        WishlistRepository repository = mock(WishlistRepository.class);
+        when(repository.applyMutations(any(), anyList(), anyInt()))
+                .thenThrow(new DuplicateKeyException("E11000 duplicate key error"));
+        WishlistWriteCoalescer coalescer = new WishlistWriteCoalescer(repository, meterRegistry, true, Duration.ZERO, 1);
+
+        assertThatThrownBy(() -> coalescer.submit("user1", push("item1")))
+                .isInstanceOf(DuplicateKeyException.class);
+        assertThatThrownBy(() -> coalescer.submit("user1", push("item2")))
+                .isInstanceOf(DuplicateKeyException.class);
+    }
+
+    @Test
+    @DisplayName("constructor - should reject batches smaller than one mutation")
+    void shouldRejectInvalidBatchSize() {
+        assertThatThrownBy(() -> new WishlistWriteCoalescer(mock(WishlistRepository.class), meterRegistry,
+                true, Duration.ZERO, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<WishlistMutation.Result> submitConcurrently(
+            WishlistWriteCoalescer coalescer, String userId, int callers,
+            IntFunction<WishlistMutation> mutation) throws Exception {
+        try (ExecutorService executor = Executors.newFixedThreadPool(callers)) {
+            List<Future<WishlistMutation.Result>> futures = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                WishlistMutation next = mutation.apply(i);
+                futures.add(executor.submit(() -> coalescer.submit(userId, next)));
+            }
+            List<WishlistMutation.Result> results = new ArrayList<>();
+            for (Future<WishlistMutation.Result> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        }
+    }
+
+    private static WishlistMutation push(String itemId) {
+        return new WishlistMutation.Push(item(itemId));
+    }
+
+    private static WishlistItem item(String itemId) {
+        return WishlistItem.builder().itemId(itemId).name("Product " + itemId).build();
+    }
+}
@@ -0,0 +1,51 @@
+package com.wishlist.wishlist.application.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BloomFilter - Membership Tests")
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("mightContain - should never report a false negative")
+    void shouldNeverReportFalseNegative() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+
+        for (int u = 0; u < 10_000; u++) {
+            filter.put("user" + u);
+        }
+
+        for (int u = 0; u < 10_000; u++) {
+            assertThat(filter.mightContain("user" + u)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("mightContain - should keep the false positive rate close to the configured one")
+    void shouldKeepFalsePositiveRateNearConfiguredRate() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int u = 0; u < 10_000; u++) {
+            filter.put("user" + u);
+        }
+
+        int falsePositives = 0;
+        for (int u = 10_000; u < 110_000; u++) {
+            if (filter.mightContain("user" + u)) {
+                falsePositives++;
+            }
+        }
+
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+    }
+
+    @Test
+    @DisplayName("constructor - should size bits and hash functions from capacity and rate")
+    void shouldSizeFromCapacityAndRate() {
+        BloomFilter filter = new BloomFilter(1_000_000, 0.01);
+
+        assertThat(filter.bitCount()).isBetween(9_585_000L, 9_585_100L);
+        assertThat(filter.hashFunctions()).isEqualTo(7);
+    }
+}
@@ -0,0 +1,81 @@
+package com.wishlist.wishlist.application.filter;
+
+import com.wishlist.wishlist.domain.repository.WishlistOwnerSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WishlistOwnerFilter - Negative Lookup Tests")
+class WishlistOwnerFilterTest {
+
+    @Mock
+    private WishlistOwnerSource ownerSource;
+
+    @Test
+    @DisplayName("mightHaveWishlist - should report every user before the filter is built")
+    void shouldReportEveryUserBeforeBuild() {
+        WishlistOwnerFilter filter = new WishlistOwnerFilter(ownerSource, true, 1_000, 0.01);
+
+        assertThat(filter.mightHaveWishlist("user123")).isTrue();
+    }
+
+    @Test
+    @DisplayName("rebuild - should rule out users that were not streamed from the collection")
+    void shouldRuleOutUsersNotStreamed() {
+        when(ownerSource.estimatedWishlistCount()).thenReturn(2L);
+        when(ownerSource.streamUserIds()).thenReturn(Stream.of("user1", "user2"));
+        WishlistOwnerFilter filter = new WishlistOwnerFilter(ownerSource, true, 1_000, 0.01);
+
+        filter.rebuild();
+
+        assertThat(filter.mightHaveWishlist("user1")).isTrue();
+        assertThat(filter.mightHaveWishlist("user2")).isTrue();
+        assertThat(filter.mightHaveWishlist("user3")).isFalse();
+    }
+
+    @Test
+    @DisplayName("recordWishlist - should add users whose wishlist was created after the build")
+    void shouldAddUsersCreatedAfterBuild() {
+        when(ownerSource.estimatedWishlistCount()).thenReturn(0L);
+        when(ownerSource.streamUserIds()).thenReturn(Stream.empty());
+        WishlistOwnerFilter filter = new WishlistOwnerFilter(ownerSource, true, 1_000, 0.01);
+        filter.rebuild();
+
+        filter.recordWishlist("user123");
+
+        assertThat(filter.mightHaveWishlist("user123")).isTrue();
+    }
+
+    @Test
+    @DisplayName("rebuild - should keep reporting every user when the collection cannot be streamed")
+    void shouldKeepReportingEveryUserWhenStreamingFails() {
+        when(ownerSource.estimatedWishlistCount()).thenThrow(new DataAccessResourceFailureException("unreachable"));
+        WishlistOwnerFilter filter = new WishlistOwnerFilter(ownerSource, true, 1_000, 0.01);
+
+        filter.rebuild();
+
+        assertThat(filter.mightHaveWishlist("user123")).isTrue();
+    }
+
+    @Test
+    @DisplayName("rebuild - should not touch the repository when disabled")
+    void shouldNotTouchRepositoryWhenDisabled() {
+        WishlistOwnerFilter filter = new WishlistOwnerFilter(ownerSource, false, 1_000, 0.01);
+
+        filter.rebuild();
+
+        assertThat(filter.mightHaveWishlist("user123")).isTrue();
+        verify(ownerSource, never()).streamUserIds();
+    }
+}
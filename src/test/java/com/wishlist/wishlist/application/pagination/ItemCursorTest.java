@@ -0,0 +1,60 @@
+package com.wishlist.wishlist.application.pagination;
+
+import com.wishlist.wishlist.domain.exception.InvalidCursorException;
+import com.wishlist.wishlist.domain.model.ItemPage;
+import com.wishlist.wishlist.domain.model.WishlistItem;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ItemCursor - Opaque Page Cursor Tests")
+class ItemCursorTest {
+
+    @Test
+    @DisplayName("encode - should round-trip itemIds holding separators as a URL-safe token")
+    void shouldRoundTripItemIdWithSeparators() {
+        ItemCursor cursor = new ItemCursor("sku:42/ä?", 120);
+
+        String token = cursor.encode();
+
+        assertThat(token).matches("[A-Za-z0-9_-]+");
+        assertThat(ItemCursor.decode(token)).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("decode - should reject tokens that are not a cursor")
+    void shouldRejectMalformedTokens() {
+        // Not base64, then "no-separator", "-1:item1", "x:item1" and "5:" encoded.
+        for (String token : List.of("not base64!", "bm8tc2VwYXJhdG9y", "LTE6aXRlbTE", "eDppdGVtMQ", "NTo")) {
+            assertThatThrownBy(() -> ItemCursor.decode(token))
+                    .isInstanceOf(InvalidCursorException.class)
+                    .hasMessageContaining(token);
+        }
+    }
+
+    @Test
+    @DisplayName("decode - should read tokens written by an earlier encode")
+    void shouldDecodeToken() {
+        String token = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("3:item003".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(ItemCursor.decode(token)).isEqualTo(new ItemCursor("item003", 3));
+    }
+
+    @Test
+    @DisplayName("next - should point after the last item of a page with more items, and be null on the last page")
+    void shouldPointAfterLastItemOfPage() {
+        List<WishlistItem> items = List.of(WishlistItem.builder().itemId("item004").name("Product 4").build());
+
+        assertThat(ItemCursor.decode(ItemCursor.next(new ItemPage(items, 3, 5, 1))))
+                .isEqualTo(new ItemCursor("item004", 4));
+        assertThat(ItemCursor.next(new ItemPage(items, 4, 5, 1))).isNull();
+        assertThat(ItemCursor.next(new ItemPage(List.of(), 6, 5, 1))).isNull();
+    }
+}
@@ -0,0 +1,168 @@
+package com.wishlist.wishlist.application.retry;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("WriteRetry - Unit Tests")
+class WriteRetryTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final WriteRetry writeRetry = new WriteRetry(meterRegistry, 3, Duration.ZERO, Duration.ZERO);
+
+    @Test
+    @DisplayName("execute - should retry conflicts and count each conflict and retry")
+    void shouldRetryConflicts() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = writeRetry.execute("AddItemUseCase", () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new DuplicateKeyException("E11000 duplicate key error");
+            }
+            return "stored";
+        });
+
+        assertThat(result).isEqualTo("stored");
+        assertThat(attempts).hasValue(3);
+        assertThat(count(WriteRetry.CONFLICTS)).isEqualTo(2);
+        assertThat(count(WriteRetry.RETRIES)).isEqualTo(2);
+        assertThat(count(WriteRetry.EXHAUSTED)).isZero();
+    }
+
+    @Test
+    @DisplayName("execute - should rethrow the conflict once the attempts are exhausted")
+    void shouldRethrowWhenAttemptsExhausted() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> writeRetry.execute("AddItemUseCase", () -> {
+            attempts.incrementAndGet();
+            throw new OptimisticLockingFailureException("write conflict");
+        })).isInstanceOf(OptimisticLockingFailureException.class);
+
+        assertThat(attempts).hasValue(3);
+        assertThat(count(WriteRetry.CONFLICTS)).isEqualTo(3);
+        assertThat(count(WriteRetry.RETRIES)).isEqualTo(2);
+        assertThat(count(WriteRetry.EXHAUSTED)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("execute - should not retry failures that are not conflicts")
+    void shouldNotRetryOtherFailures() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> writeRetry.execute("AddItemUseCase", () -> {
+            attempts.incrementAndGet();
+            throw new DataAccessResourceFailureException("connection refused");
+        })).isInstanceOf(DataAccessResourceFailureException.class);
+
+        assertThat(attempts).hasValue(1);
+        assertThat(count(WriteRetry.CONFLICTS)).isZero();
+    }
+
+    @Test
+    @DisplayName("executeReactive - should resubscribe on conflicts and count each conflict and retry")
+    void shouldResubscribeOnConflicts() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        Mono<String> write = writeRetry.executeReactive("ReactiveAddItemUseCase", () -> attempts.incrementAndGet() < 2
+                ? Mono.error(new DuplicateKeyException("E11000 duplicate key error"))
+                : Mono.just("stored"));
+
+        StepVerifier.create(write)
+                .expectNext("stored")
+                .verifyComplete();
+        assertThat(count(WriteRetry.CONFLICTS)).isEqualTo(1);
+        assertThat(count(WriteRetry.RETRIES)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("executeReactive - should signal the conflict once the attempts are exhausted")
+    void shouldSignalConflictWhenAttemptsExhausted() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        Mono<String> write = writeRetry.executeReactive("ReactiveAddItemUseCase", () -> {
+            attempts.incrementAndGet();
+            return Mono.error(new OptimisticLockingFailureException("write conflict"));
+        });
+
+        StepVerifier.create(write)
+                .expectError(OptimisticLockingFailureException.class)
+                .verify();
+        assertThat(attempts).hasValue(3);
+        assertThat(count(WriteRetry.EXHAUSTED)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("executeReactive - should wait the same full-jitter backoff as execute before each retry")
+    void shouldWaitSameBackoffAsExecute() {
+        WriteRetry spied = spy(new WriteRetry(meterRegistry, 3, Duration.ofMillis(1), Duration.ofMillis(2)));
+        AtomicInteger attempts = new AtomicInteger();
+
+        Mono<String> write = spied.executeReactive("ReactiveAddItemUseCase", () -> attempts.incrementAndGet() < 3
+                ? Mono.error(new DuplicateKeyException("E11000 duplicate key error"))
+                : Mono.just("stored"));
+
+        StepVerifier.create(write)
+                .expectNext("stored")
+                .verifyComplete();
+        verify(spied).backoff(1);
+        verify(spied).backoff(2);
+        assertThat(count(WriteRetry.RETRIES)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("executeReactive - should not resubscribe on failures that are not conflicts")
+    void shouldNotResubscribeOnOtherFailures() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        Mono<String> write = writeRetry.executeReactive("ReactiveAddItemUseCase", () -> {
+            attempts.incrementAndGet();
+            return Mono.error(new DataAccessResourceFailureException("connection refused"));
+        });
+
+        StepVerifier.create(write)
+                .expectError(DataAccessResourceFailureException.class)
+                .verify();
+        assertThat(attempts).hasValue(1);
+        assertThat(count(WriteRetry.RETRIES)).isZero();
+    }
+
+    @Test
+    @DisplayName("backoff - should stay within the exponential ceiling capped at the maximum backoff")
+    void shouldBoundBackoff() {
+        WriteRetry jittered = new WriteRetry(meterRegistry, 5, Duration.ofMillis(5), Duration.ofMillis(12));
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(jittered.backoff(1)).isBetween(0L, Duration.ofMillis(5).toNanos());
+            assertThat(jittered.backoff(2)).isBetween(0L, Duration.ofMillis(10).toNanos());
+            assertThat(jittered.backoff(4)).isBetween(0L, Duration.ofMillis(12).toNanos());
+        }
+    }
+
+    @Test
+    @DisplayName("constructor - should reject fewer than one attempt")
+    void shouldRejectInvalidAttempts() {
+        assertThatThrownBy(() -> new WriteRetry(meterRegistry, 0, Duration.ZERO, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private double count(String name) {
+        return meterRegistry.find(name).counters().stream()
+                .mapToDouble(Counter::count)
+                .sum();
+    }
+}
@@ -1,19 +1,31 @@
 package com.wishlist.wishlist.application.service;
 
+import com.wishlist.wishlist.application.cache.SingleFlightLoader;
+import com.wishlist.wishlist.application.cache.WishlistCache;
+import com.wishlist.wishlist.domain.model.ItemPage;
 import com.wishlist.wishlist.domain.model.Wishlist;
 import com.wishlist.wishlist.domain.model.WishlistItem;
 import com.wishlist.wishlist.domain.repository.WishlistRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -24,9 +36,15 @@ class WishlistServiceTest {
     @Mock
     private WishlistRepository wishlistRepository;
 
-    @InjectMocks
     private WishlistService wishlistService;
 
+    @BeforeEach
+    void setUp() {
+        wishlistService = new WishlistService(wishlistRepository,
+                new WishlistCache(new SimpleMeterRegistry(), true, 1_000, Duration.ofMinutes(10)),
+                new SingleFlightLoader(new SimpleMeterRegistry(), true));
+    }
+
     @Test
     @DisplayName("findWishlist - should return wishlist when exists")
     void shouldReturnWishlistWhenExists() {
@@ -87,8 +105,7 @@ class WishlistServiceTest {
 
         assertThat(result).isPresent();
         assertThat(result.get().getItems()).hasSize(2);
-        assertThat(result.get().getItems().get(0).getItemId()).isEqualTo("item001");
-        assertThat(result.get().getItems().get(1).getItemId()).isEqualTo("item002");
+        assertThat(result.get().getItems()).extracting(WishlistItem::getItemId).containsExactly("item001", "item002");
     }
 
     @Test
@@ -108,5 +125,58 @@ class WishlistServiceTest {
         verify(wishlistRepository).findByUserId(userId1);
         verify(wishlistRepository).findByUserId(userId2);
     }
-}
 
+    @Test
+    @DisplayName("findWishlist - should serve repeated reads from the cache until the wishlist is evicted")
+    void shouldServeRepeatedReadsFromCacheUntilEvicted() {
+        String userId = "user123";
+        Wishlist wishlist = Wishlist.builder()
+                .id("wishlist123")
+                .userId(userId)
+                .items(new ArrayList<>())
+                .build();
+
+        when(wishlistRepository.findByUserId(userId)).thenReturn(Optional.of(wishlist));
+
+        wishlistService.findWishlist(userId);
+        wishlistService.findWishlist(userId);
+        assertThat(wishlistService.findCachedWishlist(userId)).contains(wishlist);
+        verify(wishlistRepository, times(1)).findByUserId(userId);
+
+        wishlistService.evictWishlist(userId);
+        assertThat(wishlistService.findCachedWishlist(userId)).isEmpty();
+        wishlistService.findWishlist(userId);
+        verify(wishlistRepository, times(2)).findByUserId(userId);
+    }
+
+    @Test
+    @DisplayName("findVersion - should answer from the cached wishlist and only query the version otherwise")
+    void shouldAnswerVersionFromCacheBeforeRepository() {
+        Wishlist wishlist = Wishlist.builder().id("wishlist-id").userId("user123").version(4).build();
+        when(wishlistRepository.findByUserId("user123")).thenReturn(Optional.of(wishlist));
+        when(wishlistRepository.findVersion("user456")).thenReturn(OptionalLong.of(2));
+        when(wishlistRepository.findVersion("user789")).thenReturn(OptionalLong.empty());
+        wishlistService.findWishlist("user123");
+
+        assertThat(wishlistService.findVersion("user123")).isEqualTo(4);
+        assertThat(wishlistService.findVersion("user456")).isEqualTo(2);
+        assertThat(wishlistService.findVersion("user789")).isZero();
+        verify(wishlistRepository, never()).findVersion("user123");
+    }
+
+    @Test
+    @DisplayName("findItemPage - should slice the cached wishlist and only read the page otherwise")
+    void shouldSliceCachedWishlistBeforeReadingPage() {
+        WishlistItem item1 = WishlistItem.builder().itemId("item001").name("Product 1").build();
+        WishlistItem item2 = WishlistItem.builder().itemId("item002").name("Product 2").build();
+        Wishlist wishlist = Wishlist.builder().id("wishlist-id").userId("user123").items(List.of(item1, item2)).version(2).build();
+        ItemPage stored = new ItemPage(List.of(item1), 0, 2, 5);
+        when(wishlistRepository.findByUserId("user123")).thenReturn(Optional.of(wishlist));
+        when(wishlistRepository.findItemPage("user456", null, 0, 1)).thenReturn(Optional.of(stored));
+        wishlistService.findWishlist("user123");
+
+        assertThat(wishlistService.findItemPage("user123", "item001", 1, 1)).contains(new ItemPage(List.of(item2), 1, 2, 2));
+        assertThat(wishlistService.findItemPage("user456", null, 0, 1)).contains(stored);
+        verify(wishlistRepository, never()).findItemPage(eq("user123"), any(), anyInt(), anyInt());
+    }
+}
@@ -1,26 +1,38 @@
 package com.wishlist.wishlist.application.usecase;
 
+import com.wishlist.wishlist.application.coalescing.WishlistWriteCoalescer;
 import com.wishlist.wishlist.application.dto.AddItemInput;
 import com.wishlist.wishlist.application.dto.AddItemOutput;
+import com.wishlist.wishlist.application.filter.WishlistOwnerFilter;
+import com.wishlist.wishlist.application.retry.WriteRetry;
 import com.wishlist.wishlist.application.service.WishlistService;
 import com.wishlist.wishlist.domain.exception.WishlistLimitExceededException;
+import com.wishlist.wishlist.domain.model.PushedItem;
 import com.wishlist.wishlist.domain.model.Wishlist;
 import com.wishlist.wishlist.domain.model.WishlistItem;
+import com.wishlist.wishlist.domain.model.WishlistMutation;
 import com.wishlist.wishlist.domain.repository.WishlistRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
 
+import java.time.Duration;
 import java.util.ArrayList;
-import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,6 +45,15 @@ class AddItemUseCaseImplTest {
     @Mock
     private WishlistService wishlistService;
 
+    @Mock
+    private WishlistOwnerFilter wishlistOwnerFilter;
+
+    @Spy
+    private WriteRetry writeRetry = new WriteRetry(new SimpleMeterRegistry(), 3, Duration.ZERO, Duration.ZERO);
+
+    @Mock
+    private WishlistWriteCoalescer writeCoalescer;
+
     @InjectMocks
     private AddItemUseCaseImpl addItemUseCase;
 
@@ -56,7 +77,6 @@ class AddItemUseCaseImplTest {
     @Test
     @DisplayName("Given a new wishlist, when adding an item, then should create wishlist and add item successfully")
     void givenNewWishlist_whenAddingItem_thenShouldCreateWishlistAndAddItem() {
-        Optional<Wishlist> emptyWishlist = Optional.empty();
         Wishlist savedWishlist = Wishlist.builder()
                 .id("wishlist-id")
                 .userId(userId)
@@ -67,8 +87,7 @@ class AddItemUseCaseImplTest {
                 .name(itemName)
                 .build());
 
-        when(wishlistService.findWishlist(userId)).thenReturn(emptyWishlist);
-        when(wishlistRepository.save(any(Wishlist.class))).thenReturn(savedWishlist);
+        when(wishlistRepository.pushItemProjected(eq(userId), any(WishlistItem.class), eq(20))).thenReturn(PushedItem.of(savedWishlist, itemId));
 
         AddItemOutput output = addItemUseCase.execute(input);
 
@@ -76,36 +95,47 @@ class AddItemUseCaseImplTest {
         assertThat(output.getWishlistId()).isEqualTo("wishlist-id");
         assertThat(output.getItemId()).isEqualTo(itemId);
         assertThat(output.getName()).isEqualTo(itemName);
-        
-        verify(wishlistService).findWishlist(userId);
-        verify(wishlistRepository).save(any(Wishlist.class));
+
+        ArgumentCaptor<WishlistItem> itemCaptor = ArgumentCaptor.forClass(WishlistItem.class);
+        verify(wishlistRepository).pushItemProjected(eq(userId), itemCaptor.capture(), eq(20));
+        assertThat(itemCaptor.getValue().getItemId()).isEqualTo(itemId);
+        assertThat(itemCaptor.getValue().getName()).isEqualTo(itemName);
+        verify(wishlistRepository, never()).save(any(Wishlist.class));
+        verify(wishlistService).evictWishlist(userId);
+        verify(wishlistOwnerFilter).recordWishlist(userId);
+    }
+
+    @Test
+    @DisplayName("Given the repository fails, when adding an item, then should still evict the cached wishlist")
+    void givenRepositoryFailure_whenAddingItem_thenShouldEvictCachedWishlist() {
+        when(wishlistRepository.pushItemProjected(eq(userId), any(WishlistItem.class), anyInt()))
+                .thenThrow(new IllegalStateException("write failed"));
+
+        assertThatThrownBy(() -> addItemUseCase.execute(input))
+                .isInstanceOf(IllegalStateException.class);
+
+        verify(wishlistService).evictWishlist(userId);
+        verify(wishlistOwnerFilter, never()).recordWishlist(anyString());
     }
 
     @Test
     @DisplayName("Given an existing wishlist, when adding a new item, then should add item to existing wishlist")
     void givenExistingWishlist_whenAddingNewItem_thenShouldAddItemToWishlist() {
-        Wishlist existingWishlist = Wishlist.builder()
+        Wishlist savedWishlist = Wishlist.builder()
                 .id("wishlist-id")
                 .userId(userId)
                 .items(new ArrayList<>())
                 .build();
-        existingWishlist.getItems().add(WishlistItem.builder()
+        savedWishlist.getItems().add(WishlistItem.builder()
                 .itemId("existing-item")
                 .name("Item Existente")
                 .build());
-
-        Wishlist savedWishlist = Wishlist.builder()
-                .id("wishlist-id")
-                .userId(userId)
-                .items(new ArrayList<>(existingWishlist.getItems()))
-                .build();
         savedWishlist.getItems().add(WishlistItem.builder()
                 .itemId(itemId)
                 .name(itemName)
                 .build());
 
-        when(wishlistService.findWishlist(userId)).thenReturn(Optional.of(existingWishlist));
-        when(wishlistRepository.save(any(Wishlist.class))).thenReturn(savedWishlist);
+        when(wishlistRepository.pushItemProjected(eq(userId), any(WishlistItem.class), anyInt())).thenReturn(PushedItem.of(savedWishlist, itemId));
 
         AddItemOutput output = addItemUseCase.execute(input);
 
@@ -114,35 +144,32 @@ class AddItemUseCaseImplTest {
         assertThat(output.getItemId()).isEqualTo(itemId);
         assertThat(output.getName()).isEqualTo(itemName);
         
-        verify(wishlistService).findWishlist(userId);
-        verify(wishlistRepository).save(any(Wishlist.class));
+        verify(wishlistRepository).pushItemProjected(eq(userId), any(WishlistItem.class), eq(20));
     }
 
     @Test
-    @DisplayName("Given an existing wishlist with the same item, when adding duplicate item, then should return existing item without saving")
+    @DisplayName("Given an existing wishlist with the same item, when adding duplicate item, then should return existing item")
     void givenExistingWishlistWithItem_whenAddingDuplicateItem_thenShouldReturnExistingItem() {
-        WishlistItem existingItem = WishlistItem.builder()
-                .itemId(itemId)
-                .name(itemName)
-                .build();
-        
         Wishlist existingWishlist = Wishlist.builder()
                 .id("wishlist-id")
                 .userId(userId)
                 .items(new ArrayList<>())
                 .build();
-        existingWishlist.getItems().add(existingItem);
+        existingWishlist.getItems().add(WishlistItem.builder()
+                .itemId(itemId)
+                .name("Nome Original")
+                .build());
 
-        when(wishlistService.findWishlist(userId)).thenReturn(Optional.of(existingWishlist));
+        when(wishlistRepository.pushItemProjected(eq(userId), any(WishlistItem.class), anyInt())).thenReturn(PushedItem.of(existingWishlist, itemId));
 
         AddItemOutput output = addItemUseCase.execute(input);
 
         assertThat(output).isNotNull();
         assertThat(output.getWishlistId()).isEqualTo("wishlist-id");
         assertThat(output.getItemId()).isEqualTo(itemId);
-        assertThat(output.getName()).isEqualTo(itemName);
+        assertThat(output.getName()).isEqualTo("Nome Original");
         
-        verify(wishlistService).findWishlist(userId);
+        verify(wishlistRepository).pushItemProjected(eq(userId), any(WishlistItem.class), eq(20));
         verify(wishlistRepository, never()).save(any(Wishlist.class));
     }
 
@@ -162,7 +189,7 @@ class AddItemUseCaseImplTest {
                     .build());
         }
 
-        when(wishlistService.findWishlist(userId)).thenReturn(Optional.of(fullWishlist));
+        when(wishlistRepository.pushItemProjected(eq(userId), any(WishlistItem.class), anyInt())).thenReturn(PushedItem.of(fullWishlist, itemId));
 
         assertThatThrownBy(() -> addItemUseCase.execute(input))
                 .isInstanceOf(WishlistLimitExceededException.class)
@@ -170,8 +197,47 @@ class AddItemUseCaseImplTest {
                 .hasMessageContaining(userId)
                 .hasMessageContaining("20");
 
-        verify(wishlistService).findWishlist(userId);
+        verify(wishlistRepository).pushItemProjected(eq(userId), any(WishlistItem.class), eq(20));
         verify(wishlistRepository, never()).save(any(Wishlist.class));
     }
-}
 
+    @Test
+    @DisplayName("Given a concurrent first add for the same user, when the upsert hits the duplicate key, then should retry against the winner's wishlist")
+    void givenConcurrentFirstAdd_whenUpsertHitsDuplicateKey_thenShouldRetry() {
+        Wishlist winner = Wishlist.builder()
+                .id("wishlist-id")
+                .userId(userId)
+                .items(new ArrayList<>())
+                .build();
+        winner.getItems().add(WishlistItem.builder().itemId(itemId).name(itemName).build());
+        when(wishlistRepository.pushItemProjected(eq(userId), any(WishlistItem.class), eq(20)))
+                .thenThrow(new DuplicateKeyException("E11000 duplicate key error"))
+                .thenReturn(PushedItem.of(winner, itemId));
+
+        AddItemOutput output = addItemUseCase.execute(input);
+
+        assertThat(output.getWishlistId()).isEqualTo("wishlist-id");
+        verify(wishlistRepository, times(2)).pushItemProjected(eq(userId), any(WishlistItem.class), eq(20));
+        verify(wishlistService).evictWishlist(userId);
+    }
+
+    @Test
+    @DisplayName("Given write coalescing is enabled, when adding an item, then should queue the push instead of writing it alone")
+    void givenCoalescingEnabled_whenAddingItem_thenShouldQueuePush() {
+        Wishlist stored = Wishlist.builder()
+                .id("wishlist-id")
+                .userId(userId)
+                .items(new ArrayList<>())
+                .build();
+        stored.getItems().add(WishlistItem.builder().itemId(itemId).name(itemName).build());
+        when(writeCoalescer.isEnabled()).thenReturn(true);
+        when(writeCoalescer.submit(eq(userId), any(WishlistMutation.Push.class)))
+                .thenReturn(new WishlistMutation.Result(stored, true));
+
+        AddItemOutput output = addItemUseCase.execute(input);
+
+        assertThat(output.getItemId()).isEqualTo(itemId);
+        verify(wishlistRepository, never()).pushItemProjected(any(), any(), anyInt());
+        verify(wishlistService).evictWishlist(userId);
+    }
+}
@@ -0,0 +1,263 @@
+package com.wishlist.wishlist.application.usecase;
+
+import com.wishlist.wishlist.application.dto.AddItemInput;
+import com.wishlist.wishlist.application.dto.AddItemsInput;
+import com.wishlist.wishlist.application.dto.AddItemsOutput;
+import com.wishlist.wishlist.application.filter.WishlistOwnerFilter;
+import com.wishlist.wishlist.application.retry.WriteRetry;
+import com.wishlist.wishlist.application.service.WishlistService;
+import com.wishlist.wishlist.domain.model.PushedItems;
+import com.wishlist.wishlist.domain.model.Wishlist;
+import com.wishlist.wishlist.domain.model.WishlistItem;
+import com.wishlist.wishlist.domain.model.WishlistMutation;
+import com.wishlist.wishlist.domain.repository.WishlistRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AddItemsUseCase - BDD Tests")
+class AddItemsUseCaseImplTest {
+
+    @Mock
+    private WishlistRepository wishlistRepository;
+
+    @Mock
+    private WishlistService wishlistService;
+
+    @Mock
+    private WishlistOwnerFilter wishlistOwnerFilter;
+
+    @Spy
+    private WriteRetry writeRetry = new WriteRetry(new SimpleMeterRegistry(), 3, Duration.ZERO, Duration.ZERO);
+
+    @InjectMocks
+    private AddItemsUseCaseImpl addItemsUseCase;
+
+    @Test
+    @DisplayName("Given items for several users, when adding them, then should group per user in a single push call")
+    @SuppressWarnings("unchecked")
+    void givenItemsForSeveralUsers_whenAddingItems_thenShouldGroupPerUserInSinglePushCall() {
+        AddItemsInput input = new AddItemsInput(List.of(
+                item("user1", "item001"),
+                item("user2", "item001"),
+                item("user1", "item002"),
+                item("user1", "item001")));
+
+        when(wishlistRepository.pushItems(anyMap(), eq(20)))
+                .thenAnswer(invocation -> replayed(invocation.getArgument(0), Map.of(), 20));
+
+        AddItemsOutput output = addItemsUseCase.execute(input);
+
+        ArgumentCaptor<Map<String, List<WishlistItem>>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(wishlistRepository).pushItems(captor.capture(), eq(20));
+        verify(wishlistRepository, never()).findByUserIdIn(any());
+        assertThat(captor.getValue()).containsOnlyKeys("user1", "user2");
+        assertThat(captor.getValue().get("user1")).extracting(WishlistItem::getItemId)
+                .containsExactly("item001", "item002");
+
+        assertThat(output.getResults()).extracting(AddItemsOutput.Result::getStatus).containsExactly(
+                AddItemsOutput.Status.ADDED,
+                AddItemsOutput.Status.ADDED,
+                AddItemsOutput.Status.ADDED,
+                AddItemsOutput.Status.ALREADY_PRESENT);
+        assertThat(output.getResults().get(0).getWishlistId()).isEqualTo("wishlist-user1");
+        verify(wishlistService).evictWishlist("user1");
+        verify(wishlistService).evictWishlist("user2");
+        verify(wishlistOwnerFilter).recordWishlist("user1");
+        verify(wishlistOwnerFilter).recordWishlist("user2");
+    }
+
+    @Test
+    @DisplayName("Given stored and rejected items, when adding them, then should report already present and limit exceeded")
+    void givenStoredAndRejectedItems_whenAddingItems_thenShouldReportPerItemStatus() {
+        AddItemsInput input = new AddItemsInput(List.of(item("user1", "item001"), item("user1", "item099")));
+
+        when(wishlistRepository.pushItems(anyMap(), eq(20)))
+                .thenAnswer(invocation -> replayed(invocation.getArgument(0),
+                        Map.of("user1", wishlist("user1", "item001")), 1));
+
+        AddItemsOutput output = addItemsUseCase.execute(input);
+
+        assertThat(output.getResults()).extracting(AddItemsOutput.Result::getStatus).containsExactly(
+                AddItemsOutput.Status.ALREADY_PRESENT,
+                AddItemsOutput.Status.LIMIT_EXCEEDED);
+        assertThat(output.getResults().get(0).getName()).isEqualTo("Stored item001");
+        assertThat(output.getResults().get(1).getName()).isEqualTo("Item item099");
+    }
+
+    @Test
+    @DisplayName("Given the bulk write fails, when adding items, then should still evict every cached wishlist")
+    void givenBulkWriteFailure_whenAddingItems_thenShouldEvictCachedWishlists() {
+        AddItemsInput input = new AddItemsInput(List.of(item("user1", "item001"), item("user2", "item001")));
+
+        doThrow(new IllegalStateException("write failed")).when(wishlistRepository).pushItems(anyMap(), anyInt());
+
+        assertThatThrownBy(() -> addItemsUseCase.execute(input))
+                .isInstanceOf(IllegalStateException.class);
+
+        verify(wishlistService).evictWishlist("user1");
+        verify(wishlistService).evictWishlist("user2");
+        verify(wishlistOwnerFilter, never()).recordWishlist(any());
+    }
+
+    @Test
+    @DisplayName("Given a concurrent first add for a user, when the upsert hits the duplicate key, then should retry the batch against the winner's wishlist")
+    void givenConcurrentFirstAdd_whenUpsertHitsDuplicateKey_thenShouldRetryBatch() {
+        AddItemsInput input = new AddItemsInput(List.of(item("user1", "item001"), item("user1", "item002")));
+
+        when(wishlistRepository.pushItems(anyMap(), eq(20)))
+                .thenThrow(new DuplicateKeyException("E11000 duplicate key error"))
+                .thenAnswer(invocation -> replayed(invocation.getArgument(0),
+                        Map.of("user1", wishlist("user1", "item001")), 20));
+
+        AddItemsOutput output = addItemsUseCase.execute(input);
+
+        assertThat(output.getResults()).extracting(AddItemsOutput.Result::getStatus).containsExactly(
+                AddItemsOutput.Status.ALREADY_PRESENT,
+                AddItemsOutput.Status.ADDED);
+        verify(wishlistRepository, times(2)).pushItems(anyMap(), eq(20));
+        verify(wishlistService).evictWishlist("user1");
+        verify(wishlistOwnerFilter).recordWishlist("user1");
+    }
+
+    @Test
+    @DisplayName("Given a conflict on one user, when retrying, then should push only that user and keep the results already written")
+    @SuppressWarnings("unchecked")
+    void givenConflictOnOneUser_whenRetrying_thenShouldPushOnlyThatUserAndKeepWrittenResults() {
+        AddItemsInput input = new AddItemsInput(List.of(item("user1", "item001"), item("user2", "item001")));
+
+        when(wishlistRepository.pushItems(anyMap(), eq(20)))
+                .thenAnswer(invocation -> {
+                    Map<String, List<WishlistItem>> itemsByUser = new HashMap<>(invocation.getArgument(0));
+                    itemsByUser.remove("user2");
+                    return new PushedItems(replayed(itemsByUser, Map.of(), 20).results(),
+                            Map.of("user2", new DuplicateKeyException("E11000 duplicate key error")));
+                })
+                .thenAnswer(invocation -> replayed(invocation.getArgument(0), Map.of(), 20));
+
+        AddItemsOutput output = addItemsUseCase.execute(input);
+
+        ArgumentCaptor<Map<String, List<WishlistItem>>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(wishlistRepository, times(2)).pushItems(captor.capture(), eq(20));
+        assertThat(captor.getAllValues().get(0)).containsOnlyKeys("user1", "user2");
+        assertThat(captor.getAllValues().get(1)).containsOnlyKeys("user2");
+        assertThat(output.getResults()).extracting(AddItemsOutput.Result::getStatus).containsExactly(
+                AddItemsOutput.Status.ADDED,
+                AddItemsOutput.Status.ADDED);
+        verify(wishlistOwnerFilter).recordWishlist("user1");
+        verify(wishlistOwnerFilter).recordWishlist("user2");
+    }
+
+    @Test
+    @DisplayName("Given conflicts on one user beyond the retries, when adding items, then should report its items as failed and keep the others")
+    void givenConflictsBeyondRetries_whenAddingItems_thenShouldReportItsItemsAsFailed() {
+        AddItemsInput input = new AddItemsInput(List.of(item("user1", "item001"), item("user2", "item001")));
+
+        when(wishlistRepository.pushItems(anyMap(), eq(20))).thenAnswer(invocation -> {
+            Map<String, List<WishlistItem>> itemsByUser = new HashMap<>(invocation.getArgument(0));
+            itemsByUser.remove("user2");
+            return new PushedItems(replayed(itemsByUser, Map.of(), 20).results(),
+                    Map.of("user2", new DuplicateKeyException("E11000 duplicate key error")));
+        });
+
+        AddItemsOutput output = addItemsUseCase.execute(input);
+
+        verify(wishlistRepository, times(3)).pushItems(anyMap(), eq(20));
+        assertThat(output.getResults()).extracting(AddItemsOutput.Result::getStatus).containsExactly(
+                AddItemsOutput.Status.ADDED,
+                AddItemsOutput.Status.FAILED);
+        verify(wishlistOwnerFilter).recordWishlist("user1");
+        verify(wishlistOwnerFilter, never()).recordWishlist("user2");
+    }
+
+    @Test
+    @DisplayName("Given the write of one user fails, when adding items, then should report its items as failed and keep the others")
+    void givenOneUserWriteFails_whenAddingItems_thenShouldReportItsItemsAsFailed() {
+        AddItemsInput input = new AddItemsInput(List.of(item("user1", "item001"), item("user2", "item001")));
+
+        when(wishlistRepository.pushItems(anyMap(), eq(20))).thenAnswer(invocation -> {
+            Map<String, List<WishlistItem>> itemsByUser = new HashMap<>(invocation.getArgument(0));
+            itemsByUser.remove("user2");
+            PushedItems written = replayed(itemsByUser, Map.of(), 20);
+            return new PushedItems(written.results(),
+                    Map.of("user2", new DataIntegrityViolationException("document too large")));
+        });
+
+        AddItemsOutput output = addItemsUseCase.execute(input);
+
+        assertThat(output.getResults()).extracting(AddItemsOutput.Result::getStatus).containsExactly(
+                AddItemsOutput.Status.ADDED,
+                AddItemsOutput.Status.FAILED);
+        assertThat(output.getResults().get(1).getWishlistId()).isNull();
+        verify(wishlistService).evictWishlist("user1");
+        verify(wishlistService).evictWishlist("user2");
+        verify(wishlistOwnerFilter).recordWishlist("user1");
+        verify(wishlistOwnerFilter, never()).recordWishlist("user2");
+    }
+
+    @Test
+    @DisplayName("Given the write of every user fails, when adding items, then should fail the batch")
+    void givenEveryUserWriteFails_whenAddingItems_thenShouldFailBatch() {
+        AddItemsInput input = new AddItemsInput(List.of(item("user1", "item001")));
+
+        when(wishlistRepository.pushItems(anyMap(), eq(20))).thenReturn(new PushedItems(Map.of(),
+                Map.of("user1", new DataIntegrityViolationException("document too large"))));
+
+        assertThatThrownBy(() -> addItemsUseCase.execute(input))
+                .isInstanceOf(DataIntegrityViolationException.class);
+
+        verify(wishlistService).evictWishlist("user1");
+        verify(wishlistOwnerFilter, never()).recordWishlist(any());
+    }
+
+    private static PushedItems replayed(
+            Map<String, List<WishlistItem>> itemsByUser, Map<String, Wishlist> stored, int maxItems) {
+        Map<String, List<WishlistMutation.Result>> results = new HashMap<>();
+        itemsByUser.forEach((userId, items) -> results.put(userId, WishlistMutation.replay(
+                stored.get(userId), "wishlist-" + userId, userId, WishlistMutation.pushes(items), maxItems)));
+        return new PushedItems(results, Map.of());
+    }
+
+    private static AddItemInput item(String userId, String itemId) {
+        AddItemInput input = new AddItemInput();
+        input.setUserId(userId);
+        input.setItemId(itemId);
+        input.setName("Item " + itemId);
+        return input;
+    }
+
+    private static Wishlist wishlist(String userId, String... itemIds) {
+        Wishlist wishlist = Wishlist.builder()
+                .id("wishlist-" + userId)
+                .userId(userId)
+                .items(new ArrayList<>())
+                .build();
+        for (String itemId : itemIds) {
+            wishlist.getItems().add(WishlistItem.builder().itemId(itemId).name("Stored " + itemId).build());
+        }
+        return wishlist;
+    }
+}
@@ -2,7 +2,11 @@ package com.wishlist.wishlist.application.usecase;
 
 import com.wishlist.wishlist.application.dto.GetWishlistItemsInput;
 import com.wishlist.wishlist.application.dto.GetWishlistItemsOutput;
+import com.wishlist.wishlist.application.filter.WishlistOwnerFilter;
+import com.wishlist.wishlist.application.pagination.ItemCursor;
 import com.wishlist.wishlist.application.service.WishlistService;
+import com.wishlist.wishlist.domain.exception.InvalidCursorException;
+import com.wishlist.wishlist.domain.model.ItemPage;
 import com.wishlist.wishlist.domain.model.Wishlist;
 import com.wishlist.wishlist.domain.model.WishlistItem;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,9 +18,13 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,6 +34,9 @@ class GetWishlistItemsUseCaseImplTest {
     @Mock
     private WishlistService wishlistService;
 
+    @Mock
+    private WishlistOwnerFilter wishlistOwnerFilter;
+
     @InjectMocks
     private GetWishlistItemsUseCaseImpl getWishlistItemsUseCase;
 
@@ -39,9 +50,14 @@ class GetWishlistItemsUseCaseImplTest {
         input.setUserId(userId);
     }
 
+    private void givenUserMightHaveWishlist() {
+        when(wishlistOwnerFilter.mightHaveWishlist(userId)).thenReturn(true);
+    }
+
     @Test
     @DisplayName("Given an existing wishlist with items, when getting items, then should return all items")
     void givenExistingWishlistWithItems_whenGettingItems_thenShouldReturnAllItems() {
+        givenUserMightHaveWishlist();
         WishlistItem item1 = WishlistItem.builder()
                 .itemId("item001")
                 .name("Item 1")
@@ -56,6 +72,7 @@ class GetWishlistItemsUseCaseImplTest {
                 .id("wishlist-id")
                 .userId(userId)
                 .items(new ArrayList<>())
+                .version(2)
                 .build();
         wishlist.getItems().add(item1);
         wishlist.getItems().add(item2);
@@ -71,6 +88,7 @@ class GetWishlistItemsUseCaseImplTest {
         assertThat(output.getItems().get(0).getName()).isEqualTo("Item 1");
         assertThat(output.getItems().get(1).getItemId()).isEqualTo("item002");
         assertThat(output.getItems().get(1).getName()).isEqualTo("Item 2");
+        assertThat(output.getVersion()).isEqualTo(2);
         
         verify(wishlistService).findWishlist(userId);
     }
@@ -78,6 +96,7 @@ class GetWishlistItemsUseCaseImplTest {
     @Test
     @DisplayName("Given an existing empty wishlist, when getting items, then should return empty list")
     void givenExistingEmptyWishlist_whenGettingItems_thenShouldReturnEmptyList() {
+        givenUserMightHaveWishlist();
         Wishlist emptyWishlist = Wishlist.builder()
                 .id("wishlist-id")
                 .userId(userId)
@@ -98,6 +117,7 @@ class GetWishlistItemsUseCaseImplTest {
     @Test
     @DisplayName("Given a non-existent wishlist, when getting items, then should return empty list")
     void givenNonExistentWishlist_whenGettingItems_thenShouldReturnEmptyList() {
+        givenUserMightHaveWishlist();
         when(wishlistService.findWishlist(userId)).thenReturn(Optional.empty());
 
         GetWishlistItemsOutput output = getWishlistItemsUseCase.execute(input);
@@ -108,5 +128,52 @@ class GetWishlistItemsUseCaseImplTest {
 
         verify(wishlistService).findWishlist(userId);
     }
-}
 
+    @Test
+    @DisplayName("Given a user the owner filter rules out, when getting items, then should return empty list without loading")
+    void givenUserWithoutWishlistInFilter_whenGettingItems_thenShouldNotLoadWishlist() {
+        when(wishlistOwnerFilter.mightHaveWishlist(userId)).thenReturn(false);
+
+        GetWishlistItemsOutput output = getWishlistItemsUseCase.execute(input);
+
+        assertThat(output.getItems()).isEmpty();
+        verify(wishlistService, never()).findWishlist(anyString());
+    }
+
+    @Test
+    @DisplayName("Given a wishlist longer than the limit, when getting pages, then should return each window and a cursor to the next one")
+    void givenWishlistLongerThanLimit_whenGettingPages_thenShouldReturnWindowsAndNextCursor() {
+        when(wishlistOwnerFilter.mightHaveWishlist(userId)).thenReturn(true);
+        when(wishlistService.findItemPage(userId, null, 0, 2)).thenReturn(Optional.of(new ItemPage(
+                List.of(item("item001"), item("item002")), 0, 3, 3)));
+        when(wishlistService.findItemPage(userId, "item002", 2, GetWishlistItemsUseCaseImpl.DEFAULT_PAGE_SIZE))
+                .thenReturn(Optional.of(new ItemPage(List.of(item("item003")), 2, 3, 3)));
+
+        input.setLimit(2);
+        GetWishlistItemsOutput first = getWishlistItemsUseCase.execute(input);
+        GetWishlistItemsOutput second = getWishlistItemsUseCase.execute(
+                new GetWishlistItemsInput(userId, first.getNextCursor(), null));
+
+        assertThat(first.getItems()).extracting(GetWishlistItemsOutput.Item::getItemId).containsExactly("item001", "item002");
+        assertThat(ItemCursor.decode(first.getNextCursor())).isEqualTo(new ItemCursor("item002", 2));
+        assertThat(second.getItems()).extracting(GetWishlistItemsOutput.Item::getItemId).containsExactly("item003");
+        assertThat(second.getNextCursor()).isNull();
+        assertThat(second.getVersion()).isEqualTo(3);
+        verify(wishlistService, never()).findWishlist(anyString());
+    }
+
+    @Test
+    @DisplayName("Given a malformed cursor, when getting a page, then should reject it without reading the wishlist")
+    void givenMalformedCursor_whenGettingPage_thenShouldRejectIt() {
+        input.setCursor("not a cursor");
+
+        assertThatThrownBy(() -> getWishlistItemsUseCase.execute(input))
+                .isInstanceOf(InvalidCursorException.class);
+
+        verify(wishlistService, never()).findItemPage(anyString(), any(), anyInt(), anyInt());
+    }
+
+    private static WishlistItem item(String itemId) {
+        return WishlistItem.builder().itemId(itemId).name("Product " + itemId).build();
+    }
+}
@@ -0,0 +1,52 @@
+package com.wishlist.wishlist.application.usecase;
+
+import com.wishlist.wishlist.application.dto.GetWishlistVersionInput;
+import com.wishlist.wishlist.application.dto.GetWishlistVersionOutput;
+import com.wishlist.wishlist.application.filter.WishlistOwnerFilter;
+import com.wishlist.wishlist.application.service.WishlistService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetWishlistVersionUseCase - BDD Tests")
+class GetWishlistVersionUseCaseImplTest {
+
+    @Mock
+    private WishlistService wishlistService;
+
+    @Mock
+    private WishlistOwnerFilter wishlistOwnerFilter;
+
+    @InjectMocks
+    private GetWishlistVersionUseCaseImpl getWishlistVersionUseCase;
+
+    @Test
+    @DisplayName("Given a stored wishlist, when getting its version, then should return the stored version")
+    void givenStoredWishlist_whenGettingVersion_thenShouldReturnStoredVersion() {
+        when(wishlistOwnerFilter.mightHaveWishlist("user123")).thenReturn(true);
+        when(wishlistService.findVersion("user123")).thenReturn(5L);
+
+        GetWishlistVersionOutput output = getWishlistVersionUseCase.execute(new GetWishlistVersionInput("user123"));
+
+        assertThat(output.getVersion()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Given a user the owner filter rules out, when getting the version, then should return 0 without a lookup")
+    void givenUserWithoutWishlist_whenGettingVersion_thenShouldReturnZeroWithoutLookup() {
+        when(wishlistOwnerFilter.mightHaveWishlist("user123")).thenReturn(false);
+
+        GetWishlistVersionOutput output = getWishlistVersionUseCase.execute(new GetWishlistVersionInput("user123"));
+
+        assertThat(output.getVersion()).isZero();
+        verifyNoInteractions(wishlistService);
+    }
+}
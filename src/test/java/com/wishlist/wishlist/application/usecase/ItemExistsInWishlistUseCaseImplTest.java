@@ -2,9 +2,12 @@ package com.wishlist.wishlist.application.usecase;
 
 import com.wishlist.wishlist.application.dto.ContainsItemInput;
 import com.wishlist.wishlist.application.dto.ContainsItemOutput;
+import com.wishlist.wishlist.application.filter.WishlistOwnerFilter;
 import com.wishlist.wishlist.application.service.WishlistService;
+import com.wishlist.wishlist.domain.model.ItemPresence;
 import com.wishlist.wishlist.domain.model.Wishlist;
 import com.wishlist.wishlist.domain.model.WishlistItem;
+import com.wishlist.wishlist.domain.repository.WishlistRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,15 +20,23 @@ import java.util.ArrayList;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("ItemExistsInWishlistUseCase - BDD Tests")
 class ItemExistsInWishlistUseCaseImplTest {
 
+    @Mock
+    private WishlistRepository wishlistRepository;
+
     @Mock
     private WishlistService wishlistService;
 
+    @Mock
+    private WishlistOwnerFilter wishlistOwnerFilter;
+
     @InjectMocks
     private ItemExistsInWishlistUseCaseImpl itemExistsInWishlistUseCase;
 
@@ -44,86 +55,77 @@ class ItemExistsInWishlistUseCaseImplTest {
                 .build();
     }
 
+    private void givenUserMightHaveWishlist() {
+        when(wishlistOwnerFilter.mightHaveWishlist(userId)).thenReturn(true);
+    }
+
     @Test
-    @DisplayName("Given an existing wishlist with the item, when checking if item exists, then should return true")
+    @DisplayName("Given an uncached wishlist with the item, when checking if item exists, then should return true")
     void givenExistingWishlistWithItem_whenCheckingIfItemExists_thenShouldReturnTrue() {
-        WishlistItem item = WishlistItem.builder()
-                .itemId(itemId)
-                .name("Item Test")
-                .build();
-
-        Wishlist wishlist = Wishlist.builder()
-                .id("wishlist-id")
-                .userId(userId)
-                .items(new ArrayList<>())
-                .build();
-        wishlist.getItems().add(item);
-
-        when(wishlistService.findWishlist(userId)).thenReturn(Optional.of(wishlist));
+        givenUserMightHaveWishlist();
+        when(wishlistService.findCachedWishlist(userId)).thenReturn(Optional.empty());
+        when(wishlistRepository.findItemPresence(userId, itemId)).thenReturn(Optional.of(new ItemPresence(true, 4)));
 
         ContainsItemOutput output = itemExistsInWishlistUseCase.execute(input);
 
         assertThat(output).isNotNull();
         assertThat(output.isExists()).isTrue();
+        assertThat(output.getVersion()).isEqualTo(4);
         
-        verify(wishlistService).findWishlist(userId);
+        verify(wishlistRepository).findItemPresence(userId, itemId);
+        verify(wishlistRepository, never()).findByUserId(any());
     }
 
     @Test
-    @DisplayName("Given an existing wishlist without the item, when checking if item exists, then should return false")
-    void givenExistingWishlistWithoutItem_whenCheckingIfItemExists_thenShouldReturnFalse() {
-        WishlistItem otherItem = WishlistItem.builder()
-                .itemId("other-item")
-                .name("Other Item")
-                .build();
-
-        Wishlist wishlist = Wishlist.builder()
-                .id("wishlist-id")
-                .userId(userId)
-                .items(new ArrayList<>())
-                .build();
-        wishlist.getItems().add(otherItem);
-
-        when(wishlistService.findWishlist(userId)).thenReturn(Optional.of(wishlist));
+    @DisplayName("Given no matching uncached wishlist, when checking if item exists, then should return false")
+    void givenNoMatchingWishlist_whenCheckingIfItemExists_thenShouldReturnFalse() {
+        givenUserMightHaveWishlist();
+        when(wishlistService.findCachedWishlist(userId)).thenReturn(Optional.empty());
+        when(wishlistRepository.findItemPresence(userId, itemId)).thenReturn(Optional.empty());
 
         ContainsItemOutput output = itemExistsInWishlistUseCase.execute(input);
 
         assertThat(output).isNotNull();
         assertThat(output.isExists()).isFalse();
+        assertThat(output.getVersion()).isZero();
         
-        verify(wishlistService).findWishlist(userId);
+        verify(wishlistRepository).findItemPresence(userId, itemId);
+        verify(wishlistRepository, never()).findByUserId(any());
     }
 
     @Test
-    @DisplayName("Given a non-existent wishlist, when checking if item exists, then should return false")
-    void givenNonExistentWishlist_whenCheckingIfItemExists_thenShouldReturnFalse() {
-        when(wishlistService.findWishlist(userId)).thenReturn(Optional.empty());
+    @DisplayName("Given a cached wishlist, when checking if item exists, then should answer from the cache")
+    void givenCachedWishlist_whenCheckingIfItemExists_thenShouldAnswerFromCache() {
+        givenUserMightHaveWishlist();
+        Wishlist wishlist = Wishlist.builder()
+                .id("wishlist-id")
+                .userId(userId)
+                .items(new ArrayList<>())
+                .version(6)
+                .build();
+        wishlist.getItems().add(WishlistItem.builder()
+                .itemId(itemId)
+                .name("Item Test")
+                .build());
+
+        when(wishlistService.findCachedWishlist(userId)).thenReturn(Optional.of(wishlist));
 
         ContainsItemOutput output = itemExistsInWishlistUseCase.execute(input);
 
-        assertThat(output).isNotNull();
-        assertThat(output.isExists()).isFalse();
-        
-        verify(wishlistService).findWishlist(userId);
+        assertThat(output.isExists()).isTrue();
+        assertThat(output.getVersion()).isEqualTo(6);
+        verify(wishlistRepository, never()).findItemPresence(anyString(), anyString());
     }
 
     @Test
-    @DisplayName("Given an empty wishlist, when checking if item exists, then should return false")
-    void givenEmptyWishlist_whenCheckingIfItemExists_thenShouldReturnFalse() {
-        Wishlist emptyWishlist = Wishlist.builder()
-                .id("wishlist-id")
-                .userId(userId)
-                .items(new ArrayList<>())
-                .build();
-
-        when(wishlistService.findWishlist(userId)).thenReturn(Optional.of(emptyWishlist));
+    @DisplayName("Given a user the owner filter rules out, when checking if item exists, then should return false without querying")
+    void givenUserWithoutWishlistInFilter_whenCheckingIfItemExists_thenShouldNotQuery() {
+        when(wishlistOwnerFilter.mightHaveWishlist(userId)).thenReturn(false);
 
         ContainsItemOutput output = itemExistsInWishlistUseCase.execute(input);
 
-        assertThat(output).isNotNull();
         assertThat(output.isExists()).isFalse();
-        
-        verify(wishlistService).findWishlist(userId);
+        verify(wishlistService, never()).findCachedWishlist(anyString());
+        verify(wishlistRepository, never()).findItemPresence(anyString(), anyString());
     }
 }
-
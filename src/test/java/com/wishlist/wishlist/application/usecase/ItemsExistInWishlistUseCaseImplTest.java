@@ -0,0 +1,96 @@
+package com.wishlist.wishlist.application.usecase;
+
+import com.wishlist.wishlist.application.dto.ContainsItemsInput;
+import com.wishlist.wishlist.application.dto.ContainsItemsOutput;
+import com.wishlist.wishlist.application.filter.WishlistOwnerFilter;
+import com.wishlist.wishlist.application.service.WishlistService;
+import com.wishlist.wishlist.domain.model.Wishlist;
+import com.wishlist.wishlist.domain.model.WishlistItem;
+import com.wishlist.wishlist.domain.repository.WishlistRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ItemsExistInWishlistUseCase - BDD Tests")
+class ItemsExistInWishlistUseCaseImplTest {
+
+    @Mock
+    private WishlistRepository wishlistRepository;
+
+    @Mock
+    private WishlistService wishlistService;
+
+    @Mock
+    private WishlistOwnerFilter wishlistOwnerFilter;
+
+    @InjectMocks
+    private ItemsExistInWishlistUseCaseImpl itemsExistInWishlistUseCase;
+
+    @Test
+    @DisplayName("Given uncached users, when checking many items, then should answer every pair with one query")
+    void givenUncachedUsers_whenCheckingManyItems_thenShouldAnswerWithOneQuery() {
+        ContainsItemsInput input = new ContainsItemsInput(List.of(
+                userItems("user1", "item001", "item002", "item003"),
+                userItems("user2", "item001")));
+
+        when(wishlistOwnerFilter.mightHaveWishlist(anyString())).thenReturn(true);
+        when(wishlistService.findCachedWishlist(anyString())).thenReturn(Optional.empty());
+        when(wishlistRepository.findItemIds(Set.of("user1", "user2")))
+                .thenReturn(Map.of("user1", Set.of("item002", "item003", "item999")));
+
+        ContainsItemsOutput output = itemsExistInWishlistUseCase.execute(input);
+
+        assertThat(output.getWishlisted()).containsOnlyKeys("user1", "user2");
+        assertThat(output.getWishlisted().get("user1")).containsExactly("item002", "item003");
+        assertThat(output.getWishlisted().get("user2")).isEmpty();
+        verify(wishlistRepository, times(1)).findItemIds(any());
+        verify(wishlistRepository, never()).findByUserId(anyString());
+    }
+
+    @Test
+    @DisplayName("Given cached and filtered-out users, when checking many items, then should not query the database")
+    void givenCachedAndFilteredOutUsers_whenCheckingManyItems_thenShouldNotQuery() {
+        ContainsItemsInput input = new ContainsItemsInput(List.of(
+                userItems("user1", "item001", "item002"),
+                userItems("user2", "item001")));
+        Wishlist cached = Wishlist.builder()
+                .id("wishlist-id")
+                .userId("user1")
+                .items(new ArrayList<>())
+                .build();
+        cached.getItems().add(WishlistItem.builder().itemId("item001").name("Item 1").build());
+
+        when(wishlistOwnerFilter.mightHaveWishlist("user1")).thenReturn(true);
+        when(wishlistOwnerFilter.mightHaveWishlist("user2")).thenReturn(false);
+        when(wishlistService.findCachedWishlist("user1")).thenReturn(Optional.of(cached));
+
+        ContainsItemsOutput output = itemsExistInWishlistUseCase.execute(input);
+
+        assertThat(output.getWishlisted().get("user1")).containsExactly("item001");
+        assertThat(output.getWishlisted().get("user2")).isEmpty();
+        verify(wishlistRepository, never()).findItemIds(any());
+    }
+
+    private static ContainsItemsInput.UserItems userItems(String userId, String... itemIds) {
+        return ContainsItemsInput.UserItems.builder()
+                .userId(userId)
+                .itemIds(new LinkedHashSet<>(List.of(itemIds)))
+                .build();
+    }
+}
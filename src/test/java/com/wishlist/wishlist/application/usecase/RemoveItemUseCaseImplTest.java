@@ -1,25 +1,30 @@
 package com.wishlist.wishlist.application.usecase;
 
+import com.wishlist.wishlist.application.coalescing.WishlistWriteCoalescer;
 import com.wishlist.wishlist.application.dto.RemoveItemInput;
+import com.wishlist.wishlist.application.retry.WriteRetry;
 import com.wishlist.wishlist.application.service.WishlistService;
 import com.wishlist.wishlist.domain.exception.WishlistNotFoundException;
+import com.wishlist.wishlist.domain.model.RemoveItemResult;
 import com.wishlist.wishlist.domain.model.Wishlist;
-import com.wishlist.wishlist.domain.model.WishlistItem;
+import com.wishlist.wishlist.domain.model.WishlistMutation;
 import com.wishlist.wishlist.domain.repository.WishlistRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.ArrayList;
-import java.util.Optional;
+import java.time.Duration;
 
-import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,6 +37,12 @@ class RemoveItemUseCaseImplTest {
     @Mock
     private WishlistService wishlistService;
 
+    @Spy
+    private WriteRetry writeRetry = new WriteRetry(new SimpleMeterRegistry(), 3, Duration.ZERO, Duration.ZERO);
+
+    @Mock
+    private WishlistWriteCoalescer writeCoalescer;
+
     @InjectMocks
     private RemoveItemUseCaseImpl removeItemUseCase;
 
@@ -51,96 +62,54 @@ class RemoveItemUseCaseImplTest {
     }
 
     @Test
-    @DisplayName("Given an existing wishlist with items, when removing an item, then should remove item and save wishlist")
-    void givenExistingWishlistWithItems_whenRemovingItem_thenShouldRemoveItemAndSave() {
-        WishlistItem itemToRemove = WishlistItem.builder()
-                .itemId(itemId)
-                .name("Item to Remove")
-                .build();
-        
-        WishlistItem otherItem = WishlistItem.builder()
-                .itemId("item002")
-                .name("Other Item")
-                .build();
-
-        Wishlist wishlist = Wishlist.builder()
-                .id("wishlist-id")
-                .userId(userId)
-                .items(new ArrayList<>())
-                .build();
-        wishlist.getItems().add(itemToRemove);
-        wishlist.getItems().add(otherItem);
-
-        Wishlist savedWishlist = Wishlist.builder()
-                .id("wishlist-id")
-                .userId(userId)
-                .items(new ArrayList<>())
-                .build();
-        savedWishlist.getItems().add(otherItem);
-
-        when(wishlistService.findWishlist(userId)).thenReturn(Optional.of(wishlist));
-        when(wishlistRepository.save(any(Wishlist.class))).thenReturn(savedWishlist);
+    @DisplayName("Given an existing wishlist with the item, when removing it, then should pull the item without loading the wishlist")
+    void givenExistingWishlistWithItem_whenRemovingItem_thenShouldPullItem() {
+        when(wishlistRepository.pullItem(userId, itemId)).thenReturn(RemoveItemResult.REMOVED);
 
-        removeItemUseCase.execute(input);
+        assertThatCode(() -> removeItemUseCase.execute(input)).doesNotThrowAnyException();
 
-        verify(wishlistService).findWishlist(userId);
-        verify(wishlistRepository).save(any(Wishlist.class));
-        assertThat(wishlist.getItems().stream()
-                .anyMatch(item -> item.getItemId().equals(itemId))).isFalse();
-        assertThat(wishlist.getItems().stream()
-                .anyMatch(item -> item.getItemId().equals("item002"))).isTrue();
+        verify(wishlistRepository).pullItem(userId, itemId);
+        verify(wishlistRepository, never()).findByUserId(any());
+        verify(wishlistRepository, never()).save(any(Wishlist.class));
+        verify(wishlistService).evictWishlist(userId);
     }
 
     @Test
-    @DisplayName("Given an existing wishlist, when removing a non-existent item, then should not save wishlist")
-    void givenExistingWishlist_whenRemovingNonExistentItem_thenShouldNotSave() {
-        Wishlist wishlist = Wishlist.builder()
-                .id("wishlist-id")
-                .userId(userId)
-                .items(new ArrayList<>())
-                .build();
-        wishlist.getItems().add(WishlistItem.builder()
-                .itemId("other-item")
-                .name("Other Item")
-                .build());
-
-        when(wishlistService.findWishlist(userId)).thenReturn(Optional.of(wishlist));
+    @DisplayName("Given an existing wishlist, when removing a non-existent item, then should complete without error")
+    void givenExistingWishlist_whenRemovingNonExistentItem_thenShouldComplete() {
+        when(wishlistRepository.pullItem(userId, itemId)).thenReturn(RemoveItemResult.ITEM_NOT_FOUND);
 
-        removeItemUseCase.execute(input);
+        assertThatCode(() -> removeItemUseCase.execute(input)).doesNotThrowAnyException();
 
-        verify(wishlistService).findWishlist(userId);
+        verify(wishlistRepository).pullItem(userId, itemId);
         verify(wishlistRepository, never()).save(any(Wishlist.class));
     }
 
     @Test
     @DisplayName("Given a non-existent wishlist, when removing an item, then should throw WishlistNotFoundException")
     void givenNonExistentWishlist_whenRemovingItem_thenShouldThrowException() {
-        when(wishlistService.findWishlist(userId)).thenReturn(Optional.empty());
+        when(wishlistRepository.pullItem(userId, itemId)).thenReturn(RemoveItemResult.WISHLIST_NOT_FOUND);
 
         assertThatThrownBy(() -> removeItemUseCase.execute(input))
                 .isInstanceOf(WishlistNotFoundException.class)
                 .hasMessageContaining("Wishlist not found")
                 .hasMessageContaining(userId);
 
-        verify(wishlistService).findWishlist(userId);
+        verify(wishlistRepository).pullItem(userId, itemId);
         verify(wishlistRepository, never()).save(any(Wishlist.class));
     }
 
     @Test
-    @DisplayName("Given an empty wishlist, when removing an item, then should not save wishlist")
-    void givenEmptyWishlist_whenRemovingItem_thenShouldNotSave() {
-        Wishlist emptyWishlist = Wishlist.builder()
-                .id("wishlist-id")
-                .userId(userId)
-                .items(new ArrayList<>())
-                .build();
-
-        when(wishlistService.findWishlist(userId)).thenReturn(Optional.of(emptyWishlist));
+    @DisplayName("Given write coalescing is enabled and no wishlist, when removing an item, then should throw WishlistNotFoundException")
+    void givenCoalescingEnabledAndNoWishlist_whenRemovingItem_thenShouldThrowWishlistNotFound() {
+        when(writeCoalescer.isEnabled()).thenReturn(true);
+        when(writeCoalescer.submit(eq(userId), any(WishlistMutation.Pull.class)))
+                .thenReturn(new WishlistMutation.Result(null, false));
 
-        removeItemUseCase.execute(input);
+        assertThatThrownBy(() -> removeItemUseCase.execute(input))
+                .isInstanceOf(WishlistNotFoundException.class);
 
-        verify(wishlistService).findWishlist(userId);
-        verify(wishlistRepository, never()).save(any(Wishlist.class));
+        verify(wishlistRepository, never()).pullItem(any(), any());
+        verify(wishlistService).evictWishlist(userId);
     }
 }
-
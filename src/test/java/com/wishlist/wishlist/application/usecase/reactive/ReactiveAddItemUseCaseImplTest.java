@@ -0,0 +1,113 @@
+package com.wishlist.wishlist.application.usecase.reactive;
+
+import com.wishlist.wishlist.application.dto.AddItemInput;
+import com.wishlist.wishlist.application.filter.WishlistOwnerFilter;
+import com.wishlist.wishlist.application.retry.WriteRetry;
+import com.wishlist.wishlist.domain.exception.WishlistLimitExceededException;
+import com.wishlist.wishlist.domain.model.Wishlist;
+import com.wishlist.wishlist.domain.model.WishlistItem;
+import com.wishlist.wishlist.domain.repository.ReactiveWishlistRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactiveAddItemUseCase - BDD Tests")
+class ReactiveAddItemUseCaseImplTest {
+
+    @Mock
+    private ReactiveWishlistRepository wishlistRepository;
+
+    @Mock
+    private WishlistOwnerFilter wishlistOwnerFilter;
+
+    @Spy
+    private WriteRetry writeRetry = new WriteRetry(new SimpleMeterRegistry(), 3, Duration.ZERO, Duration.ZERO);
+
+    @InjectMocks
+    private ReactiveAddItemUseCaseImpl addItemUseCase;
+
+    private AddItemInput input;
+
+    @BeforeEach
+    void setUp() {
+        input = new AddItemInput();
+        input.setUserId("user123");
+        input.setItemId("item001");
+        input.setName("Produto Teste");
+    }
+
+    @Test
+    @DisplayName("Given the item is stored, when adding it, then should emit the stored item and record the owner")
+    void givenItemStored_whenAddingItem_thenShouldEmitStoredItem() {
+        Wishlist stored = wishlist(0);
+        stored.getItems().add(WishlistItem.builder().itemId("item001").name("Produto Teste").build());
+        when(wishlistRepository.pushItem(eq("user123"), any(WishlistItem.class), eq(20))).thenReturn(Mono.just(stored));
+
+        StepVerifier.create(addItemUseCase.execute(input))
+                .assertNext(output -> {
+                    assertThat(output.getWishlistId()).isEqualTo("wishlist-id");
+                    assertThat(output.getItemId()).isEqualTo("item001");
+                    assertThat(output.getName()).isEqualTo("Produto Teste");
+                })
+                .verifyComplete();
+
+        verify(wishlistOwnerFilter).recordWishlist("user123");
+    }
+
+    @Test
+    @DisplayName("Given a full wishlist, when adding an item, then should signal WishlistLimitExceededException")
+    void givenFullWishlist_whenAddingItem_thenShouldSignalLimitExceeded() {
+        when(wishlistRepository.pushItem(eq("user123"), any(WishlistItem.class), eq(20)))
+                .thenReturn(Mono.just(wishlist(20)));
+
+        StepVerifier.create(addItemUseCase.execute(input))
+                .expectError(WishlistLimitExceededException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Given a concurrent first add for the same user, when the upsert hits the duplicate key, then should resubscribe and emit the stored item")
+    void givenConcurrentFirstAdd_whenUpsertHitsDuplicateKey_thenShouldResubscribe() {
+        Wishlist stored = wishlist(0);
+        stored.getItems().add(WishlistItem.builder().itemId("item001").name("Produto Teste").build());
+        when(wishlistRepository.pushItem(eq("user123"), any(WishlistItem.class), eq(20)))
+                .thenReturn(Mono.error(new DuplicateKeyException("E11000 duplicate key error")))
+                .thenReturn(Mono.just(stored));
+
+        StepVerifier.create(addItemUseCase.execute(input))
+                .assertNext(output -> assertThat(output.getItemId()).isEqualTo("item001"))
+                .verifyComplete();
+
+        verify(wishlistRepository, times(2)).pushItem(eq("user123"), any(WishlistItem.class), eq(20));
+    }
+
+    private static Wishlist wishlist(int otherItems) {
+        Wishlist wishlist = Wishlist.builder()
+                .id("wishlist-id")
+                .userId("user123")
+                .items(new ArrayList<>())
+                .build();
+        for (int i = 1; i <= otherItems; i++) {
+            wishlist.getItems().add(WishlistItem.builder().itemId("other" + i).name("Item " + i).build());
+        }
+        return wishlist;
+    }
+}
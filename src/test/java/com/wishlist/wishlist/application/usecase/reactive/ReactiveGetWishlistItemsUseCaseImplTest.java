@@ -0,0 +1,124 @@
+package com.wishlist.wishlist.application.usecase.reactive;
+
+import com.wishlist.wishlist.application.dto.GetWishlistItemsInput;
+import com.wishlist.wishlist.application.dto.GetWishlistItemsOutput;
+import com.wishlist.wishlist.application.filter.WishlistOwnerFilter;
+import com.wishlist.wishlist.application.pagination.ItemCursor;
+import com.wishlist.wishlist.domain.exception.InvalidCursorException;
+import com.wishlist.wishlist.domain.model.Wishlist;
+import com.wishlist.wishlist.domain.model.WishlistItem;
+import com.wishlist.wishlist.domain.repository.ReactiveWishlistRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactiveGetWishlistItemsUseCase - BDD Tests")
+class ReactiveGetWishlistItemsUseCaseImplTest {
+
+    @Mock
+    private ReactiveWishlistRepository wishlistRepository;
+
+    @Mock
+    private WishlistOwnerFilter wishlistOwnerFilter;
+
+    @InjectMocks
+    private ReactiveGetWishlistItemsUseCaseImpl getWishlistItemsUseCase;
+
+    private final GetWishlistItemsInput input = new GetWishlistItemsInput("user123");
+
+    @Test
+    @DisplayName("Given an existing wishlist, when getting items, then should emit all items")
+    void givenExistingWishlist_whenGettingItems_thenShouldEmitAllItems() {
+        Wishlist wishlist = Wishlist.builder()
+                .id("wishlist-id")
+                .userId("user123")
+                .items(new ArrayList<>())
+                .build();
+        wishlist.getItems().add(WishlistItem.builder().itemId("item001").name("Item 1").build());
+        wishlist.getItems().add(WishlistItem.builder().itemId("item002").name("Item 2").build());
+
+        when(wishlistOwnerFilter.mightHaveWishlist("user123")).thenReturn(true);
+        when(wishlistRepository.findByUserId("user123")).thenReturn(Mono.just(wishlist));
+
+        StepVerifier.create(getWishlistItemsUseCase.execute(input))
+                .assertNext(output -> assertThat(output.getItems())
+                        .extracting("itemId")
+                        .containsExactly("item001", "item002"))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Given a wishlist longer than the limit, when getting pages, then should emit each window, its version and a cursor to the next one")
+    void givenWishlistLongerThanLimit_whenGettingPages_thenShouldEmitWindowsAndNextCursor() {
+        Wishlist wishlist = Wishlist.builder()
+                .id("wishlist-id")
+                .userId("user123")
+                .items(new ArrayList<>())
+                .version(3)
+                .build();
+        wishlist.getItems().add(WishlistItem.builder().itemId("item001").name("Item 1").build());
+        wishlist.getItems().add(WishlistItem.builder().itemId("item002").name("Item 2").build());
+        wishlist.getItems().add(WishlistItem.builder().itemId("item003").name("Item 3").build());
+
+        when(wishlistOwnerFilter.mightHaveWishlist("user123")).thenReturn(true);
+        when(wishlistRepository.findByUserId("user123")).thenReturn(Mono.just(wishlist));
+
+        GetWishlistItemsOutput first = getWishlistItemsUseCase.execute(
+                new GetWishlistItemsInput("user123", null, 2)).block();
+        GetWishlistItemsOutput second = getWishlistItemsUseCase.execute(
+                new GetWishlistItemsInput("user123", first.getNextCursor(), null)).block();
+
+        assertThat(first.getItems()).extracting("itemId").containsExactly("item001", "item002");
+        assertThat(ItemCursor.decode(first.getNextCursor())).isEqualTo(new ItemCursor("item002", 2));
+        assertThat(first.getVersion()).isEqualTo(3);
+        assertThat(second.getItems()).extracting("itemId").containsExactly("item003");
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Given a malformed cursor, when getting items, then should reject it without querying")
+    void givenMalformedCursor_whenGettingItems_thenShouldRejectWithoutQuerying() {
+        GetWishlistItemsInput malformed = new GetWishlistItemsInput("user123", "not base64!", null);
+
+        assertThatThrownBy(() -> getWishlistItemsUseCase.execute(malformed))
+                .isInstanceOf(InvalidCursorException.class);
+
+        verify(wishlistRepository, never()).findByUserId(anyString());
+    }
+
+    @Test
+    @DisplayName("Given no wishlist, when getting items, then should emit an empty list")
+    void givenNoWishlist_whenGettingItems_thenShouldEmitEmptyList() {
+        when(wishlistOwnerFilter.mightHaveWishlist("user123")).thenReturn(true);
+        when(wishlistRepository.findByUserId("user123")).thenReturn(Mono.empty());
+
+        StepVerifier.create(getWishlistItemsUseCase.execute(input))
+                .assertNext(output -> assertThat(output.getItems()).isEmpty())
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Given a user the owner filter rules out, when getting items, then should not query")
+    void givenUserWithoutWishlistInFilter_whenGettingItems_thenShouldNotQuery() {
+        when(wishlistOwnerFilter.mightHaveWishlist("user123")).thenReturn(false);
+
+        StepVerifier.create(getWishlistItemsUseCase.execute(input))
+                .assertNext(output -> assertThat(output.getItems()).isEmpty())
+                .verifyComplete();
+
+        verify(wishlistRepository, never()).findByUserId(anyString());
+    }
+}
@@ -0,0 +1,59 @@
+package com.wishlist.wishlist.application.usecase.reactive;
+
+import com.wishlist.wishlist.application.dto.ContainsItemInput;
+import com.wishlist.wishlist.application.filter.WishlistOwnerFilter;
+import com.wishlist.wishlist.domain.repository.ReactiveWishlistRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactiveItemExistsInWishlistUseCase - BDD Tests")
+class ReactiveItemExistsInWishlistUseCaseImplTest {
+
+    @Mock
+    private ReactiveWishlistRepository wishlistRepository;
+
+    @Mock
+    private WishlistOwnerFilter wishlistOwnerFilter;
+
+    @InjectMocks
+    private ReactiveItemExistsInWishlistUseCaseImpl itemExistsInWishlistUseCase;
+
+    private final ContainsItemInput input = ContainsItemInput.builder()
+            .userId("user123")
+            .itemId("item001")
+            .build();
+
+    @Test
+    @DisplayName("Given the item is in the wishlist, when checking if it exists, then should emit true")
+    void givenItemInWishlist_whenCheckingIfItemExists_thenShouldEmitTrue() {
+        when(wishlistOwnerFilter.mightHaveWishlist("user123")).thenReturn(true);
+        when(wishlistRepository.containsItem("user123", "item001")).thenReturn(Mono.just(true));
+
+        StepVerifier.create(itemExistsInWishlistUseCase.execute(input))
+                .assertNext(output -> assertThat(output.isExists()).isTrue())
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Given a user the owner filter rules out, when checking if an item exists, then should not query")
+    void givenUserWithoutWishlistInFilter_whenCheckingIfItemExists_thenShouldNotQuery() {
+        when(wishlistOwnerFilter.mightHaveWishlist("user123")).thenReturn(false);
+
+        StepVerifier.create(itemExistsInWishlistUseCase.execute(input))
+                .assertNext(output -> assertThat(output.isExists()).isFalse())
+                .verifyComplete();
+
+        verify(wishlistRepository, never()).containsItem(anyString(), anyString());
+    }
+}
@@ -0,0 +1,67 @@
+package com.wishlist.wishlist.application.usecase.reactive;
+
+import com.wishlist.wishlist.application.dto.RemoveItemInput;
+import com.wishlist.wishlist.application.retry.WriteRetry;
+import com.wishlist.wishlist.domain.exception.WishlistNotFoundException;
+import com.wishlist.wishlist.domain.model.RemoveItemResult;
+import com.wishlist.wishlist.domain.repository.ReactiveWishlistRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactiveRemoveItemUseCase - BDD Tests")
+class ReactiveRemoveItemUseCaseImplTest {
+
+    @Mock
+    private ReactiveWishlistRepository wishlistRepository;
+
+    @Spy
+    private WriteRetry writeRetry = new WriteRetry(new SimpleMeterRegistry(), 3, Duration.ZERO, Duration.ZERO);
+
+    @InjectMocks
+    private ReactiveRemoveItemUseCaseImpl removeItemUseCase;
+
+    private final RemoveItemInput input = RemoveItemInput.builder()
+            .userId("user123")
+            .itemId("item001")
+            .build();
+
+    @Test
+    @DisplayName("Given the item is in the wishlist, when removing it, then should complete")
+    void givenItemInWishlist_whenRemovingItem_thenShouldComplete() {
+        when(wishlistRepository.pullItem("user123", "item001")).thenReturn(Mono.just(RemoveItemResult.REMOVED));
+
+        StepVerifier.create(removeItemUseCase.execute(input)).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Given the item is not in the wishlist, when removing it, then should still complete")
+    void givenItemNotInWishlist_whenRemovingItem_thenShouldComplete() {
+        when(wishlistRepository.pullItem("user123", "item001")).thenReturn(Mono.just(RemoveItemResult.ITEM_NOT_FOUND));
+
+        StepVerifier.create(removeItemUseCase.execute(input)).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Given no wishlist, when removing an item, then should signal WishlistNotFoundException")
+    void givenNoWishlist_whenRemovingItem_thenShouldSignalNotFound() {
+        when(wishlistRepository.pullItem("user123", "item001"))
+                .thenReturn(Mono.just(RemoveItemResult.WISHLIST_NOT_FOUND));
+
+        StepVerifier.create(removeItemUseCase.execute(input))
+                .expectError(WishlistNotFoundException.class)
+                .verify();
+    }
+}
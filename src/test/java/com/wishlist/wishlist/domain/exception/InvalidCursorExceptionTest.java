@@ -0,0 +1,19 @@
+package com.wishlist.wishlist.domain.exception;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("InvalidCursorException - Domain Exception Tests")
+class InvalidCursorExceptionTest {
+
+    @Test
+    @DisplayName("should create exception with the rejected cursor")
+    void shouldCreateExceptionWithCursor() {
+        InvalidCursorException exception = new InvalidCursorException("bogus");
+
+        assertThat(exception.getMessage()).isEqualTo("Invalid cursor: bogus");
+        assertThat(exception).isInstanceOf(RuntimeException.class);
+    }
+}
@@ -0,0 +1,116 @@
+package com.wishlist.wishlist.domain.model;
+
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("WishlistItems - Indexed Collection Tests")
+class WishlistItemsTest {
+
+    @Test
+    @DisplayName("add - should keep insertion order and ignore an itemId that is already present")
+    void shouldKeepInsertionOrderAndIgnoreDuplicates() {
+        WishlistItems items = new WishlistItems();
+
+        assertThat(items.add(item("b", "B"))).isTrue();
+        assertThat(items.add(item("a", "A"))).isTrue();
+        assertThat(items.add(item("b", "Other"))).isFalse();
+
+        assertThat(items).containsExactly(item("b", "B"), item("a", "A"));
+        assertThat(items.itemIds()).containsExactly("b", "a");
+        assertThat(items.getFirst()).isEqualTo(item("b", "B"));
+        assertThat(items.getLast()).isEqualTo(item("a", "A"));
+        assertThat(items.reversed()).containsExactly(item("a", "A"), item("b", "B"));
+    }
+
+    @Test
+    @DisplayName("findItem, containsItem and removeItem - should look items up by itemId")
+    void shouldLookUpByItemId() {
+        WishlistItems items = new WishlistItems(List.of(item("a", "A"), item("b", "B"), item("c", "C")));
+
+        assertThat(items.containsItem("b")).isTrue();
+        assertThat(items.findItem("b")).contains(item("b", "B"));
+        assertThat(items.removeItem("b")).isTrue();
+        assertThat(items.removeItem("b")).isFalse();
+        assertThat(items.containsItem("b")).isFalse();
+        assertThat(items.findItem("b")).isEmpty();
+        assertThat(items).containsExactly(item("a", "A"), item("c", "C"));
+    }
+
+    @Test
+    @DisplayName("contains and remove - should only match the same item, not just the same itemId")
+    void shouldMatchWholeItem() {
+        WishlistItems items = new WishlistItems(List.of(item("a", "A")));
+
+        assertThat(items.contains(item("a", "Other"))).isFalse();
+        assertThat(items.remove(item("a", "Other"))).isFalse();
+        assertThat(items.remove(item("a", "A"))).isTrue();
+        assertThat(items).isEmpty();
+    }
+
+    @Test
+    @DisplayName("removeIf - should remove through the iterator and keep the index consistent")
+    void shouldRemoveThroughIterator() {
+        WishlistItems items = new WishlistItems(List.of(item("a", "A"), item("b", "B")));
+
+        assertThat(items.removeIf(item -> item.getItemId().equals("a"))).isTrue();
+
+        assertThat(items.containsItem("a")).isFalse();
+        assertThat(items.add(item("a", "A"))).isTrue();
+        assertThat(items.itemIds()).containsExactly("b", "a");
+    }
+
+    @Test
+    @DisplayName("equals - should equal items holding the same items in the same order, and no list")
+    void shouldEqualItemsWithSameOrder() {
+        WishlistItems items = new WishlistItems(List.of(item("a", "A"), item("b", "B")));
+
+        assertThat(items).isEqualTo(new WishlistItems(List.of(item("a", "A"), item("b", "B"))));
+        assertThat(items).isNotEqualTo(new WishlistItems(List.of(item("b", "B"), item("a", "A"))));
+        assertThat(items).isNotEqualTo(List.of(item("a", "A"), item("b", "B")));
+        assertThat(items.hashCode()).isEqualTo(new WishlistItems(List.of(item("a", "A"), item("b", "B"))).hashCode());
+    }
+
+    @Test
+    @DisplayName("getFirst - should fail on an empty collection")
+    void shouldFailGetFirstWhenEmpty() {
+        assertThatThrownBy(() -> new WishlistItems().getFirst()).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    @DisplayName("mapping - should be written to and read from the same BSON array of items")
+    void shouldMapToSameBsonArray() {
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, new MongoMappingContext());
+        converter.afterPropertiesSet();
+        Wishlist wishlist = Wishlist.builder()
+                .id("wishlist1")
+                .userId("user1")
+                .items(List.of(item("b", "B"), item("a", "A")))
+                .build();
+
+        Document document = new Document();
+        converter.write(wishlist, document);
+
+        assertThat(document.getList("items", Document.class)).containsExactly(
+                new Document("itemId", "b").append("name", "B"),
+                new Document("itemId", "a").append("name", "A"));
+
+        Wishlist read = converter.read(Wishlist.class, document);
+        assertThat(read.getItems()).isInstanceOf(WishlistItems.class);
+        assertThat(read.getItems().itemIds()).containsExactly("b", "a");
+        assertThat(read).isEqualTo(wishlist);
+    }
+
+    private static WishlistItem item(String itemId, String name) {
+        return WishlistItem.builder().itemId(itemId).name(name).build();
+    }
+}
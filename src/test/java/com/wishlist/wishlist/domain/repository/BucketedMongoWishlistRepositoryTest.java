@@ -0,0 +1,130 @@
+package com.wishlist.wishlist.domain.repository;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.wishlist.wishlist.domain.model.ItemPage;
+import com.wishlist.wishlist.domain.model.RemoveItemResult;
+import com.wishlist.wishlist.domain.model.Wishlist;
+import com.wishlist.wishlist.domain.model.WishlistBucket;
+import com.wishlist.wishlist.domain.model.WishlistItem;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Transactions need a replica set: point WISHLIST_MONGODB_URI at one (a single-node set is enough).
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfEnvironmentVariable(named = "WISHLIST_MONGODB_URI", matches = ".+")
+@DisplayName("BucketedWishlistRepository - Repository Contract and Migration Tests")
+class BucketedMongoWishlistRepositoryTest extends WishlistRepositoryContractTest {
+
+    private static final String DATABASE = "wishlist_bucket_test";
+    private static final int BUCKET_SIZE = 2;
+
+    private MongoClient mongoClient;
+    private MongoTemplate mongoTemplate;
+    private BucketedWishlistRepository bucketedRepository;
+
+    @BeforeAll
+    void setUpMongo() {
+        mongoClient = MongoClients.create(System.getenv("WISHLIST_MONGODB_URI"));
+        mongoTemplate = new MongoTemplate(mongoClient, DATABASE);
+        bucketedRepository = new BucketedWishlistRepository(mongoTemplate, MongoReadRouting.primary(), BUCKET_SIZE);
+    }
+
+    @AfterAll
+    void tearDownMongo() {
+        mongoTemplate.getDb().drop();
+        mongoClient.close();
+    }
+
+    @Override
+    protected WishlistRepository createRepository() {
+        mongoTemplate.dropCollection(Wishlist.class);
+        mongoTemplate.dropCollection(WishlistBucket.class);
+        mongoTemplate.createCollection(Wishlist.class);
+        mongoTemplate.createCollection(WishlistBucket.class);
+        return bucketedRepository;
+    }
+
+    @Test
+    @DisplayName("pushItem - should spread the items over buckets of at most the bucket size")
+    void shouldSpreadItemsOverBuckets() {
+        for (int i = 0; i < 5; i++) {
+            bucketedRepository.pushItem("user1", item("item" + i), 20);
+        }
+
+        assertThat(mongoTemplate.findAll(WishlistBucket.class))
+                .extracting(WishlistBucket::getItemCount)
+                .containsExactly(2, 2, 1);
+        assertThat(bucketedRepository.findItemPage("user1", "item1", 0, 2)).get()
+                .extracting(page -> page.items().stream().map(WishlistItem::getItemId).toList())
+                .isEqualTo(List.of("item2", "item3"));
+    }
+
+    @Test
+    @DisplayName("migrate - should read a single-document wishlist as it is and move it into buckets")
+    void shouldReadAndMigrateSingleDocumentWishlist() {
+        insertSingleDocument("user1", 3);
+
+        assertThat(bucketedRepository.findByUserId("user1")).get()
+                .extracting(wishlist -> wishlist.getItems().size()).isEqualTo(3);
+        assertThat(bucketedRepository.containsItem("user1", "item2")).isTrue();
+        ItemPage page = bucketedRepository.findItemPage("user1", null, 1, 5).orElseThrow();
+        assertThat(page.itemCount()).isEqualTo(3);
+
+        WishlistBucketMigrator.Result result =
+                new WishlistBucketMigrator(bucketedRepository, new SimpleMeterRegistry()).migrate();
+
+        assertThat(result.migrated()).isEqualTo(1);
+        assertThat(mongoTemplate.findAll(WishlistBucket.class)).hasSize(2);
+        Wishlist migrated = bucketedRepository.findByUserId("user1").orElseThrow();
+        assertThat(migrated.getId()).isEqualTo("wishlist-user1");
+        assertThat(migrated.getVersion()).isEqualTo(7);
+        assertThat(migrated.getItems()).extracting(WishlistItem::getItemId).containsExactly("item0", "item1", "item2");
+    }
+
+    @Test
+    @DisplayName("pullItem - should migrate a single-document wishlist on its first write")
+    void shouldMigrateOnFirstWrite() {
+        insertSingleDocument("user1", 3);
+
+        assertThat(bucketedRepository.pullItem("user1", "item0")).isEqualTo(RemoveItemResult.REMOVED);
+
+        assertThat(mongoTemplate.findAll(WishlistBucket.class)).hasSize(2);
+        assertThat(bucketedRepository.findByUserId("user1")).get()
+                .satisfies(wishlist -> {
+                    assertThat(wishlist.getVersion()).isEqualTo(8);
+                    assertThat(wishlist.getItems()).extracting(WishlistItem::getItemId).containsExactly("item1", "item2");
+                });
+        try (Stream<String> unbucketed = bucketedRepository.streamUnbucketedUserIds()) {
+            assertThat(unbucketed).isEmpty();
+        }
+    }
+
+    private void insertSingleDocument(String userId, int items) {
+        List<Document> stored = new ArrayList<>();
+        for (int i = 0; i < items; i++) {
+            stored.add(new Document("itemId", "item" + i).append("name", "Product " + i));
+        }
+        mongoTemplate.insert(new Document("_id", "wishlist-" + userId)
+                .append("userId", userId)
+                .append("items", stored)
+                .append("version", 7L), mongoTemplate.getCollectionName(Wishlist.class));
+    }
+
+    private static WishlistItem item(String itemId) {
+        return WishlistItem.builder().itemId(itemId).name("Product " + itemId).build();
+    }
+}
@@ -0,0 +1,112 @@
+package com.wishlist.wishlist.domain.repository;
+
+import com.mongodb.ReadPreference;
+import com.wishlist.wishlist.domain.model.ItemPage;
+import com.wishlist.wishlist.domain.model.Wishlist;
+import com.wishlist.wishlist.domain.model.WishlistBucket;
+import com.wishlist.wishlist.domain.model.WishlistItem;
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BucketedWishlistRepository - Bucket Window Tests")
+class BucketedWishlistRepositoryTest {
+
+    private static final String HEADS = "wishlists";
+    private static final String BUCKETS = "wishlist_buckets";
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Test
+    @DisplayName("findItemPage - should read only the slices of the buckets the page falls in")
+    void shouldReadOnlyBucketsOfPage() {
+        BucketedWishlistRepository repository = new BucketedWishlistRepository(mongoTemplate, MongoReadRouting.primary(), 2);
+        when(mongoTemplate.getCollectionName(Wishlist.class)).thenReturn(HEADS);
+        when(mongoTemplate.getCollectionName(WishlistBucket.class)).thenReturn(BUCKETS);
+        when(mongoTemplate.findOne(any(Query.class), eq(Document.class), eq(HEADS)))
+                .thenReturn(new Document("itemCount", 5).append("bucketCount", 3).append("version", 9L));
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq(BUCKETS))).thenReturn(List.of(
+                new Document("bucketNo", 0).append("itemCount", 2),
+                new Document("bucketNo", 1).append("itemCount", 2),
+                new Document("bucketNo", 2).append("itemCount", 1)));
+        when(mongoTemplate.findOne(any(Query.class), eq(Document.class), eq(BUCKETS))).thenReturn(
+                new Document("bucketNo", 1).append("position", 0),
+                new Document("items", List.of(new Document("itemId", "item3").append("name", "Product 3"))),
+                new Document("items", List.of(new Document("itemId", "item4").append("name", "Product 4"))));
+
+        ItemPage page = repository.findItemPage("user1", "item2", 0, 2).orElseThrow();
+
+        assertThat(page.items()).extracting(WishlistItem::getItemId).containsExactly("item3", "item4");
+        assertThat(page.offset()).isEqualTo(3);
+        assertThat(page.itemCount()).isEqualTo(5);
+        assertThat(page.version()).isEqualTo(9);
+        ArgumentCaptor<Query> queries = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate, times(3)).findOne(queries.capture(), eq(Document.class), eq(BUCKETS));
+        assertThat(slice(queries.getAllValues().get(1))).isEqualTo(List.of("$items", 1, 2));
+        assertThat(queries.getAllValues().get(1).getQueryObject().get("bucketNo")).isEqualTo(1);
+        assertThat(slice(queries.getAllValues().get(2))).isEqualTo(List.of("$items", 0, 1));
+        assertThat(queries.getAllValues().get(2).getQueryObject().get("bucketNo")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("findItemPage - should answer a wishlist not moved into buckets yet from its single document")
+    void shouldAnswerSingleDocumentWishlistFromHead() {
+        BucketedWishlistRepository repository = new BucketedWishlistRepository(mongoTemplate, MongoReadRouting.primary(), 2);
+        when(mongoTemplate.getCollectionName(Wishlist.class)).thenReturn(HEADS);
+        when(mongoTemplate.findOne(any(Query.class), eq(Document.class), eq(HEADS))).thenReturn(new Document(
+                "items", List.of(new Document("itemId", "item1").append("name", "Product 1")))
+                .append("itemOffset", 0)
+                .append("itemCount", 1));
+
+        ItemPage page = repository.findItemPage("user1", null, 0, 2).orElseThrow();
+
+        assertThat(page.items()).extracting(WishlistItem::getItemId).containsExactly("item1");
+        verify(mongoTemplate, never()).find(any(Query.class), eq(Document.class), eq(BUCKETS));
+    }
+
+    @Test
+    @DisplayName("findByUserIdIn - should stay on the primary whatever the read preference")
+    void shouldKeepFindByUserIdInOnPrimary() {
+        BucketedWishlistRepository repository = new BucketedWishlistRepository(mongoTemplate,
+                new MongoReadRouting(ReadPreference.secondaryPreferred(), false, Duration.ofSeconds(30)), 2);
+        when(mongoTemplate.getCollectionName(Wishlist.class)).thenReturn(HEADS);
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq(HEADS))).thenReturn(List.of());
+
+        assertThat(repository.findByUserIdIn(List.of("user1", "user2"))).isEmpty();
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(query.capture(), eq(Document.class), eq(HEADS));
+        assertThat(query.getValue().hasReadPreference()).isFalse();
+    }
+
+    @Test
+    @DisplayName("constructor - should reject buckets smaller than one item")
+    void shouldRejectInvalidBucketSize() {
+        assertThatThrownBy(() -> new BucketedWishlistRepository(mongoTemplate, MongoReadRouting.primary(), 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Object slice(Query query) {
+        return query.getFieldsObject().get("items", Document.class).get("$slice");
+    }
+}
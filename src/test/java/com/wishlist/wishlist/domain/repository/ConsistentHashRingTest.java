@@ -0,0 +1,69 @@
+package com.wishlist.wishlist.domain.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ConsistentHashRing - Key Placement Tests")
+class ConsistentHashRingTest {
+
+    private static final int KEYS = 30_000;
+
+    @Test
+    @DisplayName("nodeFor - should spread keys evenly and place them the same way on every ring built from the same names")
+    void shouldSpreadKeysEvenlyAndStably() {
+        ConsistentHashRing<String> ring = new ConsistentHashRing<>(nodes("p0", "p1", "p2"), 128);
+        ConsistentHashRing<String> rebuilt = new ConsistentHashRing<>(nodes("p2", "p0", "p1"), 128);
+
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < KEYS; i++) {
+            String node = ring.nodeFor("user" + i);
+            assertThat(rebuilt.nodeFor("user" + i)).isEqualTo(node);
+            counts.merge(node, 1, Integer::sum);
+        }
+
+        assertThat(counts).containsOnlyKeys("p0", "p1", "p2");
+        assertThat(counts.values()).allSatisfy(count -> assertThat(count).isBetween(KEYS / 4, KEYS * 5 / 12));
+    }
+
+    @Test
+    @DisplayName("nodeFor - should move only about a quarter of the keys, all to the new node, when a fourth node joins")
+    void shouldMoveOnlyKeysOfNewNode() {
+        ConsistentHashRing<String> before = new ConsistentHashRing<>(nodes("p0", "p1", "p2"), 128);
+        ConsistentHashRing<String> after = new ConsistentHashRing<>(nodes("p0", "p1", "p2", "p3"), 128);
+
+        int moved = 0;
+        for (int i = 0; i < KEYS; i++) {
+            String owner = after.nodeFor("user" + i);
+            if (!owner.equals(before.nodeFor("user" + i))) {
+                assertThat(owner).isEqualTo("p3");
+                moved++;
+            }
+        }
+
+        assertThat(moved).isBetween(KEYS / 6, KEYS / 3);
+    }
+
+    @Test
+    @DisplayName("constructor - should reject a ring without nodes or virtual nodes")
+    void shouldRejectEmptyRing() {
+        assertThatThrownBy(() -> new ConsistentHashRing<>(Map.of(), 128))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ConsistentHashRing<>(nodes("p0"), 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Map<String, String> nodes(String... names) {
+        Map<String, String> nodes = new LinkedHashMap<>();
+        for (String name : names) {
+            nodes.put(name, name);
+        }
+        return nodes;
+    }
+}
@@ -0,0 +1,117 @@
+package com.wishlist.wishlist.domain.repository;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.wishlist.wishlist.domain.model.Wishlist;
+import com.wishlist.wishlist.domain.model.WishlistItem;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.BiPredicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfEnvironmentVariable(named = "WISHLIST_LATENCY_MONGODB_URI", matches = ".+")
+@DisplayName("containsItem - Latency Comparison Against Full Document Load")
+class ContainsItemLatencyTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ContainsItemLatencyTest.class);
+    private static final String DATABASE = "wishlist_latency_test";
+    private static final int USERS = 5_000;
+    private static final int ITEMS_PER_USER = 20;
+    private static final int WARMUP = 2_000;
+    private static final int SAMPLES = 5_000;
+
+    private MongoClient mongoClient;
+    private MongoTemplate mongoTemplate;
+    private WishlistRepositoryCustomImpl repository;
+
+    @BeforeAll
+    void setUp() {
+        mongoClient = MongoClients.create(System.getenv("WISHLIST_LATENCY_MONGODB_URI"));
+        mongoTemplate = new MongoTemplate(mongoClient, DATABASE);
+        mongoTemplate.dropCollection(Wishlist.class);
+        mongoTemplate.indexOps(Wishlist.class).createIndex(new Index()
+                .on("userId", Sort.Direction.ASC)
+                .on("items.itemId", Sort.Direction.ASC)
+                .named("userId_itemId"));
+
+        List<Wishlist> wishlists = new ArrayList<>(USERS);
+        for (int u = 0; u < USERS; u++) {
+            Wishlist wishlist = Wishlist.builder().userId("user" + u).build();
+            for (int i = 0; i < ITEMS_PER_USER; i++) {
+                wishlist.getItems().add(WishlistItem.builder()
+                        .itemId("item" + i)
+                        .name("Produto com um nome razoavelmente longo numero " + i)
+                        .build());
+            }
+            wishlists.add(wishlist);
+        }
+        mongoTemplate.insertAll(wishlists);
+        repository = new WishlistRepositoryCustomImpl(mongoTemplate, MongoReadRouting.primary());
+    }
+
+    @AfterAll
+    void tearDown() {
+        mongoTemplate.getDb().drop();
+        mongoClient.close();
+    }
+
+    @Test
+    @DisplayName("exists query should not be slower than loading and scanning the whole document")
+    void existsQueryShouldNotBeSlowerThanFullDocumentLoad() {
+        BiPredicate<String, String> fullLoad = (userId, itemId) -> {
+            Wishlist wishlist = mongoTemplate.findOne(
+                    Query.query(Criteria.where("userId").is(userId)), Wishlist.class);
+            return wishlist != null && wishlist.getItems().stream()
+                    .anyMatch(item -> item.getItemId().equals(itemId));
+        };
+        BiPredicate<String, String> existsQuery = repository::containsItem;
+
+        measure(fullLoad, WARMUP);
+        measure(existsQuery, WARMUP);
+        long[] fullLoadNanos = measure(fullLoad, SAMPLES);
+        long[] existsNanos = measure(existsQuery, SAMPLES);
+
+        log.info("contains latency (us) - full load p50: {}, p99: {} | exists p50: {}, p99: {}",
+                percentile(fullLoadNanos, 50) / 1_000, percentile(fullLoadNanos, 99) / 1_000,
+                percentile(existsNanos, 50) / 1_000, percentile(existsNanos, 99) / 1_000);
+
+        assertThat(percentile(existsNanos, 50)).isLessThanOrEqualTo(percentile(fullLoadNanos, 50));
+    }
+
+    private long[] measure(BiPredicate<String, String> contains, int samples) {
+        Random random = new Random(42);
+        long[] nanos = new long[samples];
+        for (int s = 0; s < samples; s++) {
+            String userId = "user" + random.nextInt(USERS * 2);
+            String itemId = "item" + random.nextInt(ITEMS_PER_USER * 2);
+            long start = System.nanoTime();
+            contains.test(userId, itemId);
+            nanos[s] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        return nanos;
+    }
+
+    private long percentile(long[] sortedNanos, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(index, 0)];
+    }
+}
@@ -0,0 +1,75 @@
+package com.wishlist.wishlist.domain.repository;
+
+import com.wishlist.wishlist.domain.model.Wishlist;
+import com.wishlist.wishlist.domain.model.WishlistItem;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("InMemoryWishlistRepository - Repository Contract Tests")
+class InMemoryWishlistRepositoryTest extends WishlistRepositoryContractTest {
+
+    @Override
+    protected WishlistRepository createRepository() {
+        // Two stripes so that concurrent writes to different users also contend for the same lock.
+        return new InMemoryWishlistRepository(2);
+    }
+
+    @Test
+    @DisplayName("pushItem - should never exceed the limit or duplicate items under concurrent adds")
+    void shouldKeepLimitUnderConcurrentAdds() throws Exception {
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 50; i++) {
+                        repository.pushItem("user1", item("item" + i), 20);
+                        repository.pushItem("user2", item("item" + i), 20);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        for (String userId : List.of("user1", "user2")) {
+            List<String> itemIds = repository.findByUserId(userId).orElseThrow().getItems().stream()
+                    .map(WishlistItem::getItemId)
+                    .toList();
+            assertThat(itemIds).hasSize(20).doesNotHaveDuplicates();
+        }
+    }
+
+    @Test
+    @DisplayName("findByUserId - should return a copy that does not change the stored wishlist")
+    void shouldReturnDetachedCopies() {
+        repository.pushItem("user1", item("item1"), 20);
+
+        Wishlist wishlist = repository.findByUserId("user1").orElseThrow();
+        wishlist.getItems().clear();
+
+        assertThat(repository.containsItem("user1", "item1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("constructor - should reject a non-positive number of lock stripes")
+    void shouldRejectNonPositiveStripes() {
+        assertThatThrownBy(() -> new InMemoryWishlistRepository(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,205 @@
+package com.wishlist.wishlist.domain.repository;
+
+import com.mongodb.ClientSessionOptions;
+import com.mongodb.MongoException;
+import com.mongodb.ReadPreference;
+import com.mongodb.TransactionOptions;
+import com.mongodb.client.ClientSession;
+import org.bson.BsonDocument;
+import org.bson.BsonTimestamp;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.support.PersistenceExceptionTranslator;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.UncategorizedMongoDbException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MongoReadRouting - Read Preference and Read-Your-Writes Tests")
+class MongoReadRoutingTest {
+
+    private static final BsonTimestamp WRITTEN_AT = new BsonTimestamp(1_700_000_000, 3);
+    private static final BsonDocument CLUSTER_TIME = new BsonDocument("clusterTime", WRITTEN_AT);
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private MongoTemplate sessionTemplate;
+
+    @Mock
+    private MongoDatabaseFactory databaseFactory;
+
+    @Mock
+    private ClientSession session;
+
+    @Mock
+    private PersistenceExceptionTranslator exceptionTranslator;
+
+    private final MongoReadRouting routing = new MongoReadRouting(
+            ReadPreference.secondaryPreferred(), true, Duration.ofSeconds(30));
+
+    @Test
+    @DisplayName("read - should advance a causal session to the user's last write before reading")
+    void shouldReadAfterTheUsersLastWrite() {
+        openSessions();
+        when(session.getOperationTime()).thenReturn(WRITTEN_AT);
+        when(session.getClusterTime()).thenReturn(CLUSTER_TIME);
+
+        String written = routing.write(mongoTemplate, List.of("user1"), template -> template == sessionTemplate ? "written" : null);
+        String read = routing.read(mongoTemplate, List.of("user2", "user1"), template -> template == sessionTemplate ? "read" : null);
+
+        assertThat(written).isEqualTo("written");
+        assertThat(read).isEqualTo("read");
+        verify(session).advanceClusterTime(CLUSTER_TIME);
+        verify(session).advanceOperationTime(WRITTEN_AT);
+    }
+
+    @Test
+    @DisplayName("read - should read without a session for users this instance has not written to")
+    void shouldReadWithoutSessionForOtherUsers() {
+        openSessions();
+        when(session.getOperationTime()).thenReturn(WRITTEN_AT);
+
+        routing.write(mongoTemplate, List.of("user1"), template -> null);
+        String read = routing.read(mongoTemplate, List.of("user2"), template -> template == mongoTemplate ? "read" : null);
+
+        assertThat(read).isEqualTo("read");
+        verify(session, never()).advanceOperationTime(any());
+    }
+
+    @Test
+    @DisplayName("write - should run without a session when read-your-writes is off")
+    void shouldWriteWithoutSessionWhenOff() {
+        MongoReadRouting primary = MongoReadRouting.primary();
+        MongoTemplate template = mock(MongoTemplate.class);
+
+        assertThat(primary.write(template, List.of("user1"), used -> used == template)).isTrue();
+        assertThat(primary.read(template, List.of("user1"), used -> used == template)).isTrue();
+        assertThat(primary.readPreference()).isEqualTo(ReadPreference.primary());
+        assertThat(primary.isReadYourWrites()).isFalse();
+    }
+
+    @Test
+    @DisplayName("cachedReadPreference - should leave the primary only with read-your-writes on")
+    void shouldKeepCachedReadsOnPrimaryWithoutReadYourWrites() {
+        ReadPreference secondaryPreferred = ReadPreference.secondaryPreferred();
+
+        assertThat(new MongoReadRouting(secondaryPreferred, false, Duration.ofSeconds(30)).cachedReadPreference())
+                .isEqualTo(ReadPreference.primary());
+        assertThat(new MongoReadRouting(secondaryPreferred, true, Duration.ofSeconds(30)).cachedReadPreference())
+                .isEqualTo(secondaryPreferred);
+    }
+
+    @Test
+    @DisplayName("transaction - should run the write again after a transient conflict and commit it once")
+    void shouldRetryTransactionAfterTransientConflict() {
+        openSessions();
+        when(session.hasActiveTransaction()).thenReturn(true);
+        AtomicInteger attempts = new AtomicInteger();
+
+        String written = routing.transaction(mongoTemplate, List.of("user1"), template -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new UncategorizedMongoDbException("Write conflict", writeConflict());
+            }
+            return template == sessionTemplate ? "written" : null;
+        });
+
+        assertThat(written).isEqualTo("written");
+        verify(session, times(2)).startTransaction(any(TransactionOptions.class));
+        verify(session).abortTransaction();
+        verify(session).commitTransaction();
+    }
+
+    @Test
+    @DisplayName("transaction - should report a conflict that outlasts the attempts as a concurrency failure")
+    void shouldReportLastingConflictAsConcurrencyFailure() {
+        openSessions();
+        doThrow(writeConflict()).when(session).commitTransaction();
+
+        assertThatThrownBy(() -> routing.transaction(mongoTemplate, List.of("user1"), template -> "written"))
+                .isInstanceOf(ConcurrencyFailureException.class);
+        verify(session, times(3)).commitTransaction();
+    }
+
+    @Test
+    @DisplayName("transaction - should abort and rethrow a failure that is not a conflict")
+    void shouldAbortAndRethrowOtherFailures() {
+        openSessions();
+        when(session.hasActiveTransaction()).thenReturn(true);
+        IllegalStateException failure = new IllegalStateException("Unexpected document");
+
+        assertThatThrownBy(() -> routing.transaction(mongoTemplate, List.of("user1"), template -> {
+            throw failure;
+        })).isSameAs(failure);
+        verify(session).abortTransaction();
+        verify(session, never()).commitTransaction();
+    }
+
+    @Test
+    @DisplayName("transaction - should commit again when the commit result is unknown, without rerunning the write")
+    void shouldRetryCommitWithUnknownResult() {
+        openSessions();
+        MongoException unknown = new MongoException(91, "ShutdownInProgress");
+        unknown.addLabel(MongoException.UNKNOWN_TRANSACTION_COMMIT_RESULT_LABEL);
+        doThrow(unknown).doNothing().when(session).commitTransaction();
+        AtomicInteger attempts = new AtomicInteger();
+
+        String written = routing.transaction(mongoTemplate, List.of("user1"), template -> {
+            attempts.incrementAndGet();
+            return "written";
+        });
+
+        assertThat(written).isEqualTo("written");
+        assertThat(attempts).hasValue(1);
+        verify(session).startTransaction(any(TransactionOptions.class));
+        verify(session, times(2)).commitTransaction();
+    }
+
+    @Test
+    @DisplayName("transaction - should translate a commit failure that is neither transient nor unknown")
+    void shouldTranslateOtherCommitFailures() {
+        openSessions();
+        MongoException failure = new MongoException(50, "MaxTimeMSExpired");
+        doThrow(failure).when(session).commitTransaction();
+        DataAccessResourceFailureException translated = new DataAccessResourceFailureException("Commit timed out", failure);
+        when(mongoTemplate.getExceptionTranslator()).thenReturn(exceptionTranslator);
+        when(exceptionTranslator.translateExceptionIfPossible(failure)).thenReturn(translated);
+
+        assertThatThrownBy(() -> routing.transaction(mongoTemplate, List.of("user1"), template -> "written"))
+                .isSameAs(translated);
+        verify(session).startTransaction(any(TransactionOptions.class));
+        verify(session).commitTransaction();
+    }
+
+    private static MongoException writeConflict() {
+        MongoException conflict = new MongoException(112, "WriteConflict");
+        conflict.addLabel(MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL);
+        return conflict;
+    }
+
+    private void openSessions() {
+        when(mongoTemplate.getMongoDatabaseFactory()).thenReturn(databaseFactory);
+        when(databaseFactory.getSession(any(ClientSessionOptions.class))).thenReturn(session);
+        when(mongoTemplate.withSession(session)).thenReturn(sessionTemplate);
+    }
+}
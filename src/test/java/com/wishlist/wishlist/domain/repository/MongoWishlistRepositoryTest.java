@@ -0,0 +1,45 @@
+package com.wishlist.wishlist.domain.repository;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.wishlist.wishlist.domain.model.Wishlist;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfEnvironmentVariable(named = "WISHLIST_MONGODB_URI", matches = ".+")
+@DisplayName("MongoWishlistRepository - Repository Contract Tests")
+class MongoWishlistRepositoryTest extends WishlistRepositoryContractTest {
+
+    private static final String DATABASE = "wishlist_contract_test";
+
+    private MongoClient mongoClient;
+    private MongoTemplate mongoTemplate;
+    private MongoWishlistRepository mongoRepository;
+
+    @BeforeAll
+    void setUpMongo() {
+        mongoClient = MongoClients.create(System.getenv("WISHLIST_MONGODB_URI"));
+        mongoTemplate = new MongoTemplate(mongoClient, DATABASE);
+        mongoRepository = new MongoRepositoryFactory(mongoTemplate).getRepository(MongoWishlistRepository.class,
+                RepositoryFragments.just(new WishlistRepositoryCustomImpl(mongoTemplate, MongoReadRouting.primary())));
+    }
+
+    @AfterAll
+    void tearDownMongo() {
+        mongoTemplate.getDb().drop();
+        mongoClient.close();
+    }
+
+    @Override
+    protected WishlistRepository createRepository() {
+        mongoTemplate.dropCollection(Wishlist.class);
+        return mongoRepository;
+    }
+}
@@ -0,0 +1,102 @@
+package com.wishlist.wishlist.domain.repository;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.wishlist.wishlist.domain.model.Wishlist;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfEnvironmentVariable(named = "WISHLIST_MONGODB_URI", matches = ".+")
+@DisplayName("PartitionedWishlistRepository - Contract and Rebalance Tests on Several Databases of One Server")
+class PartitionedMongoWishlistRepositoryTest extends WishlistRepositoryContractTest {
+
+    private static final String DATABASE_PREFIX = "wishlist_partition_test_";
+    private static final int USERS = 500;
+
+    private MongoClient mongoClient;
+    private final Map<String, WishlistPartition> partitions = new LinkedHashMap<>();
+
+    @BeforeAll
+    void setUpMongo() {
+        mongoClient = MongoClients.create(System.getenv("WISHLIST_MONGODB_URI"));
+        for (String name : new String[] {"p0", "p1", "p2", "p3"}) {
+            MongoTemplate mongoTemplate = new MongoTemplate(mongoClient, DATABASE_PREFIX + name);
+            WishlistRepository repository = new MongoRepositoryFactory(mongoTemplate).getRepository(
+                    MongoWishlistRepository.class, RepositoryFragments.just(
+                            new WishlistRepositoryCustomImpl(mongoTemplate, MongoReadRouting.primary())));
+            partitions.put(name, new WishlistPartition(name, mongoTemplate, repository));
+        }
+    }
+
+    @AfterAll
+    void tearDownMongo() {
+        partitions.values().forEach(partition -> partition.mongoTemplate().getDb().drop());
+        mongoClient.close();
+    }
+
+    @Override
+    protected WishlistRepository createRepository() {
+        resetCollections();
+        return new PartitionedWishlistRepository(ring("p0", "p1", "p2"), null);
+    }
+
+    @Test
+    @DisplayName("rebalance - should move exactly the users owned by a new partition, keeping every wishlist once")
+    void shouldRebalanceOntoNewPartition() {
+        resetCollections();
+        PartitionedWishlistRepository threePartitions = new PartitionedWishlistRepository(ring("p0", "p1", "p2"), null);
+        for (int i = 0; i < USERS; i++) {
+            threePartitions.pushItem("user" + i, item("item" + i), 20);
+        }
+
+        PartitionedWishlistRepository fourPartitions = new PartitionedWishlistRepository(
+                ring("p0", "p1", "p2", "p3"), ring("p0", "p1", "p2"));
+        PartitionRebalancer.Result result = new PartitionRebalancer(fourPartitions, new SimpleMeterRegistry()).rebalance();
+
+        assertThat(result.scanned()).isEqualTo(USERS);
+        assertThat(result.moved()).isPositive().isLessThan(USERS / 2);
+        assertThat(partitions.get("p3").mongoTemplate().count(new Query(),
+                Wishlist.class)).isEqualTo(result.moved());
+        PartitionedWishlistRepository rebalanced = new PartitionedWishlistRepository(ring("p0", "p1", "p2", "p3"), null);
+        for (int i = 0; i < USERS; i++) {
+            assertThat(rebalanced.containsItem("user" + i, "item" + i)).isTrue();
+        }
+        assertThat(partitions.values().stream()
+                .mapToLong(partition -> partition.mongoTemplate().count(
+                        new Query(), Wishlist.class))
+                .sum()).isEqualTo(USERS);
+    }
+
+    private void resetCollections() {
+        for (WishlistPartition partition : partitions.values()) {
+            partition.mongoTemplate().dropCollection(Wishlist.class);
+            partition.mongoTemplate().indexOps(Wishlist.class)
+                    .createIndex(new Index("userId", Sort.Direction.ASC).unique());
+        }
+    }
+
+    private ConsistentHashRing<WishlistPartition> ring(String... names) {
+        Map<String, WishlistPartition> members = new LinkedHashMap<>();
+        for (String name : names) {
+            members.put(name, partitions.get(name));
+        }
+        return new ConsistentHashRing<>(members, 128);
+    }
+}
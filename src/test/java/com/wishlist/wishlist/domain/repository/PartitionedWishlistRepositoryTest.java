@@ -0,0 +1,168 @@
+package com.wishlist.wishlist.domain.repository;
+
+import com.wishlist.wishlist.domain.model.Wishlist;
+import com.wishlist.wishlist.domain.model.WishlistItem;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("PartitionedWishlistRepository - Partition Routing Tests")
+class PartitionedWishlistRepositoryTest {
+
+    private static final int MAX_ITEMS = 20;
+
+    private final Map<String, WishlistPartition> partitions = partitions("p0", "p1", "p2", "p3");
+
+    @Test
+    @DisplayName("pushItem - should store each user's wishlist only in the partition owning the user")
+    void shouldStoreEachUserInItsOwnPartition() {
+        PartitionedWishlistRepository repository = repository(ring("p0", "p1", "p2"), null);
+
+        for (int i = 0; i < 200; i++) {
+            repository.pushItem("user" + i, item("item1"), MAX_ITEMS);
+        }
+
+        for (int i = 0; i < 200; i++) {
+            String userId = "user" + i;
+            WishlistPartition owner = repository.partitionFor(userId);
+            assertThat(repository.findByUserId(userId)).isPresent();
+            for (WishlistPartition partition : List.of(partitions.get("p0"), partitions.get("p1"), partitions.get("p2"))) {
+                assertThat(partition.repository().findByUserId(userId).isPresent()).isEqualTo(partition == owner);
+            }
+        }
+        assertThat(repository.estimatedWishlistCount()).isEqualTo(200);
+        try (Stream<String> userIds = repository.streamUserIds()) {
+            assertThat(userIds).hasSize(200);
+        }
+    }
+
+    @Test
+    @DisplayName("pushItems - should split writes and reads of several users per owning partition")
+    void shouldSplitMultiUserCallsPerPartition() {
+        PartitionedWishlistRepository repository = repository(ring("p0", "p1", "p2"), null);
+        Map<String, List<WishlistItem>> itemsByUser = new LinkedHashMap<>();
+        IntStream.range(0, 30).forEach(i -> itemsByUser.put("user" + i, List.of(item("item" + i))));
+
+        repository.pushItems(itemsByUser, MAX_ITEMS);
+
+        Map<String, Set<String>> itemIds = repository.findItemIds(itemsByUser.keySet());
+        assertThat(itemIds).hasSize(30);
+        assertThat(itemIds.get("user7")).containsExactly("item7");
+        assertThat(repository.findByUserIdIn(itemsByUser.keySet()))
+                .extracting(Wishlist::getUserId)
+                .containsExactlyInAnyOrderElementsOf(itemsByUser.keySet());
+    }
+
+    @Test
+    @DisplayName("move - should copy the wishlist to its new partition and remove it from the previous one")
+    void shouldMoveWishlistToNewPartition() {
+        PartitionedWishlistRepository repository = repository(ring("p0", "p1", "p2", "p3"), ring("p0", "p1", "p2"));
+        String userId = movedUser(repository);
+        WishlistPartition source = repository.previousPartitionFor(userId);
+        WishlistPartition target = repository.partitionFor(userId);
+        Document stored = new Document("_id", "wishlist1").append("userId", userId);
+        when(source.mongoTemplate().getCollectionName(Wishlist.class)).thenReturn("wishlists");
+        when(source.mongoTemplate().findOne(any(Query.class), eq(Document.class), eq("wishlists"))).thenReturn(stored);
+        doThrow(new DuplicateKeyException("E11000 duplicate key error"))
+                .when(target.mongoTemplate()).insert(stored, "wishlists");
+
+        assertThat(repository.move(userId)).isTrue();
+
+        verify(target.mongoTemplate()).insert(stored, "wishlists");
+        verify(source.mongoTemplate()).remove(any(Query.class), eq("wishlists"));
+    }
+
+    @Test
+    @DisplayName("findByUserId - should move a user whose owner changed before reading it during a rebalance")
+    void shouldMoveBeforeOperatingDuringRebalance() {
+        PartitionedWishlistRepository repository = repository(ring("p0", "p1", "p2", "p3"), ring("p0", "p1", "p2"));
+        String userId = movedUser(repository);
+        WishlistPartition source = repository.previousPartitionFor(userId);
+        when(source.mongoTemplate().getCollectionName(Wishlist.class)).thenReturn("wishlists");
+
+        repository.findByUserId(userId);
+
+        verify(source.mongoTemplate()).findOne(any(Query.class), eq(Document.class), eq("wishlists"));
+        verify(repository.partitionFor(userId).mongoTemplate(), never()).insert(any(Document.class), any(String.class));
+    }
+
+    @Test
+    @DisplayName("rebalance - should scan only the previous partitions and move only the users whose owner changed")
+    void shouldRebalanceOnlyUsersWhoseOwnerChanged() {
+        PartitionedWishlistRepository repository = repository(ring("p0", "p1", "p2", "p3"), ring("p0", "p1", "p2"));
+        for (int i = 0; i < 100; i++) {
+            String userId = "user" + i;
+            repository.previousPartitionFor(userId).repository().pushItem(userId, item("item1"), MAX_ITEMS);
+        }
+        Map<WishlistPartition, Long> movesBySource = IntStream.range(0, 100).mapToObj(i -> "user" + i)
+                .filter(userId -> repository.partitionFor(userId) != repository.previousPartitionFor(userId))
+                .collect(Collectors.groupingBy(repository::previousPartitionFor, Collectors.counting()));
+        for (String name : List.of("p0", "p1", "p2")) {
+            when(partitions.get(name).mongoTemplate().getCollectionName(Wishlist.class)).thenReturn("wishlists");
+        }
+
+        PartitionRebalancer.Result result = new PartitionRebalancer(repository, new SimpleMeterRegistry()).rebalance();
+
+        assertThat(result.scanned()).isEqualTo(100);
+        assertThat(movesBySource).isNotEmpty();
+        for (String name : List.of("p0", "p1", "p2")) {
+            WishlistPartition source = partitions.get(name);
+            verify(source.mongoTemplate(), times(movesBySource.getOrDefault(source, 0L).intValue()))
+                    .findOne(any(Query.class), eq(Document.class), eq("wishlists"));
+        }
+    }
+
+    private PartitionedWishlistRepository repository(ConsistentHashRing<WishlistPartition> ring,
+                                                     ConsistentHashRing<WishlistPartition> previousRing) {
+        return new PartitionedWishlistRepository(ring, previousRing);
+    }
+
+    private ConsistentHashRing<WishlistPartition> ring(String... names) {
+        Map<String, WishlistPartition> members = new LinkedHashMap<>();
+        for (String name : names) {
+            members.put(name, partitions.get(name));
+        }
+        return new ConsistentHashRing<>(members, 64);
+    }
+
+    private static String movedUser(PartitionedWishlistRepository repository) {
+        return IntStream.range(0, 1_000).mapToObj(i -> "user" + i)
+                .filter(userId -> repository.partitionFor(userId) != repository.previousPartitionFor(userId))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static Map<String, WishlistPartition> partitions(String... names) {
+        Map<String, WishlistPartition> partitions = new LinkedHashMap<>();
+        for (String name : names) {
+            partitions.put(name, new WishlistPartition(name, mock(MongoTemplate.class), new InMemoryWishlistRepository(4)));
+        }
+        return partitions;
+    }
+
+    private static WishlistItem item(String itemId) {
+        return WishlistItem.builder().itemId(itemId).name("Product " + itemId).build();
+    }
+}
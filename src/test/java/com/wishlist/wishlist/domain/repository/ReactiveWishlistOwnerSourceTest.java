@@ -0,0 +1,58 @@
+package com.wishlist.wishlist.domain.repository;
+
+import com.wishlist.wishlist.domain.model.Wishlist;
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactiveWishlistOwnerSource - Owner Filter Source Tests")
+class ReactiveWishlistOwnerSourceTest {
+
+    @Mock
+    private ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @InjectMocks
+    private ReactiveWishlistOwnerSource ownerSource;
+
+    @Test
+    @DisplayName("streamUserIds - should stream the projected userIds, skipping documents without one")
+    void shouldStreamProjectedUserIds() {
+        when(reactiveMongoTemplate.getCollectionName(Wishlist.class)).thenReturn("wishlists");
+        when(reactiveMongoTemplate.find(any(Query.class), eq(Document.class), eq("wishlists")))
+                .thenReturn(Flux.just(new Document("userId", "user1"), new Document(), new Document("userId", "user2")));
+
+        try (Stream<String> userIds = ownerSource.streamUserIds()) {
+            assertThat(userIds).containsExactly("user1", "user2");
+        }
+
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(reactiveMongoTemplate).find(queryCaptor.capture(), eq(Document.class), eq("wishlists"));
+        assertThat(queryCaptor.getValue().getFieldsObject()).isEqualTo(new Document("userId", 1).append("_id", 0));
+    }
+
+    @Test
+    @DisplayName("estimatedWishlistCount - should return the collection's estimated count")
+    void shouldReturnEstimatedCount() {
+        when(reactiveMongoTemplate.estimatedCount(Wishlist.class)).thenReturn(Mono.just(42L));
+
+        assertThat(ownerSource.estimatedWishlistCount()).isEqualTo(42);
+    }
+}
@@ -0,0 +1,85 @@
+package com.wishlist.wishlist.domain.repository;
+
+import com.mongodb.client.result.UpdateResult;
+import com.wishlist.wishlist.domain.model.RemoveItemResult;
+import com.wishlist.wishlist.domain.model.Wishlist;
+import com.wishlist.wishlist.domain.model.WishlistItem;
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactiveWishlistRepositoryCustomImpl - Atomic Operations Tests")
+class ReactiveWishlistRepositoryCustomImplTest {
+
+    @Mock
+    private ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @InjectMocks
+    private ReactiveWishlistRepositoryCustomImpl repository;
+
+    @Test
+    @DisplayName("pushItem - should upsert by userId in a single findAndModify returning the new document")
+    void shouldUpsertByUserIdInSingleFindAndModify() {
+        WishlistItem item = WishlistItem.builder().itemId("item001").name("Product").build();
+        Wishlist stored = Wishlist.builder().id("wishlist123").userId("user123").build();
+        when(reactiveMongoTemplate.findAndModify(any(Query.class), any(UpdateDefinition.class),
+                any(FindAndModifyOptions.class), eq(Wishlist.class))).thenReturn(Mono.just(stored));
+
+        StepVerifier.create(repository.pushItem("user123", item, 20))
+                .expectNext(stored)
+                .verifyComplete();
+
+        ArgumentCaptor<FindAndModifyOptions> optionsCaptor = ArgumentCaptor.forClass(FindAndModifyOptions.class);
+        verify(reactiveMongoTemplate).findAndModify(any(Query.class), any(UpdateDefinition.class),
+                optionsCaptor.capture(), eq(Wishlist.class));
+        assertThat(optionsCaptor.getValue().isUpsert()).isTrue();
+        assertThat(optionsCaptor.getValue().isReturnNew()).isTrue();
+    }
+
+    @Test
+    @DisplayName("pullItem - should tell removed, missing item and missing wishlist apart")
+    void shouldTellPullOutcomesApart() {
+        when(reactiveMongoTemplate.updateFirst(any(Query.class), any(UpdateDefinition.class), eq(Wishlist.class)))
+                .thenReturn(Mono.just(UpdateResult.acknowledged(1, 1L, null)))
+                .thenReturn(Mono.just(UpdateResult.acknowledged(0, 0L, null)))
+                .thenReturn(Mono.just(UpdateResult.acknowledged(0, 0L, null)));
+        when(reactiveMongoTemplate.exists(any(Query.class), eq(Wishlist.class)))
+                .thenReturn(Mono.just(true))
+                .thenReturn(Mono.just(false));
+
+        StepVerifier.create(repository.pullItem("user123", "item001")).expectNext(RemoveItemResult.REMOVED).verifyComplete();
+        StepVerifier.create(repository.pullItem("user123", "item001")).expectNext(RemoveItemResult.ITEM_NOT_FOUND).verifyComplete();
+        StepVerifier.create(repository.pullItem("user123", "item001")).expectNext(RemoveItemResult.WISHLIST_NOT_FOUND).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("containsItem - should answer with an exists query on userId and items.itemId")
+    void shouldAnswerWithExistsQuery() {
+        when(reactiveMongoTemplate.exists(any(Query.class), eq(Wishlist.class))).thenReturn(Mono.just(true));
+
+        StepVerifier.create(repository.containsItem("user123", "item001")).expectNext(true).verifyComplete();
+
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(reactiveMongoTemplate).exists(queryCaptor.capture(), eq(Wishlist.class));
+        assertThat(queryCaptor.getValue().getQueryObject())
+                .isEqualTo(new Document("userId", "user123").append("items.itemId", "item001"));
+    }
+}
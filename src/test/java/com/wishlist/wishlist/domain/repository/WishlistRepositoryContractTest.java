@@ -0,0 +1,271 @@
+package com.wishlist.wishlist.domain.repository;
+
+import com.wishlist.wishlist.domain.model.ItemPage;
+import com.wishlist.wishlist.domain.model.ItemPresence;
+import com.wishlist.wishlist.domain.model.PushedItem;
+import com.wishlist.wishlist.domain.model.PushedItems;
+import com.wishlist.wishlist.domain.model.RemoveItemResult;
+import com.wishlist.wishlist.domain.model.Wishlist;
+import com.wishlist.wishlist.domain.model.WishlistItem;
+import com.wishlist.wishlist.domain.model.WishlistMutation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Behavior every {@link WishlistRepository} adapter must share, run against each of them by a subclass.
+ */
+abstract class WishlistRepositoryContractTest {
+
+    private static final int MAX_ITEMS = 3;
+
+    protected WishlistRepository repository;
+
+    protected abstract WishlistRepository createRepository();
+
+    @BeforeEach
+    void setUpRepository() {
+        repository = createRepository();
+    }
+
+    @Test
+    @DisplayName("pushItem - should create the wishlist on the first item")
+    void shouldCreateWishlistOnFirstItem() {
+        Wishlist wishlist = repository.pushItem("user1", item("item1"), MAX_ITEMS);
+
+        assertThat(wishlist.getId()).isNotNull();
+        assertThat(wishlist.getUserId()).isEqualTo("user1");
+        assertThat(itemIds(wishlist)).containsExactly("item1");
+        assertThat(repository.findByUserId("user1")).get().extracting(Wishlist::getId).isEqualTo(wishlist.getId());
+    }
+
+    @Test
+    @DisplayName("pushItem - should not add an item that is already present")
+    void shouldNotAddPresentItem() {
+        repository.pushItem("user1", item("item1"), MAX_ITEMS);
+
+        Wishlist wishlist = repository.pushItem("user1", WishlistItem.builder().itemId("item1").name("Other").build(), MAX_ITEMS);
+
+        assertThat(wishlist.getItems()).containsExactly(item("item1"));
+    }
+
+    @Test
+    @DisplayName("pushItem - should leave a full wishlist unchanged")
+    void shouldLeaveFullWishlistUnchanged() {
+        repository.pushItem("user1", item("item1"), MAX_ITEMS);
+        repository.pushItem("user1", item("item2"), MAX_ITEMS);
+        repository.pushItem("user1", item("item3"), MAX_ITEMS);
+
+        Wishlist wishlist = repository.pushItem("user1", item("item4"), MAX_ITEMS);
+
+        assertThat(itemIds(wishlist)).containsExactly("item1", "item2", "item3");
+    }
+
+    @Test
+    @DisplayName("pushItemProjected - should answer with the wishlist id, the stored item and the item count")
+    void shouldAnswerPushWithStoredItemAndCount() {
+        Wishlist existing = repository.pushItem("user1", item("item1"), MAX_ITEMS);
+
+        PushedItem pushed = repository.pushItemProjected("user1", item("item2"), MAX_ITEMS);
+        PushedItem again = repository.pushItemProjected("user1", WishlistItem.builder().itemId("item1").name("Other").build(), MAX_ITEMS);
+
+        assertThat(pushed).isEqualTo(new PushedItem(existing.getId(), item("item2"), 2));
+        assertThat(again).isEqualTo(new PushedItem(existing.getId(), item("item1"), 2));
+    }
+
+    @Test
+    @DisplayName("pushItemProjected - should answer without an item when the wishlist is full")
+    void shouldAnswerPushWithoutItemWhenFull() {
+        PushedItem first = repository.pushItemProjected("user1", item("item1"), MAX_ITEMS);
+        repository.pushItem("user1", item("item2"), MAX_ITEMS);
+        repository.pushItem("user1", item("item3"), MAX_ITEMS);
+
+        PushedItem rejected = repository.pushItemProjected("user1", item("item4"), MAX_ITEMS);
+
+        assertThat(first.wishlistId()).isEqualTo(repository.findByUserId("user1").orElseThrow().getId());
+        assertThat(rejected).isEqualTo(new PushedItem(first.wishlistId(), null, MAX_ITEMS));
+    }
+
+    @Test
+    @DisplayName("findItemPage - should return the window after the cursor item, or at its offset once it is removed, with the version it was read at")
+    void shouldReturnWindowAfterCursorItem() {
+        repository.pushItem("user1", item("item1"), MAX_ITEMS);
+        repository.pushItem("user1", item("item2"), MAX_ITEMS);
+        repository.pushItem("user1", item("item3"), MAX_ITEMS);
+
+        ItemPage first = repository.findItemPage("user1", null, 0, 2).orElseThrow();
+        ItemPage next = repository.findItemPage("user1", "item2", 2, 2).orElseThrow();
+        repository.pullItem("user1", "item1");
+        ItemPage shifted = repository.findItemPage("user1", "item2", 2, 2).orElseThrow();
+        repository.pullItem("user1", "item2");
+        ItemPage anchorRemoved = repository.findItemPage("user1", "item2", 1, 2).orElseThrow();
+
+        assertThat(first).isEqualTo(new ItemPage(List.of(item("item1"), item("item2")), 0, 3, 3));
+        assertThat(first.hasMore()).isTrue();
+        assertThat(next).isEqualTo(new ItemPage(List.of(item("item3")), 2, 3, 3));
+        assertThat(next.hasMore()).isFalse();
+        assertThat(shifted).isEqualTo(new ItemPage(List.of(item("item3")), 1, 2, 4));
+        assertThat(anchorRemoved).isEqualTo(new ItemPage(List.of(), 1, 1, 5));
+        assertThat(repository.findItemPage("user2", null, 0, 2)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("pushItems - should append absent items in order per user until the limit")
+    void shouldAppendAbsentItemsPerUserUntilLimit() {
+        repository.pushItem("user1", item("item2"), MAX_ITEMS);
+        Map<String, List<WishlistItem>> itemsByUser = new LinkedHashMap<>();
+        itemsByUser.put("user1", List.of(item("item1"), item("item2"), item("item3"), item("item4")));
+        itemsByUser.put("user2", List.of(item("item9")));
+
+        PushedItems pushed = repository.pushItems(itemsByUser, MAX_ITEMS);
+
+        assertThat(pushed.failures()).isEmpty();
+        Map<String, List<WishlistMutation.Result>> results = pushed.results();
+        assertThat(results.get("user1")).extracting(WishlistMutation.Result::applied)
+                .containsExactly(true, false, true, false);
+        assertThat(results.get("user2")).extracting(WishlistMutation.Result::applied).containsExactly(true);
+        assertThat(repository.findByUserId("user1")).get().extracting(this::itemIds)
+                .isEqualTo(List.of("item2", "item1", "item3"));
+        assertThat(repository.findByUserId("user2")).get().extracting(this::itemIds)
+                .isEqualTo(List.of("item9"));
+    }
+
+    @Test
+    @DisplayName("pullItem - should report the outcome of removing present, missing and unowned items")
+    void shouldReportPullOutcome() {
+        repository.pushItem("user1", item("item1"), MAX_ITEMS);
+
+        assertThat(repository.pullItem("user1", "item1")).isEqualTo(RemoveItemResult.REMOVED);
+        assertThat(repository.pullItem("user1", "item1")).isEqualTo(RemoveItemResult.ITEM_NOT_FOUND);
+        assertThat(repository.pullItem("user2", "item1")).isEqualTo(RemoveItemResult.WISHLIST_NOT_FOUND);
+        assertThat(repository.findByUserId("user1")).get().extracting(this::itemIds).isEqualTo(List.of());
+    }
+
+    @Test
+    @DisplayName("containsItem - should answer for present items, missing items and missing wishlists")
+    void shouldAnswerContains() {
+        repository.pushItem("user1", item("item1"), MAX_ITEMS);
+
+        assertThat(repository.containsItem("user1", "item1")).isTrue();
+        assertThat(repository.containsItem("user1", "item2")).isFalse();
+        assertThat(repository.containsItem("user2", "item1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("findItemPresence - should answer with the version the wishlist had, and empty for a missing wishlist")
+    void shouldAnswerPresenceWithVersion() {
+        repository.pushItem("user1", item("item1"), MAX_ITEMS);
+        repository.pushItem("user1", item("item2"), MAX_ITEMS);
+
+        assertThat(repository.findItemPresence("user1", "item2")).contains(new ItemPresence(true, 2));
+        assertThat(repository.findItemPresence("user1", "item3")).contains(new ItemPresence(false, 2));
+        assertThat(repository.findItemPresence("user2", "item1")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("findItemIds and findByUserIdIn - should leave out users without a wishlist")
+    void shouldLeaveOutUsersWithoutWishlist() {
+        repository.pushItem("user1", item("item1"), MAX_ITEMS);
+        repository.pushItem("user1", item("item2"), MAX_ITEMS);
+
+        assertThat(repository.findItemIds(List.of("user1", "user2")))
+                .isEqualTo(Map.of("user1", Set.of("item1", "item2")));
+        assertThat(repository.findByUserIdIn(List.of("user1", "user2")))
+                .extracting(Wishlist::getUserId)
+                .containsExactly("user1");
+    }
+
+    @Test
+    @DisplayName("streamUserIds and estimatedWishlistCount - should cover every stored wishlist")
+    void shouldCoverEveryStoredWishlist() {
+        repository.pushItem("user1", item("item1"), MAX_ITEMS);
+        repository.pushItem("user2", item("item1"), MAX_ITEMS);
+
+        try (Stream<String> userIds = repository.streamUserIds()) {
+            assertThat(userIds).containsExactlyInAnyOrder("user1", "user2");
+        }
+        assertThat(repository.estimatedWishlistCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("findVersion - should move only when an add or remove changes the items")
+    void shouldMoveVersionOnlyOnChanges() {
+        assertThat(repository.findVersion("user1")).isEmpty();
+
+        repository.pushItem("user1", item("item1"), MAX_ITEMS);
+        assertThat(repository.findVersion("user1")).hasValue(1);
+
+        repository.pushItem("user1", item("item1"), MAX_ITEMS);
+        repository.pullItem("user1", "item9");
+        assertThat(repository.findVersion("user1")).hasValue(1);
+
+        repository.pushItems(Map.of("user1", List.of(item("item1"), item("item2"))), MAX_ITEMS);
+        assertThat(repository.findVersion("user1")).hasValue(2);
+
+        repository.pullItem("user1", "item1");
+        assertThat(repository.findVersion("user1")).hasValue(3);
+        assertThat(repository.findByUserId("user1")).get().extracting(Wishlist::getVersion).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("applyMutations - should apply pushes and pulls in order with one result each")
+    void shouldApplyMutationsInOrder() {
+        repository.pushItem("user1", item("item1"), MAX_ITEMS);
+
+        List<WishlistMutation.Result> results = repository.applyMutations("user1", List.of(
+                new WishlistMutation.Push(item("item2")),
+                new WishlistMutation.Push(item("item3")),
+                new WishlistMutation.Push(item("item4")),
+                new WishlistMutation.Pull("item1"),
+                new WishlistMutation.Push(item("item4")),
+                new WishlistMutation.Pull("item9")), MAX_ITEMS);
+
+        assertThat(results).extracting(WishlistMutation.Result::applied)
+                .containsExactly(true, true, false, true, true, false);
+        assertThat(itemIds(results.get(2).wishlist())).containsExactly("item1", "item2", "item3");
+        assertThat(itemIds(results.get(5).wishlist())).containsExactly("item2", "item3", "item4");
+        assertThat(results.get(5).wishlist().getVersion()).isEqualTo(5);
+        assertThat(repository.findByUserId("user1")).get()
+                .satisfies(stored -> assertThat(itemIds(stored)).containsExactly("item2", "item3", "item4"))
+                .extracting(Wishlist::getVersion).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("applyMutations - should create the wishlist only when a push is among the mutations")
+    void shouldCreateWishlistOnlyForPushes() {
+        List<WishlistMutation.Result> pulls = repository.applyMutations("user1",
+                List.of(new WishlistMutation.Pull("item1")), MAX_ITEMS);
+
+        assertThat(pulls).singleElement().satisfies(result -> {
+            assertThat(result.wishlist()).isNull();
+            assertThat(result.applied()).isFalse();
+        });
+        assertThat(repository.findByUserId("user1")).isEmpty();
+
+        List<WishlistMutation.Result> results = repository.applyMutations("user1", List.of(
+                new WishlistMutation.Pull("item1"),
+                new WishlistMutation.Push(item("item1"))), MAX_ITEMS);
+
+        assertThat(results.get(0).wishlist()).isNull();
+        assertThat(results.get(1).wishlist().getId()).isNotNull();
+        assertThat(results.get(1).wishlist().getId())
+                .isEqualTo(repository.findByUserId("user1").orElseThrow().getId());
+        assertThat(itemIds(results.get(1).wishlist())).containsExactly("item1");
+    }
+
+    protected static WishlistItem item(String itemId) {
+        return WishlistItem.builder().itemId(itemId).name("Product " + itemId).build();
+    }
+
+    private List<String> itemIds(Wishlist wishlist) {
+        return wishlist.getItems().stream().map(WishlistItem::getItemId).toList();
+    }
+}
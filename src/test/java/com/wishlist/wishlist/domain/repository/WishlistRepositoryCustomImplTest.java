@@ -0,0 +1,511 @@
+package com.wishlist.wishlist.domain.repository;
+
+import com.mongodb.ReadPreference;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.result.UpdateResult;
+import com.wishlist.wishlist.domain.model.ItemPage;
+import com.wishlist.wishlist.domain.model.ItemPresence;
+import com.wishlist.wishlist.domain.model.PushedItem;
+import com.wishlist.wishlist.domain.model.PushedItems;
+import com.wishlist.wishlist.domain.model.RemoveItemResult;
+import com.wishlist.wishlist.domain.model.Wishlist;
+import com.wishlist.wishlist.domain.model.WishlistItem;
+import com.wishlist.wishlist.domain.model.WishlistMutation;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WishlistRepositoryCustomImpl - Atomic Operations Tests")
+class WishlistRepositoryCustomImplTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Spy
+    private MongoReadRouting readRouting = MongoReadRouting.primary();
+
+    @InjectMocks
+    private WishlistRepositoryCustomImpl repository;
+
+    @Test
+    @DisplayName("pushItem - should upsert by userId in a single findAndModify returning the new document")
+    void shouldUpsertByUserIdInSingleFindAndModify() {
+        WishlistItem item = WishlistItem.builder().itemId("item001").name("Product").build();
+        Wishlist stored = Wishlist.builder().id("wishlist123").userId("user123").build();
+
+        when(mongoTemplate.findAndModify(any(Query.class), any(UpdateDefinition.class),
+                any(FindAndModifyOptions.class), eq(Wishlist.class))).thenReturn(stored);
+
+        Wishlist result = repository.pushItem("user123", item, 20);
+
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<FindAndModifyOptions> optionsCaptor = ArgumentCaptor.forClass(FindAndModifyOptions.class);
+        verify(mongoTemplate).findAndModify(queryCaptor.capture(), any(UpdateDefinition.class),
+                optionsCaptor.capture(), eq(Wishlist.class));
+
+        assertThat(result).isSameAs(stored);
+        assertThat(queryCaptor.getValue().getQueryObject()).isEqualTo(new Document("userId", "user123"));
+        assertThat(optionsCaptor.getValue().isUpsert()).isTrue();
+        assertThat(optionsCaptor.getValue().isReturnNew()).isTrue();
+    }
+
+    @Test
+    @DisplayName("pushItemUpdate - should guard the push by item absence and limit, with literal user values")
+    void shouldGuardPushByAbsenceAndLimit() {
+        WishlistItem item = WishlistItem.builder().itemId("$item").name("$name").build();
+
+        AggregationUpdate update = WishlistRepositoryCustomImpl.pushItemUpdate(item, 20);
+
+        List<Document> pipeline = update.toPipeline(null);
+        assertThat(pipeline).hasSize(1);
+        String stage = pipeline.get(0).toJson();
+        assertThat(stage).contains("\"$set\"", "\"$cond\"", "\"$concatArrays\"");
+        assertThat(stage).contains("{\"$lt\": [{\"$size\": {\"$ifNull\": [\"$items\", []]}}, 20]}");
+        assertThat(stage).contains("{\"$literal\": \"$item\"}");
+        assertThat(stage).contains("\"version\": {\"$cond\"", "{\"$add\": [{\"$ifNull\": [\"$version\", 0]}, 1]}");
+        assertThat(stage).contains("{\"$literal\": {\"itemId\": \"$item\", \"name\": \"$name\"}}");
+    }
+
+    @Test
+    @DisplayName("pushItemProjected - should run the guarded push projected to the pushed item and the item count")
+    void shouldProjectPushToPushedItemAndCount() {
+        WishlistItem item = WishlistItem.builder().itemId("item001").name("Product").build();
+        when(mongoTemplate.getCollectionName(Wishlist.class)).thenReturn("wishlists");
+        when(mongoTemplate.findAndModify(any(Query.class), any(UpdateDefinition.class),
+                any(FindAndModifyOptions.class), eq(Document.class), eq("wishlists")))
+                .thenReturn(new Document("_id", "wishlist123")
+                        .append("items", List.of(new Document("itemId", "item001").append("name", "Product")))
+                        .append("itemCount", 7));
+
+        PushedItem result = repository.pushItemProjected("user123", item, 20);
+
+        assertThat(result).isEqualTo(new PushedItem("wishlist123", item, 7));
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<FindAndModifyOptions> optionsCaptor = ArgumentCaptor.forClass(FindAndModifyOptions.class);
+        verify(mongoTemplate).findAndModify(queryCaptor.capture(), any(UpdateDefinition.class),
+                optionsCaptor.capture(), eq(Document.class), eq("wishlists"));
+        assertThat(queryCaptor.getValue().getQueryObject()).isEqualTo(new Document("userId", "user123"));
+        assertThat(queryCaptor.getValue().getFieldsObject()).isEqualTo(WishlistRepositoryCustomImpl.pushedItemFields("item001"));
+        assertThat(optionsCaptor.getValue().isUpsert()).isTrue();
+        assertThat(optionsCaptor.getValue().isReturnNew()).isTrue();
+    }
+
+    @Test
+    @DisplayName("pushItemProjected - should report no stored item when the limit kept the item out")
+    void shouldReportNoStoredItemWhenLimitKeptItemOut() {
+        when(mongoTemplate.getCollectionName(Wishlist.class)).thenReturn("wishlists");
+        when(mongoTemplate.findAndModify(any(Query.class), any(UpdateDefinition.class),
+                any(FindAndModifyOptions.class), eq(Document.class), eq("wishlists")))
+                .thenReturn(new Document("_id", "wishlist123").append("items", List.of()).append("itemCount", 20));
+
+        PushedItem result = repository.pushItemProjected("user123",
+                WishlistItem.builder().itemId("item021").name("Product").build(), 20);
+
+        assertThat(result.item()).isNull();
+        assertThat(result.itemCount()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("pushedItemFields - should filter items to the pushed itemId as a literal and count every item")
+    void shouldProjectOnlyPushedItemAndCount() {
+        String fields = WishlistRepositoryCustomImpl.pushedItemFields("$item").toJson();
+
+        assertThat(fields).contains("\"_id\": 1", "\"$filter\"", "{\"$literal\": \"$item\"}");
+        assertThat(fields).contains("\"itemCount\": {\"$size\": {\"$ifNull\": [\"$items\", []]}}");
+    }
+
+    @Test
+    @DisplayName("findItemPage - should read only the window and the item count, routed like the other reads")
+    void shouldReadOnlyWindowAndItemCount() {
+        when(mongoTemplate.getCollectionName(Wishlist.class)).thenReturn("wishlists");
+        when(mongoTemplate.findOne(any(Query.class), eq(Document.class), eq("wishlists")))
+                .thenReturn(new Document("items", List.of(new Document("itemId", "item003").append("name", "Product")))
+                        .append("itemOffset", 2).append("itemCount", 40).append("version", 41L));
+
+        ItemPage page = repository.findItemPage("user123", "item002", 2, 1).orElseThrow();
+
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).findOne(queryCaptor.capture(), eq(Document.class), eq("wishlists"));
+        assertThat(queryCaptor.getValue().getQueryObject()).isEqualTo(new Document("userId", "user123"));
+        assertThat(queryCaptor.getValue().getFieldsObject())
+                .isEqualTo(WishlistRepositoryCustomImpl.itemPageFields("item002", 2, 1));
+        assertThat(page).isEqualTo(new ItemPage(
+                List.of(WishlistItem.builder().itemId("item003").name("Product").build()), 2, 40, 41));
+        assertThat(page.hasMore()).isTrue();
+    }
+
+    @Test
+    @DisplayName("itemPageFields - should slice from the position after the literal cursor item, falling back to the offset")
+    void shouldSliceAfterCursorItem() {
+        String first = WishlistRepositoryCustomImpl.itemPageFields(null, 0, 50).toJson();
+        String next = WishlistRepositoryCustomImpl.itemPageFields("$item", 50, 50).toJson();
+
+        assertThat(first).contains("\"items\": {\"$slice\": [{\"$ifNull\": [\"$items\", []]}, 0, 50]}", "\"itemOffset\": 0");
+        assertThat(next).contains("\"$indexOfArray\"", "{\"$literal\": \"$item\"}", "\"itemCount\": {\"$size\"",
+                "\"version\": {\"$ifNull\": [\"$version\", 0]}");
+        assertThat(next).doesNotContain("\"_id\": 1");
+    }
+
+    @Test
+    @DisplayName("pushItems - should upsert one guarded update per user in one unordered bulk write")
+    void shouldUpsertOneUpdatePerUserInOneBulkWrite() {
+        BulkOperations bulkOps = mock(BulkOperations.class);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Wishlist.class)).thenReturn(bulkOps);
+        when(mongoTemplate.getCollectionName(Wishlist.class)).thenReturn("wishlists");
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq("wishlists"))).thenReturn(List.of(
+                new Document("userId", "user1").append("items", List.of(new Document("itemId", "item001")))));
+        when(mongoTemplate.find(any(Query.class), eq(Wishlist.class))).thenReturn(List.of(
+                wishlist("wishlist1", "user1", 3, "item001", "item002"),
+                wishlist("wishlist2", "user2", 1, "item002")));
+
+        PushedItems pushed = repository.pushItems(itemsByUser(), 20);
+
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(bulkOps, times(2)).upsert(queryCaptor.capture(), any(UpdateDefinition.class));
+        verify(bulkOps).execute();
+        assertThat(queryCaptor.getAllValues()).extracting(Query::getQueryObject).containsExactly(
+                new Document("userId", "user1"), new Document("userId", "user2"));
+
+        assertThat(pushed.failures()).isEmpty();
+        assertThat(pushed.results().get("user1")).extracting(WishlistMutation.Result::applied).containsExactly(false, true);
+        assertThat(pushed.results().get("user1").get(1).wishlist().getVersion()).isEqualTo(3);
+        assertThat(pushed.results().get("user2")).extracting(WishlistMutation.Result::applied).containsExactly(true);
+        assertThat(pushed.results().get("user2").get(0).wishlist().getId()).isEqualTo("wishlist2");
+    }
+
+    @Test
+    @DisplayName("pushItems - should report a user whose update failed and read back only the others")
+    void shouldReportFailedUpdateAndKeepOthers() {
+        BulkOperations bulkOps = mock(BulkOperations.class);
+        BulkOperationException failure = mock(BulkOperationException.class);
+        when(failure.getErrors()).thenReturn(List.of(new BulkWriteError(11000, "E11000 duplicate key error",
+                new BsonDocument(), 1)));
+        when(bulkOps.execute()).thenThrow(failure);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Wishlist.class)).thenReturn(bulkOps);
+        when(mongoTemplate.getCollectionName(Wishlist.class)).thenReturn("wishlists");
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq("wishlists"))).thenReturn(List.of());
+        when(mongoTemplate.find(any(Query.class), eq(Wishlist.class)))
+                .thenReturn(List.of(wishlist("wishlist1", "user1", 2, "item001", "item002")));
+
+        PushedItems pushed = repository.pushItems(itemsByUser(), 20);
+
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(queryCaptor.capture(), eq(Wishlist.class));
+        assertThat(queryCaptor.getValue().getQueryObject().toJson()).contains("\"$in\": [\"user1\"]");
+        assertThat(pushed.results()).containsOnlyKeys("user1");
+        assertThat(pushed.results().get("user1")).extracting(WishlistMutation.Result::applied).containsExactly(true, true);
+        assertThat(pushed.failures()).containsOnlyKeys("user2");
+        assertThat(pushed.failures().get("user2")).isInstanceOf(DuplicateKeyException.class);
+    }
+
+    @Test
+    @DisplayName("pushItemsUpdate - should append absent items up to the remaining room, with literal user values")
+    void shouldAppendAbsentItemsUpToRemainingRoom() {
+        List<WishlistItem> items = List.of(
+                WishlistItem.builder().itemId("$item1").name("One").build(),
+                WishlistItem.builder().itemId("item2").name("Two").build());
+
+        AggregationUpdate update = WishlistRepositoryCustomImpl.pushItemsUpdate(items, 20);
+
+        List<Document> pipeline = update.toPipeline(null);
+        assertThat(pipeline).hasSize(1);
+        String stage = pipeline.get(0).toJson();
+        assertThat(stage).contains("\"$set\"", "\"$concatArrays\"", "\"$filter\"", "\"$slice\"");
+        assertThat(stage).contains("{\"$subtract\": [20, {\"$size\": {\"$ifNull\": [\"$items\", []]}}]}");
+        assertThat(stage).contains("{\"$literal\": [{\"itemId\": \"$item1\", \"name\": \"One\"}, "
+                + "{\"itemId\": \"item2\", \"name\": \"Two\"}]}");
+        assertThat(stage).contains("\"version\": {\"$add\": [{\"$ifNull\": [\"$version\", 0]}, {\"$size\": {\"$cond\"");
+    }
+
+    @Test
+    @DisplayName("applyMutations - should run every mutation in one findAndModify and replay them on the previous document")
+    void shouldApplyMutationsInSingleFindAndModify() {
+        Wishlist before = Wishlist.builder().id("wishlist123").userId("user123").version(4).build();
+        before.getItems().add(WishlistItem.builder().itemId("item001").name("Product").build());
+        when(mongoTemplate.findAndModify(any(Query.class), any(UpdateDefinition.class),
+                any(FindAndModifyOptions.class), eq(Wishlist.class))).thenReturn(before);
+
+        List<WishlistMutation.Result> results = repository.applyMutations("user123", List.of(
+                new WishlistMutation.Pull("item001"),
+                new WishlistMutation.Push(WishlistItem.builder().itemId("item002").name("Other").build())), 20);
+
+        ArgumentCaptor<FindAndModifyOptions> optionsCaptor = ArgumentCaptor.forClass(FindAndModifyOptions.class);
+        verify(mongoTemplate).findAndModify(any(Query.class), any(UpdateDefinition.class),
+                optionsCaptor.capture(), eq(Wishlist.class));
+        assertThat(optionsCaptor.getValue().isUpsert()).isTrue();
+        assertThat(optionsCaptor.getValue().isReturnNew()).isFalse();
+        verify(mongoTemplate, never()).findOne(any(Query.class), eq(Wishlist.class));
+
+        assertThat(results).extracting(WishlistMutation.Result::applied).containsExactly(true, true);
+        assertThat(results.get(1).wishlist().getId()).isEqualTo("wishlist123");
+        assertThat(results.get(1).wishlist().getVersion()).isEqualTo(6);
+        assertThat(before.getItems().containsItem("item001")).isTrue();
+    }
+
+    @Test
+    @DisplayName("applyMutations - should not upsert when only pulls are queued")
+    void shouldNotUpsertForPullsOnly() {
+        List<WishlistMutation.Result> results = repository.applyMutations("user123",
+                List.of(new WishlistMutation.Pull("item001")), 20);
+
+        ArgumentCaptor<FindAndModifyOptions> optionsCaptor = ArgumentCaptor.forClass(FindAndModifyOptions.class);
+        verify(mongoTemplate).findAndModify(any(Query.class), any(UpdateDefinition.class),
+                optionsCaptor.capture(), eq(Wishlist.class));
+        assertThat(optionsCaptor.getValue().isUpsert()).isFalse();
+        assertThat(results).singleElement().extracting(WishlistMutation.Result::wishlist).isNull();
+    }
+
+    @Test
+    @DisplayName("mutationsUpdate - should chain one $set stage per mutation, with literal user values")
+    void shouldChainOneStagePerMutation() {
+        AggregationUpdate update = WishlistRepositoryCustomImpl.mutationsUpdate(List.of(
+                new WishlistMutation.Push(WishlistItem.builder().itemId("item001").name("Product").build()),
+                new WishlistMutation.Pull("$item")), 20);
+
+        List<Document> pipeline = update.toPipeline(null);
+        assertThat(pipeline).hasSize(2);
+        assertThat(pipeline.get(0).toJson()).contains("\"$concatArrays\"", "{\"$lt\": [{\"$size\"");
+        String pull = pipeline.get(1).toJson();
+        assertThat(pull).contains("\"$filter\"", "{\"$ne\": [\"$$this.itemId\", {\"$literal\": \"$item\"}]}");
+        assertThat(pull).contains("\"version\": {\"$cond\": [{\"$in\": [{\"$literal\": \"$item\"}");
+    }
+
+    @Test
+    @DisplayName("pullItem - should pull the item and increment the version in one update matched on the item")
+    void shouldReportRemovalWhenModified() {
+        when(mongoTemplate.updateFirst(any(Query.class), any(UpdateDefinition.class), eq(Wishlist.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+        assertThat(repository.pullItem("user123", "item001")).isEqualTo(RemoveItemResult.REMOVED);
+
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<UpdateDefinition> updateCaptor = ArgumentCaptor.forClass(UpdateDefinition.class);
+        verify(mongoTemplate).updateFirst(queryCaptor.capture(), updateCaptor.capture(), eq(Wishlist.class));
+        assertThat(queryCaptor.getValue().getQueryObject())
+                .isEqualTo(new Document("userId", "user123").append("items.itemId", "item001"));
+        assertThat(updateCaptor.getValue().getUpdateObject())
+                .isEqualTo(new Document("$pull", new Document("items", new Document("itemId", "item001")))
+                        .append("$inc", new Document("version", 1)));
+        verify(mongoTemplate, never()).exists(any(Query.class), eq(Wishlist.class));
+    }
+
+    @Test
+    @DisplayName("pullItem - should report missing item when nothing was removed but the wishlist exists")
+    void shouldReportMissingItemWhenNotModified() {
+        when(mongoTemplate.updateFirst(any(Query.class), any(UpdateDefinition.class), eq(Wishlist.class)))
+                .thenReturn(UpdateResult.acknowledged(0, 0L, null));
+        when(mongoTemplate.exists(any(Query.class), eq(Wishlist.class))).thenReturn(true);
+
+        assertThat(repository.pullItem("user123", "item001")).isEqualTo(RemoveItemResult.ITEM_NOT_FOUND);
+
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).exists(queryCaptor.capture(), eq(Wishlist.class));
+        assertThat(queryCaptor.getValue().getQueryObject()).isEqualTo(new Document("userId", "user123"));
+    }
+
+    @Test
+    @DisplayName("pullItem - should report missing wishlist when nothing was removed and the wishlist does not exist")
+    void shouldReportMissingWishlistWhenNothingMatched() {
+        when(mongoTemplate.updateFirst(any(Query.class), any(UpdateDefinition.class), eq(Wishlist.class)))
+                .thenReturn(UpdateResult.acknowledged(0, 0L, null));
+        when(mongoTemplate.exists(any(Query.class), eq(Wishlist.class))).thenReturn(false);
+
+        assertThat(repository.pullItem("user123", "item001")).isEqualTo(RemoveItemResult.WISHLIST_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("findVersion - should read only the version field of the user's wishlist")
+    void shouldReadOnlyVersion() {
+        when(mongoTemplate.getCollectionName(Wishlist.class)).thenReturn("wishlists");
+        when(mongoTemplate.findOne(any(Query.class), eq(Document.class), eq("wishlists")))
+                .thenReturn(new Document("version", 7L));
+
+        assertThat(repository.findVersion("user123")).hasValue(7L);
+
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).findOne(queryCaptor.capture(), eq(Document.class), eq("wishlists"));
+        assertThat(queryCaptor.getValue().getQueryObject()).isEqualTo(new Document("userId", "user123"));
+        assertThat(queryCaptor.getValue().getFieldsObject()).isEqualTo(new Document("version", 1).append("_id", 0));
+    }
+
+    @Test
+    @DisplayName("containsItem - should route the read use case queries by the read preference and keep cached reads and writes on the primary")
+    void shouldRouteReadQueriesByReadPreference() {
+        ReadPreference secondaryPreferred = ReadPreference.secondaryPreferred(90, TimeUnit.SECONDS);
+        WishlistRepositoryCustomImpl routed = new WishlistRepositoryCustomImpl(mongoTemplate,
+                new MongoReadRouting(secondaryPreferred, false, Duration.ofSeconds(30)));
+        Wishlist stored = Wishlist.builder().id("wishlist123").userId("user123").build();
+        when(mongoTemplate.findOne(any(Query.class), eq(Wishlist.class))).thenReturn(stored);
+        when(mongoTemplate.exists(any(Query.class), eq(Wishlist.class))).thenReturn(true);
+
+        assertThat(routed.findByUserId("user123")).containsSame(stored);
+        assertThat(routed.containsItem("user123", "item001")).isTrue();
+        routed.pushItem("user123", WishlistItem.builder().itemId("item001").name("Product").build(), 20);
+
+        ArgumentCaptor<Query> cachedCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).findOne(cachedCaptor.capture(), eq(Wishlist.class));
+        assertThat(cachedCaptor.getValue().getReadPreference()).isEqualTo(ReadPreference.primary());
+        assertThat(cachedCaptor.getValue().getQueryObject()).isEqualTo(new Document("userId", "user123"));
+        ArgumentCaptor<Query> readCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).exists(readCaptor.capture(), eq(Wishlist.class));
+        assertThat(readCaptor.getValue().getReadPreference()).isEqualTo(secondaryPreferred);
+
+        ArgumentCaptor<Query> writeCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).findAndModify(writeCaptor.capture(), any(UpdateDefinition.class),
+                any(FindAndModifyOptions.class), eq(Wishlist.class));
+        assertThat(writeCaptor.getValue().hasReadPreference()).isFalse();
+    }
+
+    @Test
+    @DisplayName("findByUserId and findVersion - should follow the read preference only with read-your-writes on")
+    void shouldRouteCachedReadsOnlyWithReadYourWrites() {
+        ReadPreference secondaryPreferred = ReadPreference.secondaryPreferred(90, TimeUnit.SECONDS);
+        WishlistRepositoryCustomImpl routed = new WishlistRepositoryCustomImpl(mongoTemplate,
+                new MongoReadRouting(secondaryPreferred, true, Duration.ofSeconds(30)));
+        when(mongoTemplate.getCollectionName(Wishlist.class)).thenReturn("wishlists");
+
+        routed.findByUserId("user123");
+        routed.findVersion("user123");
+
+        ArgumentCaptor<Query> wishlistCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).findOne(wishlistCaptor.capture(), eq(Wishlist.class));
+        ArgumentCaptor<Query> versionCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).findOne(versionCaptor.capture(), eq(Document.class), eq("wishlists"));
+        assertThat(wishlistCaptor.getValue().getReadPreference()).isEqualTo(secondaryPreferred);
+        assertThat(versionCaptor.getValue().getReadPreference()).isEqualTo(secondaryPreferred);
+    }
+
+    @Test
+    @DisplayName("findVersion - should read a wishlist without a version as 0 and a missing wishlist as empty")
+    void shouldReadMissingVersionAsZero() {
+        when(mongoTemplate.getCollectionName(Wishlist.class)).thenReturn("wishlists");
+        when(mongoTemplate.findOne(any(Query.class), eq(Document.class), eq("wishlists")))
+                .thenReturn(new Document(), (Document) null);
+
+        assertThat(repository.findVersion("user123")).hasValue(0L);
+        assertThat(repository.findVersion("user123")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("containsItem - should answer with an exists query on userId and items.itemId")
+    void shouldAnswerWithExistsQuery() {
+        when(mongoTemplate.exists(any(Query.class), eq(Wishlist.class))).thenReturn(true);
+
+        assertThat(repository.containsItem("user123", "item001")).isTrue();
+
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).exists(queryCaptor.capture(), eq(Wishlist.class));
+        assertThat(queryCaptor.getValue().getQueryObject())
+                .isEqualTo(new Document("userId", "user123").append("items.itemId", "item001"));
+    }
+
+    @Test
+    @DisplayName("findItemPresence - should read whether the item is present and the version with one projected query")
+    void shouldReadPresenceAndVersionWithOneQuery() {
+        when(mongoTemplate.getCollectionName(Wishlist.class)).thenReturn("wishlists");
+        when(mongoTemplate.findOne(any(Query.class), eq(Document.class), eq("wishlists")))
+                .thenReturn(new Document("present", true).append("version", 6L), (Document) null);
+
+        assertThat(repository.findItemPresence("user123", "$item")).contains(new ItemPresence(true, 6));
+        assertThat(repository.findItemPresence("user456", "$item")).isEmpty();
+
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate, times(2)).findOne(queryCaptor.capture(), eq(Document.class), eq("wishlists"));
+        assertThat(queryCaptor.getAllValues().getFirst().getQueryObject()).isEqualTo(new Document("userId", "user123"));
+        assertThat(queryCaptor.getAllValues().getFirst().getFieldsObject())
+                .isEqualTo(WishlistRepositoryCustomImpl.itemPresenceFields("$item"));
+        assertThat(WishlistRepositoryCustomImpl.itemPresenceFields("$item").toJson())
+                .contains("{\"$literal\": \"$item\"}", "\"version\": {\"$ifNull\": [\"$version\", 0]}");
+    }
+
+    @Test
+    @DisplayName("findItemIds - should read every user's itemIds with one $in query projected to items.itemId")
+    void shouldReadItemIdsWithOneProjectedInQuery() {
+        when(mongoTemplate.getCollectionName(Wishlist.class)).thenReturn("wishlists");
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq("wishlists"))).thenReturn(List.of(
+                new Document("userId", "user1").append("items", List.of(
+                        new Document("itemId", "item001"), new Document("itemId", "item002"))),
+                new Document("userId", "user2")));
+
+        Map<String, Set<String>> itemIds = repository.findItemIds(List.of("user1", "user2", "user3"));
+
+        assertThat(itemIds).containsOnlyKeys("user1", "user2");
+        assertThat(itemIds.get("user1")).containsExactlyInAnyOrder("item001", "item002");
+        assertThat(itemIds.get("user2")).isEmpty();
+
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(queryCaptor.capture(), eq(Document.class), eq("wishlists"));
+        assertThat(queryCaptor.getValue().getQueryObject()).isEqualTo(new Document("userId",
+                new Document("$in", List.of("user1", "user2", "user3"))));
+        assertThat(queryCaptor.getValue().getFieldsObject())
+                .isEqualTo(new Document("userId", 1).append("items.itemId", 1).append("_id", 0));
+    }
+
+    @Test
+    @DisplayName("streamUserIds - should stream only the userId field of every wishlist")
+    void shouldStreamOnlyUserIds() {
+        when(mongoTemplate.getCollectionName(Wishlist.class)).thenReturn("wishlists");
+        when(mongoTemplate.stream(any(Query.class), eq(Document.class), eq("wishlists")))
+                .thenReturn(Stream.of(new Document("userId", "user1"), new Document(), new Document("userId", "user2")));
+
+        try (Stream<String> userIds = repository.streamUserIds()) {
+            assertThat(userIds).containsExactly("user1", "user2");
+        }
+
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).stream(queryCaptor.capture(), eq(Document.class), eq("wishlists"));
+        assertThat(queryCaptor.getValue().getQueryObject()).isEmpty();
+        assertThat(queryCaptor.getValue().getFieldsObject())
+                .isEqualTo(new Document("userId", 1).append("_id", 0));
+    }
+
+    private static Map<String, List<WishlistItem>> itemsByUser() {
+        Map<String, List<WishlistItem>> itemsByUser = new LinkedHashMap<>();
+        itemsByUser.put("user1", List.of(
+                WishlistItem.builder().itemId("item001").name("Product").build(),
+                WishlistItem.builder().itemId("item002").name("Product").build()));
+        itemsByUser.put("user2", List.of(WishlistItem.builder().itemId("item002").name("Product").build()));
+        return itemsByUser;
+    }
+
+    private static Wishlist wishlist(String id, String userId, long version, String... itemIds) {
+        Wishlist wishlist = Wishlist.builder().id(id).userId(userId).version(version).build();
+        for (String itemId : itemIds) {
+            wishlist.getItems().add(WishlistItem.builder().itemId(itemId).name("Product").build());
+        }
+        return wishlist;
+    }
+}
@@ -0,0 +1,86 @@
+package com.wishlist.wishlist.infra.config;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.MongoCompressor;
+import com.mongodb.ReadPreference;
+import com.mongodb.TaggableReadPreference;
+import com.mongodb.connection.ConnectionPoolSettings;
+import com.wishlist.wishlist.infra.metrics.MongoPoolMetricsListener;
+import io.micrometer.core.instrument.binder.mongodb.MongoMetricsCommandListener;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("MongoConfig - Client Settings Tests")
+class MongoConfigTest {
+
+    private static final String URI = "mongodb://localhost:27017/wishlist?maxPoolSize=5&compressors=zlib&appName=wishlist";
+
+    @Test
+    @DisplayName("clientSettings - should apply pool bounds and wait time on top of the connection string")
+    void shouldApplyPoolSettingsOnTopOfConnectionString() {
+        MongoClientSettings settings = MongoConfig.clientSettings(URI, properties(List.of(), null),
+                new SimpleMeterRegistry(), "blocking");
+
+        ConnectionPoolSettings pool = settings.getConnectionPoolSettings();
+        assertThat(pool.getMaxSize()).isEqualTo(200);
+        assertThat(pool.getMinSize()).isEqualTo(10);
+        assertThat(pool.getMaxConnecting()).isEqualTo(8);
+        assertThat(pool.getMaxWaitTime(TimeUnit.MILLISECONDS)).isEqualTo(5_000);
+        assertThat(pool.getMaxConnectionIdleTime(TimeUnit.MILLISECONDS)).isEqualTo(60_000);
+        assertThat(settings.getApplicationName()).isEqualTo("wishlist");
+        assertThat(settings.getCompressorList()).extracting(MongoCompressor::getName).containsExactly("zlib");
+        assertThat(settings.getTimeout(TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    @DisplayName("clientSettings - should apply timeouts, compressors in order and the metrics listeners")
+    void shouldApplyTimeoutsCompressorsAndListeners() {
+        MongoClientSettings settings = MongoConfig.clientSettings(URI,
+                properties(List.of("zstd", " Snappy"), Duration.ofMillis(500)), new SimpleMeterRegistry(), "blocking");
+
+        assertThat(settings.getSocketSettings().getConnectTimeout(TimeUnit.MILLISECONDS)).isEqualTo(2_000);
+        assertThat(settings.getClusterSettings().getServerSelectionTimeout(TimeUnit.MILLISECONDS)).isEqualTo(3_000);
+        assertThat(settings.getTimeout(TimeUnit.MILLISECONDS)).isEqualTo(500L);
+        assertThat(settings.getCompressorList()).extracting(MongoCompressor::getName).containsExactly("zstd", "snappy");
+        assertThat(settings.getConnectionPoolSettings().getConnectionPoolListeners())
+                .hasAtLeastOneElementOfType(MongoPoolMetricsListener.class);
+        assertThat(settings.getCommandListeners()).hasAtLeastOneElementOfType(MongoMetricsCommandListener.class);
+    }
+
+    @Test
+    @DisplayName("compressors - should reject an unknown compressor name")
+    void shouldRejectUnknownCompressor() {
+        assertThatThrownBy(() -> MongoConfig.compressors(List.of("zstd", "lz4")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("lz4");
+    }
+
+    @Test
+    @DisplayName("readPreference - should bound secondary reads by max staleness and take none for the primary")
+    void shouldBoundSecondaryReadsByMaxStaleness() {
+        ReadPreference secondaryPreferred = MongoConfig.readPreference("secondaryPreferred", Duration.ofMinutes(2));
+
+        assertThat(secondaryPreferred.getName()).isEqualTo("secondaryPreferred");
+        assertThat(((TaggableReadPreference) secondaryPreferred).getMaxStaleness(TimeUnit.SECONDS)).isEqualTo(120);
+        assertThat(MongoConfig.readPreference("primary", Duration.ofMinutes(2))).isEqualTo(ReadPreference.primary());
+        assertThatThrownBy(() -> MongoConfig.readPreference("secondaryPreferred", Duration.ofSeconds(10)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("max-staleness");
+    }
+
+    private static MongoClientProperties properties(List<String> compressors, Duration operationTimeout) {
+        return new MongoClientProperties(
+                new MongoClientProperties.Pool(200, 10, 8, Duration.ofSeconds(5), Duration.ofMinutes(1)),
+                new MongoClientProperties.Timeouts(Duration.ofSeconds(2), Duration.ofSeconds(3), operationTimeout),
+                compressors,
+                new MongoClientProperties.Reads("secondaryPreferred", Duration.ofSeconds(90), false, Duration.ofSeconds(30)));
+    }
+}
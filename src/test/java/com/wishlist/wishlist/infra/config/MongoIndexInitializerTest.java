@@ -0,0 +1,114 @@
+package com.wishlist.wishlist.infra.config;
+
+import com.wishlist.wishlist.domain.model.Wishlist;
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.util.List;
+import java.util.stream.StreamSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MongoIndexInitializer - Index Bootstrap Tests")
+class MongoIndexInitializerTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Test
+    @DisplayName("Wishlist mapping should declare unique userId, multikey items.itemId and compound indexes")
+    void shouldDeclareWishlistIndexes() {
+        MongoPersistentEntityIndexResolver resolver = new MongoPersistentEntityIndexResolver(new MongoMappingContext());
+
+        List<? extends IndexDefinition> indexes = StreamSupport
+                .stream(resolver.resolveIndexFor(Wishlist.class).spliterator(), false)
+                .toList();
+
+        assertThat(indexes).extracting(IndexDefinition::getIndexKeys).containsExactlyInAnyOrder(
+                new Document("userId", 1),
+                new Document("items.itemId", 1),
+                new Document("userId", 1).append("items.itemId", 1));
+        assertThat(indexes)
+                .filteredOn(index -> index.getIndexKeys().equals(new Document("userId", 1)))
+                .singleElement()
+                .satisfies(index -> assertThat(index.getIndexOptions().get("unique")).isEqualTo(true));
+    }
+
+    @Test
+    @DisplayName("usesCollectionScan - should detect COLLSCAN stages nested anywhere in the winning plan")
+    void shouldDetectNestedCollectionScan() {
+        Document indexed = new Document("stage", "FETCH")
+                .append("inputStage", new Document("stage", "IXSCAN").append("indexName", "userId"));
+        Document nestedScan = new Document("queryPlan", new Document("stage", "OR")
+                .append("inputStages", List.of(
+                        new Document("stage", "IXSCAN"),
+                        new Document("stage", "COLLSCAN"))));
+
+        assertThat(MongoIndexInitializer.usesCollectionScan(indexed)).isFalse();
+        assertThat(MongoIndexInitializer.usesCollectionScan(nestedScan)).isTrue();
+    }
+
+    @Test
+    @DisplayName("inBackground - should keep keys and options and request a background build")
+    void shouldRequestBackgroundBuild() {
+        IndexDefinition index = new Index()
+                .on("userId", Sort.Direction.ASC)
+                .unique()
+                .named("userId");
+
+        IndexDefinition background = MongoIndexInitializer.inBackground(index);
+
+        assertThat(background.getIndexKeys()).isEqualTo(index.getIndexKeys());
+        assertThat(background.getIndexOptions())
+                .containsEntry("unique", true)
+                .containsEntry("name", "userId")
+                .containsEntry("background", true);
+    }
+
+    @Test
+    @DisplayName("ensureIndexes - should only warn when Mongo is unreachable in warn mode")
+    void shouldWarnWhenMongoUnreachableInWarnMode() {
+        when(mongoTemplate.getCollectionName(Wishlist.class)).thenReturn("wishlists");
+        when(mongoTemplate.getConverter()).thenThrow(new DataAccessResourceFailureException("unreachable"));
+
+        MongoIndexInitializer initializer = new MongoIndexInitializer(
+                mongoTemplate, MongoIndexInitializer.FailureMode.WARN, true, 100_000);
+
+        assertThatCode(initializer::ensureIndexes).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("ensureIndexes - should fail startup when Mongo is unreachable in fail mode")
+    void shouldFailWhenMongoUnreachableInFailMode() {
+        when(mongoTemplate.getCollectionName(Wishlist.class)).thenReturn("wishlists");
+        when(mongoTemplate.estimatedCount(anyString())).thenThrow(new DataAccessResourceFailureException("unreachable"));
+        when(mongoTemplate.getConverter()).thenReturn(new MappingMongoConverter(
+                NoOpDbRefResolver.INSTANCE, new MongoMappingContext()));
+
+        MongoIndexInitializer initializer = new MongoIndexInitializer(
+                mongoTemplate, MongoIndexInitializer.FailureMode.FAIL, true, 100_000);
+
+        assertThatThrownBy(initializer::ensureIndexes)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("wishlists")
+                .hasMessageContaining("unreachable");
+    }
+}
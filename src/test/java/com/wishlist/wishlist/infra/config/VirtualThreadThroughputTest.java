@@ -0,0 +1,130 @@
+package com.wishlist.wishlist.infra.config;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.wishlist.wishlist.domain.model.Wishlist;
+import com.wishlist.wishlist.domain.model.WishlistItem;
+import com.wishlist.wishlist.domain.repository.MongoReadRouting;
+import com.wishlist.wishlist.domain.repository.WishlistRepositoryCustomImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfEnvironmentVariable(named = "WISHLIST_LATENCY_MONGODB_URI", matches = ".+")
+@DisplayName("Virtual Threads - Throughput Comparison Against a Bounded Platform Thread Pool")
+class VirtualThreadThroughputTest {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadThroughputTest.class);
+    private static final String DATABASE = "wishlist_virtual_thread_test";
+    private static final int USERS = 2_000;
+    private static final int ITEMS_PER_USER = 20;
+    private static final int PLATFORM_THREADS = 200;
+    private static final int IN_FLIGHT = 10_000;
+
+    private MongoClient mongoClient;
+    private MongoTemplate mongoTemplate;
+    private WishlistRepositoryCustomImpl repository;
+
+    @BeforeAll
+    void setUp() {
+        MongoClientProperties properties = new MongoClientProperties(
+                new MongoClientProperties.Pool(200, 0, 8, Duration.ofSeconds(30), Duration.ZERO),
+                new MongoClientProperties.Timeouts(Duration.ofSeconds(10), Duration.ofSeconds(30), null),
+                List.of(),
+                new MongoClientProperties.Reads("primary", Duration.ofSeconds(90), false, Duration.ofSeconds(30)));
+        mongoClient = MongoClients.create(MongoConfig.clientSettings(
+                System.getenv("WISHLIST_LATENCY_MONGODB_URI"), properties, new SimpleMeterRegistry(), "blocking"));
+        mongoTemplate = new MongoTemplate(mongoClient, DATABASE);
+        mongoTemplate.dropCollection(Wishlist.class);
+
+        List<Wishlist> wishlists = new ArrayList<>(USERS);
+        for (int u = 0; u < USERS; u++) {
+            Wishlist wishlist = Wishlist.builder().userId("user" + u).build();
+            for (int i = 0; i < ITEMS_PER_USER; i++) {
+                wishlist.getItems().add(WishlistItem.builder().itemId("item" + i).name("Item " + i).build());
+            }
+            wishlists.add(wishlist);
+        }
+        mongoTemplate.insertAll(wishlists);
+        repository = new WishlistRepositoryCustomImpl(mongoTemplate, MongoReadRouting.primary());
+    }
+
+    @AfterAll
+    void tearDown() {
+        mongoTemplate.getDb().drop();
+        mongoClient.close();
+    }
+
+    @Test
+    @DisplayName("virtual threads should serve a burst of in-flight requests at least as fast as 200 platform threads")
+    void virtualThreadsShouldServeBurstAtLeastAsFastAsPlatformPool() throws Exception {
+        run(() -> Executors.newFixedThreadPool(PLATFORM_THREADS));
+        run(Executors::newVirtualThreadPerTaskExecutor);
+
+        Result platform = run(() -> Executors.newFixedThreadPool(PLATFORM_THREADS));
+        Result virtual = run(Executors::newVirtualThreadPerTaskExecutor);
+
+        log.info("burst of {} requests - platform({}): {} req/s, p99 {} ms, peak threads {} | "
+                        + "virtual: {} req/s, p99 {} ms, peak threads {}",
+                IN_FLIGHT, PLATFORM_THREADS, platform.throughput(), platform.p99Millis(), platform.peakThreads(),
+                virtual.throughput(), virtual.p99Millis(), virtual.peakThreads());
+
+        assertThat(virtual.throughput()).isGreaterThanOrEqualTo(platform.throughput() * 0.9);
+    }
+
+    // Latency is measured from submission, so requests queued behind a busy platform pool count their wait.
+    private Result run(Supplier<ExecutorService> executors) throws Exception {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        threads.resetPeakThreadCount();
+        long[] nanos = new long[IN_FLIGHT];
+        List<Future<?>> futures = new ArrayList<>(IN_FLIGHT);
+
+        long start = System.nanoTime();
+        try (ExecutorService executor = executors.get()) {
+            for (int r = 0; r < IN_FLIGHT; r++) {
+                int request = r;
+                long submitted = System.nanoTime();
+                futures.add(executor.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    repository.containsItem("user" + random.nextInt(USERS), "item" + random.nextInt(ITEMS_PER_USER));
+                    nanos[request] = System.nanoTime() - submitted;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        Arrays.sort(nanos);
+        return new Result(
+                IN_FLIGHT * 1_000_000_000L / elapsed,
+                nanos[(int) Math.ceil(0.99 * nanos.length) - 1] / 1_000_000,
+                threads.getPeakThreadCount());
+    }
+
+    private record Result(long throughput, long p99Millis, int peakThreads) {
+    }
+}
@@ -0,0 +1,150 @@
+package com.wishlist.wishlist.infra.controller;
+
+import com.wishlist.wishlist.application.dto.*;
+import com.wishlist.wishlist.application.usecase.reactive.ReactiveAddItemUseCase;
+import com.wishlist.wishlist.application.usecase.reactive.ReactiveGetWishlistItemsUseCase;
+import com.wishlist.wishlist.application.usecase.reactive.ReactiveItemExistsInWishlistUseCase;
+import com.wishlist.wishlist.application.usecase.reactive.ReactiveRemoveItemUseCase;
+import com.wishlist.wishlist.domain.exception.WishlistNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactiveWishlistController - REST API Tests")
+class ReactiveWishlistControllerTest {
+
+    @Mock
+    private ReactiveAddItemUseCase addItemUseCase;
+
+    @Mock
+    private ReactiveRemoveItemUseCase removeItemUseCase;
+
+    @Mock
+    private ReactiveGetWishlistItemsUseCase getWishlistItemsUseCase;
+
+    @Mock
+    private ReactiveItemExistsInWishlistUseCase itemExistsInWishlistUseCase;
+
+    @InjectMocks
+    private ReactiveWishlistController wishlistController;
+
+    @Test
+    @DisplayName("POST /wishlist/item - should emit 201 Created when item is added successfully")
+    void shouldEmit201WhenItemAddedSuccessfully() {
+        AddItemOutput output = AddItemOutput.builder()
+                .wishlistId("wishlist123")
+                .itemId("item001")
+                .name("Product Name")
+                .build();
+        when(addItemUseCase.execute(any(AddItemInput.class))).thenReturn(Mono.just(output));
+
+        StepVerifier.create(wishlistController.addItem(new AddItemInput()))
+                .assertNext(response -> {
+                    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+                    assertThat(response.getBody()).isEqualTo(output);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("DELETE /wishlist/{userId}/items/{itemId} - should emit 204 No Content when item is removed")
+    void shouldEmit204WhenItemRemoved() {
+        when(removeItemUseCase.execute(any(RemoveItemInput.class))).thenReturn(Mono.empty());
+
+        StepVerifier.create(wishlistController.removeItem("user123", "item001"))
+                .assertNext(response -> {
+                    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+                    assertThat(response.getBody()).isNull();
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("DELETE /wishlist/{userId}/items/{itemId} - should propagate WishlistNotFoundException to the handler")
+    void shouldPropagateWishlistNotFound() {
+        when(removeItemUseCase.execute(any(RemoveItemInput.class)))
+                .thenReturn(Mono.error(new WishlistNotFoundException("user123")));
+
+        StepVerifier.create(wishlistController.removeItem("user123", "item001"))
+                .expectError(WishlistNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("GET /wishlist/{userId}/items - should emit 200 OK with items list")
+    void shouldEmit200WithItemsList() {
+        GetWishlistItemsOutput output = new GetWishlistItemsOutput(List.of(GetWishlistItemsOutput.Item.builder()
+                .itemId("item001")
+                .name("Product 1")
+                .build()));
+        when(getWishlistItemsUseCase.execute(any(GetWishlistItemsInput.class))).thenReturn(Mono.just(output));
+
+        StepVerifier.create(wishlistController.getItems("user123", null, null, null))
+                .assertNext(response -> {
+                    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+                    assertThat(response.getBody().getItems()).hasSize(1);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("GET /wishlist/{userId}/items - should pass the cursor and limit and tag the page with its version")
+    void shouldEmitPageTaggedWithVersion() {
+        GetWishlistItemsOutput output = new GetWishlistItemsOutput(List.of(GetWishlistItemsOutput.Item.builder()
+                .itemId("item002")
+                .name("Product 2")
+                .build()), "next", 4);
+        when(getWishlistItemsUseCase.execute(new GetWishlistItemsInput("user123", "cursor", 1)))
+                .thenReturn(Mono.just(output));
+
+        StepVerifier.create(wishlistController.getItems("user123", "cursor", 1, "\"3\""))
+                .assertNext(response -> {
+                    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+                    assertThat(response.getHeaders().getETag()).isEqualTo("\"4\"");
+                    assertThat(response.getBody().getNextCursor()).isEqualTo("next");
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("GET /wishlist/{userId}/items - should emit 304 without a body when the version matches")
+    void shouldEmit304WhenVersionMatches() {
+        when(getWishlistItemsUseCase.execute(any(GetWishlistItemsInput.class)))
+                .thenReturn(Mono.just(new GetWishlistItemsOutput(List.of(), null, 4)));
+
+        StepVerifier.create(wishlistController.getItems("user123", null, null, "W/\"4\""))
+                .assertNext(response -> {
+                    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+                    assertThat(response.getHeaders().getETag()).isEqualTo("\"4\"");
+                    assertThat(response.getBody()).isNull();
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("GET /wishlist/{userId}/items/{itemId} - should emit 200 OK with exists flag")
+    void shouldEmit200WithExistsFlag() {
+        when(itemExistsInWishlistUseCase.execute(any(ContainsItemInput.class)))
+                .thenReturn(Mono.just(new ContainsItemOutput(true)));
+
+        StepVerifier.create(wishlistController.contains("user123", "item001"))
+                .assertNext(response -> {
+                    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+                    assertThat(response.getBody().isExists()).isTrue();
+                })
+                .verifyComplete();
+    }
+}
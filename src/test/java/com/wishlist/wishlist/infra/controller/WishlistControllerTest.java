@@ -2,8 +2,11 @@ package com.wishlist.wishlist.infra.controller;
 
 import com.wishlist.wishlist.application.dto.*;
 import com.wishlist.wishlist.application.usecase.AddItemUseCase;
+import com.wishlist.wishlist.application.usecase.AddItemsUseCase;
 import com.wishlist.wishlist.application.usecase.GetWishlistItemsUseCase;
+import com.wishlist.wishlist.application.usecase.GetWishlistVersionUseCase;
 import com.wishlist.wishlist.application.usecase.ItemExistsInWishlistUseCase;
+import com.wishlist.wishlist.application.usecase.ItemsExistInWishlistUseCase;
 import com.wishlist.wishlist.application.usecase.RemoveItemUseCase;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,9 +19,12 @@ import org.springframework.http.ResponseEntity;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,6 +34,9 @@ class WishlistControllerTest {
     @Mock
     private AddItemUseCase addItemUseCase;
 
+    @Mock
+    private AddItemsUseCase addItemsUseCase;
+
     @Mock
     private RemoveItemUseCase removeItemUseCase;
 
@@ -37,6 +46,12 @@ class WishlistControllerTest {
     @Mock
     private ItemExistsInWishlistUseCase itemExistsInWishlistUseCase;
 
+    @Mock
+    private ItemsExistInWishlistUseCase itemsExistInWishlistUseCase;
+
+    @Mock
+    private GetWishlistVersionUseCase getWishlistVersionUseCase;
+
     @InjectMocks
     private WishlistController wishlistController;
 
@@ -65,6 +80,32 @@ class WishlistControllerTest {
         assertThat(response.getBody().getName()).isEqualTo("Product Name");
     }
 
+    @Test
+    @DisplayName("POST /wishlist/item/batch - should return 200 OK with a result per item")
+    void shouldReturn200WithResultPerItem() {
+        AddItemInput item = new AddItemInput();
+        item.setUserId("user123");
+        item.setItemId("item001");
+        item.setName("Product Name");
+
+        AddItemsOutput output = new AddItemsOutput(List.of(AddItemsOutput.Result.builder()
+                .userId("user123")
+                .wishlistId("wishlist123")
+                .itemId("item001")
+                .name("Product Name")
+                .status(AddItemsOutput.Status.ADDED)
+                .build()));
+
+        when(addItemsUseCase.execute(any(AddItemsInput.class))).thenReturn(output);
+
+        ResponseEntity<AddItemsOutput> response = wishlistController.addItems(new AddItemsInput(List.of(item)));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getResults()).singleElement()
+                .satisfies(result -> assertThat(result.getStatus()).isEqualTo(AddItemsOutput.Status.ADDED));
+    }
+
     @Test
     @DisplayName("DELETE /wishlist/{userId}/items/{itemId} - should return 204 No Content when item is removed")
     void shouldReturn204WhenItemRemoved() {
@@ -91,7 +132,7 @@ class WishlistControllerTest {
 
         when(getWishlistItemsUseCase.execute(any(GetWishlistItemsInput.class))).thenReturn(output);
 
-        ResponseEntity<GetWishlistItemsOutput> response = wishlistController.getItems("user123");
+        ResponseEntity<GetWishlistItemsOutput> response = wishlistController.getItems("user123", null, null, null);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isNotNull();
@@ -110,7 +151,7 @@ class WishlistControllerTest {
 
         when(getWishlistItemsUseCase.execute(any(GetWishlistItemsInput.class))).thenReturn(output);
 
-        ResponseEntity<GetWishlistItemsOutput> response = wishlistController.getItems("user123");
+        ResponseEntity<GetWishlistItemsOutput> response = wishlistController.getItems("user123", null, null, null);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isNotNull();
@@ -124,7 +165,7 @@ class WishlistControllerTest {
 
         when(itemExistsInWishlistUseCase.execute(any(ContainsItemInput.class))).thenReturn(output);
 
-        ResponseEntity<ContainsItemOutput> response = wishlistController.contains("user123", "item001");
+        ResponseEntity<ContainsItemOutput> response = wishlistController.contains("user123", "item001", null);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isNotNull();
@@ -138,11 +179,119 @@ class WishlistControllerTest {
 
         when(itemExistsInWishlistUseCase.execute(any(ContainsItemInput.class))).thenReturn(output);
 
-        ResponseEntity<ContainsItemOutput> response = wishlistController.contains("user123", "item001");
+        ResponseEntity<ContainsItemOutput> response = wishlistController.contains("user123", "item001", null);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isNotNull();
         assertThat(response.getBody().isExists()).isFalse();
     }
-}
 
+    @Test
+    @DisplayName("GET /wishlist/{userId}/items - should tag the response with the version its items were read at")
+    void shouldTagItemsWithVersionOfBody() {
+        when(getWishlistVersionUseCase.execute(any(GetWishlistVersionInput.class))).thenReturn(new GetWishlistVersionOutput(3));
+        when(getWishlistItemsUseCase.execute(any(GetWishlistItemsInput.class)))
+                .thenReturn(new GetWishlistItemsOutput(List.of(), null, 4));
+
+        ResponseEntity<GetWishlistItemsOutput> response = wishlistController.getItems("user123", null, null, "\"2\"");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"4\"");
+    }
+
+    @Test
+    @DisplayName("GET /wishlist/{userId}/items - should not read the version up front without If-None-Match")
+    void shouldNotReadVersionWithoutIfNoneMatch() {
+        when(getWishlistItemsUseCase.execute(any(GetWishlistItemsInput.class)))
+                .thenReturn(new GetWishlistItemsOutput(List.of(), null, 5));
+
+        ResponseEntity<GetWishlistItemsOutput> response = wishlistController.getItems("user123", null, null, null);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"5\"");
+        verifyNoInteractions(getWishlistVersionUseCase);
+    }
+
+    @Test
+    @DisplayName("GET /wishlist/{userId}/items/{itemId} - should tag the answer with the version it was read at")
+    void shouldTagContainsWithVersionOfBody() {
+        when(itemExistsInWishlistUseCase.execute(any(ContainsItemInput.class))).thenReturn(new ContainsItemOutput(true, 7));
+
+        ResponseEntity<ContainsItemOutput> response = wishlistController.contains("user123", "item001", null);
+
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"7\"");
+        assertThat(response.getBody().isExists()).isTrue();
+        verifyNoInteractions(getWishlistVersionUseCase);
+    }
+
+    @Test
+    @DisplayName("GET /wishlist/{userId}/items - should pass the cursor and limit and return the next cursor")
+    void shouldReturnPageWithNextCursor() {
+        GetWishlistItemsOutput output = new GetWishlistItemsOutput(List.of(GetWishlistItemsOutput.Item.builder()
+                .itemId("item002")
+                .name("Product 2")
+                .build()), "next");
+
+        when(getWishlistItemsUseCase.execute(new GetWishlistItemsInput("user123", "cursor", 1))).thenReturn(output);
+
+        ResponseEntity<GetWishlistItemsOutput> response = wishlistController.getItems("user123", "cursor", 1, null);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().getItems()).extracting(GetWishlistItemsOutput.Item::getItemId).containsExactly("item002");
+        assertThat(response.getBody().getNextCursor()).isEqualTo("next");
+    }
+
+    @Test
+    @DisplayName("GET /wishlist/{userId}/items - should return 304 without reading the items when the version matches")
+    void shouldReturn304WhenItemsVersionMatches() {
+        when(getWishlistVersionUseCase.execute(any(GetWishlistVersionInput.class))).thenReturn(new GetWishlistVersionOutput(3));
+
+        ResponseEntity<GetWishlistItemsOutput> response = wishlistController.getItems("user123", null, null, "W/\"3\"");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"3\"");
+        assertThat(response.getBody()).isNull();
+        verifyNoInteractions(getWishlistItemsUseCase);
+    }
+
+    @Test
+    @DisplayName("GET /wishlist/{userId}/items/{itemId} - should return 304 without checking the item when the version matches")
+    void shouldReturn304WhenContainsVersionMatches() {
+        when(getWishlistVersionUseCase.execute(any(GetWishlistVersionInput.class))).thenReturn(new GetWishlistVersionOutput(3));
+
+        ResponseEntity<ContainsItemOutput> response = wishlistController.contains("user123", "item001", "\"1\", \"3\"");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getBody()).isNull();
+        verifyNoInteractions(itemExistsInWishlistUseCase);
+    }
+
+    @Test
+    @DisplayName("matches - should compare If-None-Match weakly and accept lists and the wildcard")
+    void shouldMatchIfNoneMatchWeakly() {
+        assertThat(WishlistController.matches(null, "\"3\"")).isFalse();
+        assertThat(WishlistController.matches("\"2\"", "\"3\"")).isFalse();
+        assertThat(WishlistController.matches("\"3\"", "\"3\"")).isTrue();
+        assertThat(WishlistController.matches("W/\"3\"", "\"3\"")).isTrue();
+        assertThat(WishlistController.matches("\"1\", \"3\"", "\"3\"")).isTrue();
+        assertThat(WishlistController.matches("*", "\"3\"")).isTrue();
+    }
+
+    @Test
+    @DisplayName("POST /wishlist/items/contains - should return 200 OK with the wishlisted items per user")
+    void shouldReturn200WithWishlistedItemsPerUser() {
+        ContainsItemsInput input = new ContainsItemsInput(List.of(ContainsItemsInput.UserItems.builder()
+                .userId("user123")
+                .itemIds(Set.of("item001", "item002"))
+                .build()));
+
+        when(itemsExistInWishlistUseCase.execute(any(ContainsItemsInput.class)))
+                .thenReturn(new ContainsItemsOutput(Map.of("user123", Set.of("item001"))));
+
+        ResponseEntity<ContainsItemsOutput> response = wishlistController.containsAll(input);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getWishlisted().get("user123")).containsExactly("item001");
+    }
+}
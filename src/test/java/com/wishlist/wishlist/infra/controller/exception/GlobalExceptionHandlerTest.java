@@ -1,5 +1,6 @@
 package com.wishlist.wishlist.infra.controller.exception;
 
+import com.wishlist.wishlist.domain.exception.InvalidCursorException;
 import com.wishlist.wishlist.domain.exception.ItemNotFoundException;
 import com.wishlist.wishlist.domain.exception.WishlistLimitExceededException;
 import com.wishlist.wishlist.domain.exception.WishlistNotFoundException;
@@ -73,6 +74,19 @@ class GlobalExceptionHandlerTest {
         assertThat(response.getBody().toString()).contains("Wishlist limit exceeded");
     }
 
+    @Test
+    @DisplayName("handleInvalidCursor - should return 400 with error response")
+    void shouldHandleInvalidCursor() {
+        when(request.getRequestURI()).thenReturn("/wishlist/user123/items");
+        InvalidCursorException ex = new InvalidCursorException("bogus");
+
+        ResponseEntity<?> response = exceptionHandler.handleInvalidCursor(ex, request);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().toString()).contains("Invalid cursor: bogus");
+    }
+
     @Test
     @DisplayName("handleValidation - should return 400 with validation errors")
     void shouldHandleValidation() {
@@ -0,0 +1,107 @@
+package com.wishlist.wishlist.infra.controller.exception;
+
+import com.wishlist.wishlist.domain.exception.InvalidCursorException;
+import com.wishlist.wishlist.domain.exception.WishlistLimitExceededException;
+import com.wishlist.wishlist.domain.exception.WishlistNotFoundException;
+import com.wishlist.wishlist.infra.controller.dto.ErrorResponse;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.support.WebExchangeBindException;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ReactiveGlobalExceptionHandler - Exception Handling Tests")
+class ReactiveGlobalExceptionHandlerTest {
+
+    private final ReactiveGlobalExceptionHandler exceptionHandler = new ReactiveGlobalExceptionHandler();
+
+    @Test
+    @DisplayName("handleWishlistNotFound - should return 404 with the request path")
+    void shouldHandleWishlistNotFound() {
+        MockServerHttpRequest request = MockServerHttpRequest.delete("/wishlist/user123/items/item001").build();
+
+        ResponseEntity<ErrorResponse> response = exceptionHandler.handleWishlistNotFound(
+                new WishlistNotFoundException("user123"), request);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(response.getBody().getMessage()).isEqualTo("Wishlist not found for user: user123");
+        assertThat(response.getBody().getPath()).isEqualTo("/wishlist/user123/items/item001");
+    }
+
+    @Test
+    @DisplayName("handleWishlistLimitExceeded - should return 400 with error response")
+    void shouldHandleWishlistLimitExceeded() {
+        MockServerHttpRequest request = MockServerHttpRequest.post("/wishlist/item").build();
+
+        ResponseEntity<ErrorResponse> response = exceptionHandler.handleWishlistLimitExceeded(
+                new WishlistLimitExceededException("user123", 20), request);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody().getMessage()).contains("Wishlist limit exceeded");
+    }
+
+    @Test
+    @DisplayName("handleInvalidCursor - should return 400 with error response")
+    void shouldHandleInvalidCursor() {
+        MockServerHttpRequest request = MockServerHttpRequest.get("/wishlist/user123/items").build();
+
+        ResponseEntity<ErrorResponse> response = exceptionHandler.handleInvalidCursor(
+                new InvalidCursorException("bogus"), request);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody().getMessage()).isEqualTo("Invalid cursor: bogus");
+    }
+
+    @Test
+    @DisplayName("handleValidation - should return 400 listing every invalid field")
+    void shouldHandleValidation() throws Exception {
+        MockServerHttpRequest request = MockServerHttpRequest.post("/wishlist/item").build();
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new Object(), "addItemInput");
+        bindingResult.addError(new FieldError("addItemInput", "userId", "UserId is required"));
+        MethodParameter parameter = new MethodParameter(Object.class.getMethod("equals", Object.class), 0);
+
+        ResponseEntity<ErrorResponse> response = exceptionHandler.handleValidation(
+                new WebExchangeBindException(parameter, bindingResult), request);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody().getMessage()).isEqualTo("Validation failed: userId: UserId is required");
+    }
+
+    @Test
+    @DisplayName("handleConstraintViolation - should return 400 with violation messages")
+    void shouldHandleConstraintViolation() {
+        MockServerHttpRequest request = MockServerHttpRequest.get("/wishlist/user123/items").build();
+        ConstraintViolation<?> violation = mock(ConstraintViolation.class);
+        when(violation.getMessage()).thenReturn("UserId is required");
+
+        ResponseEntity<ErrorResponse> response = exceptionHandler.handleConstraintViolation(
+                new ConstraintViolationException(Set.of(violation)), request);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody().getMessage()).isEqualTo("Validation failed: UserId is required");
+    }
+
+    @Test
+    @DisplayName("handleGenericException - should return 500 with error response")
+    void shouldHandleGenericException() {
+        MockServerHttpRequest request = MockServerHttpRequest.get("/wishlist/user123/items").build();
+
+        ResponseEntity<ErrorResponse> response = exceptionHandler.handleGenericException(
+                new RuntimeException("boom"), request);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+        assertThat(response.getBody().getMessage()).isEqualTo("An unexpected error occurred: boom");
+    }
+}
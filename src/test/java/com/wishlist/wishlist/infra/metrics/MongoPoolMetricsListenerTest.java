@@ -0,0 +1,69 @@
+package com.wishlist.wishlist.infra.metrics;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.ConnectionId;
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.ConnectionCheckOutFailedEvent;
+import com.mongodb.event.ConnectionCheckOutStartedEvent;
+import com.mongodb.event.ConnectionCheckedInEvent;
+import com.mongodb.event.ConnectionCheckedOutEvent;
+import com.mongodb.event.ConnectionClosedEvent;
+import com.mongodb.event.ConnectionCreatedEvent;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.search.RequiredSearch;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MongoPoolMetricsListener - Connection Pool Metrics Tests")
+class MongoPoolMetricsListenerTest {
+
+    private static final ServerId SERVER = new ServerId(new ClusterId(), new ServerAddress("localhost", 27017));
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MongoPoolMetricsListener listener = new MongoPoolMetricsListener(meterRegistry, "blocking");
+
+    @Test
+    @DisplayName("listener - should time checkouts by outcome and track waiting, in-use and open connections")
+    void shouldTimeCheckoutsAndTrackConnections() {
+        ConnectionId first = new ConnectionId(SERVER, 1, 1L);
+        ConnectionId second = new ConnectionId(SERVER, 2, 2L);
+
+        listener.connectionCreated(new ConnectionCreatedEvent(first));
+        listener.connectionCreated(new ConnectionCreatedEvent(second));
+        listener.connectionCheckOutStarted(new ConnectionCheckOutStartedEvent(SERVER, 1L));
+        listener.connectionCheckOutStarted(new ConnectionCheckOutStartedEvent(SERVER, 2L));
+        listener.connectionCheckOutStarted(new ConnectionCheckOutStartedEvent(SERVER, 3L));
+        assertThat(gauge(MongoPoolMetricsListener.WAITING, null)).isEqualTo(3);
+
+        listener.connectionCheckedOut(new ConnectionCheckedOutEvent(first, 1L, TimeUnit.MILLISECONDS.toNanos(4)));
+        listener.connectionCheckedOut(new ConnectionCheckedOutEvent(second, 2L, TimeUnit.MILLISECONDS.toNanos(6)));
+        listener.connectionCheckOutFailed(new ConnectionCheckOutFailedEvent(SERVER, 3L,
+                ConnectionCheckOutFailedEvent.Reason.TIMEOUT, TimeUnit.SECONDS.toNanos(2)));
+        listener.connectionCheckedIn(new ConnectionCheckedInEvent(first, 1L));
+        listener.connectionClosed(new ConnectionClosedEvent(first, ConnectionClosedEvent.Reason.IDLE));
+
+        Timer checkedOut = checkout("success");
+        assertThat(checkedOut.count()).isEqualTo(2);
+        assertThat(checkedOut.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(10);
+        assertThat(checkout("failed").totalTime(TimeUnit.SECONDS)).isEqualTo(2);
+        assertThat(gauge(MongoPoolMetricsListener.WAITING, null)).isZero();
+        assertThat(gauge(MongoPoolMetricsListener.CONNECTIONS, "in-use")).isEqualTo(1);
+        assertThat(gauge(MongoPoolMetricsListener.CONNECTIONS, "open")).isEqualTo(1);
+    }
+
+    private Timer checkout(String outcome) {
+        return meterRegistry.get(MongoPoolMetricsListener.CHECKOUT)
+                .tag("client", "blocking").tag("outcome", outcome).timer();
+    }
+
+    private double gauge(String name, String state) {
+        RequiredSearch search = meterRegistry.get(name).tag("client", "blocking");
+        return (state != null ? search.tag("state", state) : search).gauge().value();
+    }
+}
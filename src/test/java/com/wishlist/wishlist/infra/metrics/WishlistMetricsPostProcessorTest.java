@@ -0,0 +1,139 @@
+package com.wishlist.wishlist.infra.metrics;
+
+import com.wishlist.wishlist.application.dto.AddItemInput;
+import com.wishlist.wishlist.application.dto.AddItemOutput;
+import com.wishlist.wishlist.application.dto.ContainsItemInput;
+import com.wishlist.wishlist.application.dto.ContainsItemOutput;
+import com.wishlist.wishlist.application.service.WishlistService;
+import com.wishlist.wishlist.application.usecase.AddItemUseCase;
+import com.wishlist.wishlist.application.usecase.ItemExistsInWishlistUseCase;
+import com.wishlist.wishlist.application.usecase.reactive.ReactiveItemExistsInWishlistUseCase;
+import com.wishlist.wishlist.domain.exception.WishlistLimitExceededException;
+import com.wishlist.wishlist.domain.repository.WishlistRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("WishlistMetricsPostProcessor - Timer Tests")
+class WishlistMetricsPostProcessorTest {
+
+    private MeterRegistry meterRegistry;
+    private WishlistMetricsPostProcessor postProcessor;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        ObjectProvider<MeterRegistry> provider = mock(ObjectProvider.class);
+        when(provider.getObject()).thenReturn(meterRegistry);
+        postProcessor = new WishlistMetricsPostProcessor(provider);
+    }
+
+    @Test
+    @DisplayName("postProcessAfterInitialization - should time use cases by interface name and result outcome")
+    void shouldTimeUseCaseWithOutcome() {
+        ItemExistsInWishlistUseCase useCase = (ItemExistsInWishlistUseCase) postProcessor
+                .postProcessAfterInitialization(new StubItemExistsUseCase(), "itemExistsInWishlistUseCaseImpl");
+
+        useCase.execute(new ContainsItemInput("user-1", "item-1"));
+        useCase.execute(new ContainsItemInput("user-1", "item-2"));
+
+        assertThat(timer("wishlist.usecase", "ItemExistsInWishlistUseCase", "hit").count()).isEqualTo(1);
+        assertThat(timer("wishlist.usecase", "ItemExistsInWishlistUseCase", "miss").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("postProcessAfterInitialization - should record the outcome of a domain exception and rethrow it")
+    void shouldTimeUseCaseFailure() {
+        AddItemUseCase useCase = (AddItemUseCase) postProcessor
+                .postProcessAfterInitialization(new StubAddItemUseCase(), "addItemUseCaseImpl");
+
+        assertThatThrownBy(() -> useCase.execute(addItemInput()))
+                .isInstanceOf(WishlistLimitExceededException.class);
+
+        assertThat(timer("wishlist.usecase", "AddItemUseCase", "limit-exceeded").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("postProcessAfterInitialization - should time repository calls by method name")
+    void shouldTimeRepositoryCalls() {
+        WishlistRepository target = mock(WishlistRepository.class);
+        when(target.findByUserId("user-1")).thenReturn(Optional.empty());
+        WishlistRepository repository = (WishlistRepository) postProcessor
+                .postProcessAfterInitialization(target, "wishlistRepository");
+
+        assertThat(repository.findByUserId("user-1")).isEmpty();
+
+        assertThat(timer("wishlist.repository", "findByUserId", "not-found").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("postProcessAfterInitialization - should time a Mono only when it completes")
+    void shouldTimeMonoOnCompletion() {
+        ReactiveItemExistsInWishlistUseCase useCase = (ReactiveItemExistsInWishlistUseCase) postProcessor
+                .postProcessAfterInitialization(new StubReactiveItemExistsUseCase(),
+                        "reactiveItemExistsInWishlistUseCaseImpl");
+
+        Mono<ContainsItemOutput> result = useCase.execute(new ContainsItemInput("user-1", "item-1"));
+        assertThat(meterRegistry.find("wishlist.usecase").timer()).isNull();
+
+        StepVerifier.create(result)
+                .expectNextMatches(ContainsItemOutput::isExists)
+                .verifyComplete();
+        assertThat(timer("wishlist.usecase", "ReactiveItemExistsInWishlistUseCase", "hit").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("postProcessAfterInitialization - should leave other beans untouched")
+    void shouldLeaveOtherBeansUntouched() {
+        WishlistService service = mock(WishlistService.class);
+
+        assertThat(postProcessor.postProcessAfterInitialization(service, "wishlistService")).isSameAs(service);
+    }
+
+    private static AddItemInput addItemInput() {
+        AddItemInput input = new AddItemInput();
+        input.setUserId("user-1");
+        input.setItemId("item-1");
+        input.setName("Item");
+        return input;
+    }
+
+    private Timer timer(String name, String operation, String outcome) {
+        return meterRegistry.get(name).tag("operation", operation).tag("outcome", outcome).timer();
+    }
+
+    static class StubItemExistsUseCase implements ItemExistsInWishlistUseCase {
+        @Override
+        public ContainsItemOutput execute(ContainsItemInput input) {
+            return new ContainsItemOutput("item-1".equals(input.getItemId()));
+        }
+    }
+
+    static class StubAddItemUseCase implements AddItemUseCase {
+        @Override
+        public AddItemOutput execute(AddItemInput input) {
+            throw new WishlistLimitExceededException(input.getUserId(), 20);
+        }
+    }
+
+    static class StubReactiveItemExistsUseCase implements ReactiveItemExistsInWishlistUseCase {
+        @Override
+        public Mono<ContainsItemOutput> execute(ContainsItemInput input) {
+            return Mono.just(new ContainsItemOutput(true));
+        }
+    }
+}